@@ -0,0 +1,92 @@
+package com.bank.account.jmh;
+
+import com.bank.account.dto.AccountResponse;
+import com.bank.account.entity.Account;
+import com.bank.account.entity.OutboxEvent;
+import com.bank.account.repository.AccountRepository;
+import com.bank.account.repository.CustomerSummaryJdbcRepository;
+import com.bank.account.repository.OutboxJdbcRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/** Objects configured the way the running service configures them, without starting a Spring context. */
+public final class JmhFixtures {
+
+  public static final String CREATE_REQUEST_JSON = """
+      {"customerId":"6f1c2b9e-8d4a-4f0e-9b7a-1e2d3c4b5a69","accountNumber":"ACCJMH0001","currency":"USD","openingBalance":1250.75}
+      """;
+
+  private JmhFixtures() {}
+
+  // Same settings Spring Boot's JacksonAutoConfiguration applies on top of the builder defaults.
+  public static ObjectMapper objectMapper() {
+    return Jackson2ObjectMapperBuilder.json()
+        .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .build();
+  }
+
+  public static Validator validator() {
+    return Validation.buildDefaultValidatorFactory().getValidator();
+  }
+
+  public static Account account() {
+    OffsetDateTime now = OffsetDateTime.of(2026, 1, 15, 9, 30, 0, 123_000_000, ZoneOffset.UTC);
+    Account account = new Account();
+    account.setId(UUID.fromString("01945f3a-7c2e-7b1d-8a9f-0c1d2e3f4a5b"));
+    account.setCustomerId(UUID.fromString("6f1c2b9e-8d4a-4f0e-9b7a-1e2d3c4b5a69"));
+    account.setAccountNumber("ACCJMH0001");
+    account.setCurrency("USD");
+    account.setBalance(new BigDecimal("1250.7500"));
+    account.setStatus("ACTIVE");
+    account.setCreatedAt(now);
+    account.setUpdatedAt(now);
+    return account;
+  }
+
+  public static AccountResponse accountResponse() {
+    Account account = account();
+    return new AccountResponse(
+        account.getId(), account.getCustomerId(), account.getAccountNumber(), account.getCurrency(),
+        account.getBalance(), account.getStatus(), account.getCreatedAt(), account.getUpdatedAt());
+  }
+
+  /** Repository that answers the calls made by the create and get flows from memory. */
+  public static AccountRepository inMemoryRepository(AccountResponse existing) {
+    return (AccountRepository) Proxy.newProxyInstance(
+        AccountRepository.class.getClassLoader(),
+        new Class<?>[] {AccountRepository.class},
+        (proxy, method, args) -> switch (method.getName()) {
+          case "saveAndFlush" -> args[0];
+          case "findResponseById" -> Optional.of(existing);
+          case "hashCode" -> System.identityHashCode(proxy);
+          case "equals" -> proxy == args[0];
+          case "toString" -> "InMemoryAccountRepository";
+          default -> throw new UnsupportedOperationException(method.getName());
+        });
+  }
+
+  /** Outbox writer target that drops rows: the event is still built and serialized, only the INSERT is skipped. */
+  public static OutboxJdbcRepository discardingOutboxRepository() {
+    return new OutboxJdbcRepository(null, 500) {
+      @Override
+      public void insertAll(List<OutboxEvent> events) {}
+    };
+  }
+
+  public static CustomerSummaryJdbcRepository discardingSummaryRepository() {
+    return new CustomerSummaryJdbcRepository(null, 500) {
+      @Override
+      public void applyAll(List<Delta> deltas, OffsetDateTime now) {}
+    };
+  }
+}
@@ -0,0 +1,65 @@
+package com.bank.account.jmh;
+
+import com.bank.account.dto.CreateAccountRequest;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** {@code POST /api/accounts} body binding: JSON to {@link CreateAccountRequest}, then {@code @Valid}. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestBindingBenchmark {
+
+  private ObjectReader reader;
+  private Validator validator;
+  private CreateAccountRequest valid;
+  private CreateAccountRequest invalid;
+
+  @Setup
+  public void setUp() {
+    reader = JmhFixtures.objectMapper().readerFor(CreateAccountRequest.class);
+    validator = JmhFixtures.validator();
+    valid = new CreateAccountRequest(UUID.randomUUID(), "ACCJMH0001", "USD", new BigDecimal("1250.75"));
+    invalid = new CreateAccountRequest(UUID.randomUUID(), "ACCJMH0001", "usd", new BigDecimal("-1"));
+  }
+
+  @Benchmark
+  public CreateAccountRequest deserialize() throws IOException {
+    return reader.readValue(JmhFixtures.CREATE_REQUEST_JSON);
+  }
+
+  @Benchmark
+  public Set<ConstraintViolation<CreateAccountRequest>> validateValid() {
+    return validator.validate(valid);
+  }
+
+  // Failing @Pattern and @DecimalMin builds violation messages, the expensive path of validation.
+  @Benchmark
+  public Set<ConstraintViolation<CreateAccountRequest>> validateInvalid() {
+    return validator.validate(invalid);
+  }
+
+  @Benchmark
+  public Set<ConstraintViolation<CreateAccountRequest>> deserializeAndValidate() throws IOException {
+    return validator.validate(reader.<CreateAccountRequest>readValue(JmhFixtures.CREATE_REQUEST_JSON));
+  }
+}
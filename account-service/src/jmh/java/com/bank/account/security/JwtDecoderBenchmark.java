@@ -0,0 +1,78 @@
+package com.bank.account.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+/**
+ * Bearer-token validation per request: the stock Nimbus decoder (RS256 verify every time) against
+ * {@link CachingJwtDecoder} for a client that reuses its token. Keys are generated locally; no JWKS endpoint.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtDecoderBenchmark {
+
+  private JwtDecoder nimbus;
+  private JwtDecoder caching;
+  private String token;
+
+  @Setup
+  public void setUp() throws NoSuchAlgorithmException, JOSEException {
+    KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+    generator.initialize(2048);
+    KeyPair keys = generator.generateKeyPair();
+    SignedJWT jwt = new SignedJWT(
+        new JWSHeader(JWSAlgorithm.RS256),
+        new JWTClaimsSet.Builder()
+            .subject("benchmark-client")
+            .issuer("http://localhost:8081/realms/banking")
+            .claim("scope", "accounts:read accounts:write")
+            .issueTime(new Date())
+            .expirationTime(Date.from(Instant.now().plus(Duration.ofHours(1))))
+            .build());
+    jwt.sign(new RSASSASigner(keys.getPrivate()));
+    token = jwt.serialize();
+
+    nimbus = NimbusJwtDecoder.withPublicKey((RSAPublicKey) keys.getPublic()).build();
+    caching = new CachingJwtDecoder(nimbus, 10_000, Duration.ofMinutes(5), new SimpleMeterRegistry());
+  }
+
+  @Benchmark
+  public Jwt nimbusDecoder() {
+    return nimbus.decode(token);
+  }
+
+  @Benchmark
+  public Jwt cachingDecoder() {
+    return caching.decode(token);
+  }
+}
@@ -0,0 +1,107 @@
+package com.bank.account.service;
+
+import com.bank.account.cache.InMemoryAccountL2Cache;
+import com.bank.account.cache.NoOpAccountCache;
+import com.bank.account.cache.TwoTierAccountCache;
+import com.bank.account.datasource.ReadRouting;
+import com.bank.account.dto.AccountResponse;
+import com.bank.account.dto.CreateAccountRequest;
+import com.bank.account.jmh.JmhFixtures;
+import com.bank.account.metrics.StageTimers;
+import com.bank.account.numberindex.AccountNumberIndex;
+import com.bank.account.numberindex.AccountNumberIndexProperties;
+import com.bank.account.repository.AccountRepository;
+import com.bank.account.repository.AccountTableLayout;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validator;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * The in-process share of the create and get requests: everything between the request body and the response bytes
+ * except the database and the servlet stack, which are replaced by an in-memory repository.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccountFlowBenchmark {
+
+  private ObjectReader requestReader;
+  private ObjectWriter responseWriter;
+  private Validator validator;
+  private AccountService uncachedService;
+  private AccountService cachedService;
+  private UUID existingId;
+
+  @Setup
+  public void setUp() {
+    ObjectMapper objectMapper = JmhFixtures.objectMapper();
+    requestReader = objectMapper.readerFor(CreateAccountRequest.class);
+    responseWriter = objectMapper.writerFor(AccountResponse.class);
+    validator = JmhFixtures.validator();
+
+    AccountResponse existing = JmhFixtures.accountResponse();
+    existingId = existing.id();
+    AccountRepository repository = JmhFixtures.inMemoryRepository(existing);
+    TimeOrderedAccountIdGenerator idGenerator = new TimeOrderedAccountIdGenerator();
+    ReadRouting readRouting = new ReadRouting(false);
+    AccountOutbox outbox = new AccountOutbox(JmhFixtures.discardingOutboxRepository(), objectMapper);
+    CustomerSummaryService summaries = new CustomerSummaryService(JmhFixtures.discardingSummaryRepository());
+    StageTimers stageTimers = new StageTimers(new SimpleMeterRegistry());
+    SingleFlight<UUID, AccountResponse> accountLoads =
+        new SingleFlight<>("account", Duration.ofSeconds(2), new SimpleMeterRegistry());
+    // Never refreshed without a database: the old layout's queries, which the in-memory repository answers.
+    AccountTableLayout tableLayout = new AccountTableLayout(new JdbcTemplate());
+    AccountNumberIndex numberIndex = new AccountNumberIndex(
+        new AccountNumberIndexProperties(true, 1_000, 1.5, 0.01, 5_000, 60_000, Duration.ofMinutes(1), 500),
+        new SimpleMeterRegistry());
+
+    uncachedService = new AccountService(
+        repository, idGenerator, new NoOpAccountCache(), outbox, summaries, readRouting,
+        tableLayout, stageTimers, accountLoads, numberIndex);
+    TwoTierAccountCache cache = new TwoTierAccountCache(
+        10_000, Duration.ofMinutes(10), new InMemoryAccountL2Cache(10_000, Duration.ofMinutes(10)),
+        new SimpleMeterRegistry());
+    cachedService = new AccountService(repository, idGenerator, cache, outbox, summaries, readRouting,
+        tableLayout, stageTimers, accountLoads, numberIndex);
+    cachedService.get(existingId);
+  }
+
+  @Benchmark
+  public byte[] create() throws IOException {
+    CreateAccountRequest request = requestReader.readValue(JmhFixtures.CREATE_REQUEST_JSON);
+    if (!validator.validate(request).isEmpty()) {
+      throw new IllegalStateException("Fixture request must be valid");
+    }
+    return responseWriter.writeValueAsBytes(uncachedService.create(request));
+  }
+
+  @Benchmark
+  public byte[] getCacheHit() throws IOException {
+    return responseWriter.writeValueAsBytes(cachedService.get(existingId));
+  }
+
+  @Benchmark
+  public byte[] getCacheMiss() throws IOException {
+    return responseWriter.writeValueAsBytes(uncachedService.get(existingId));
+  }
+}
@@ -0,0 +1,38 @@
+package com.bank.account.service;
+
+import com.bank.account.dto.AccountResponse;
+import com.bank.account.entity.Account;
+import com.bank.account.jmh.JmhFixtures;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Entity to {@link AccountResponse} copy used by the write paths. Lives in this package to reach {@link AccountMapper}. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccountMappingBenchmark {
+
+  private Account account;
+
+  @Setup
+  public void setUp() {
+    account = JmhFixtures.account();
+  }
+
+  @Benchmark
+  public AccountResponse toResponse() {
+    return AccountMapper.toResponse(account);
+  }
+}
@@ -0,0 +1,110 @@
+package com.bank.account.tracing;
+
+import brave.Span;
+import brave.Tracer;
+import brave.Tracing;
+import brave.sampler.RateLimitingSampler;
+import brave.sampler.Sampler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import zipkin2.reporter.BytesMessageSender;
+import zipkin2.reporter.Encoding;
+import zipkin2.reporter.brave.AsyncZipkinSpanHandler;
+
+/**
+ * Tracing cost of one request (a server span and three children) at 100% sampling versus the adaptive sampler with
+ * tail keep. Spans are encoded and flushed on the benchmark thread to a discarding sender, so the reporter's work is
+ * part of the measured time; {@code -prof gc} gives the allocation per request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TracingOverheadBenchmark {
+
+  @Param({"always", "adaptive"})
+  public String mode;
+
+  private AsyncZipkinSpanHandler zipkin;
+  private Tracing tracing;
+  private Tracer tracer;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    zipkin = AsyncZipkinSpanHandler.newBuilder(new DiscardingSender())
+        .messageTimeout(0, TimeUnit.MILLISECONDS)
+        .build();
+    Tracing.Builder builder = Tracing.newBuilder().localServiceName("account-service");
+    if ("always".equals(mode)) {
+      builder.sampler(Sampler.ALWAYS_SAMPLE);
+    } else {
+      SimpleMeterRegistry registry = new SimpleMeterRegistry();
+      TracingSamplingProperties properties = new TracingSamplingProperties(
+          true, 10, true, Duration.ofMillis(500), 10_000, 128);
+      CountingSampler sampler = new CountingSampler(
+          RateLimitingSampler.create(properties.tracesPerSecond()), properties.maxPendingTraces(), registry);
+      builder.sampler(sampler)
+          .alwaysSampleLocal()
+          .addSpanHandler(new TailKeepSpanHandler(() -> List.of(zipkin), sampler, properties, registry));
+    }
+    tracing = builder.addSpanHandler(zipkin).build();
+    tracer = tracing.tracer();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    tracing.close();
+    zipkin.close();
+  }
+
+  @Benchmark
+  public void request() {
+    Span server = tracer.newTrace().kind(Span.Kind.SERVER).name("http post /api/accounts").start();
+    server.tag("http.url", "/api/accounts");
+    for (int i = 0; i < 3; i++) {
+      Span child = tracer.newChild(server.context()).name("query").start();
+      child.tag("jdbc.query[0]", "insert into accounts values (?, ?, ?, ?, ?, ?, ?, ?)");
+      child.finish();
+    }
+    server.tag("outcome", "SUCCESS");
+    server.finish();
+    zipkin.flush();
+  }
+
+  static final class DiscardingSender extends BytesMessageSender.Base {
+
+    DiscardingSender() {
+      super(Encoding.JSON);
+    }
+
+    @Override
+    public int messageMaxBytes() {
+      return 512 * 1024;
+    }
+
+    @Override
+    public void send(List<byte[]> encodedSpans) {
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+}
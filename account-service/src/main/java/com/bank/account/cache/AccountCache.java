@@ -0,0 +1,16 @@
+package com.bank.account.cache;
+
+import com.bank.account.dto.AccountResponse;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Function;
+
+public interface AccountCache {
+
+  AccountResponse get(UUID id, Function<UUID, AccountResponse> loader);
+
+  void evict(Collection<UUID> ids);
+
+  /** Drops this instance's own copies only: another instance wrote the accounts and already evicted the shared tier. */
+  void evictLocal(Collection<UUID> ids);
+}
@@ -0,0 +1,57 @@
+package com.bank.account.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Configuration
+@EnableConfigurationProperties(AccountCacheProperties.class)
+public class AccountCacheConfig {
+
+  @Bean
+  @ConditionalOnProperty(name = "app.cache.accounts.enabled", havingValue = "true", matchIfMissing = true)
+  AccountCache twoTierAccountCache(
+      AccountCacheProperties properties, AccountL2Cache accountL2Cache, MeterRegistry meterRegistry) {
+    return new TwoTierAccountCache(
+        properties.l1MaximumSize(), properties.l1Ttl(), accountL2Cache, meterRegistry);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "app.cache.accounts.enabled", havingValue = "false")
+  AccountCache noOpAccountCache() {
+    return new NoOpAccountCache();
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "app.cache.accounts.l2", havingValue = "redis", matchIfMissing = true)
+  AccountL2Cache redisAccountL2Cache(
+      StringRedisTemplate redisTemplate,
+      ObjectMapper objectMapper,
+      AccountCacheProperties properties,
+      MeterRegistry meterRegistry) {
+    return new RedisAccountL2Cache(
+        redisTemplate, objectMapper, properties.l2KeyPrefix(), properties.l2Ttl(), meterRegistry);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "app.cache.accounts.l2", havingValue = "redis", matchIfMissing = true)
+  RedisAccountCacheInvalidationListener redisAccountCacheInvalidationListener(
+      RedisConnectionFactory connectionFactory,
+      AccountCache accountCache,
+      AccountCacheProperties properties,
+      MeterRegistry meterRegistry) {
+    return new RedisAccountCacheInvalidationListener(connectionFactory,
+        RedisAccountL2Cache.invalidationChannel(properties.l2KeyPrefix()), accountCache, meterRegistry);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "app.cache.accounts.l2", havingValue = "memory")
+  AccountL2Cache inMemoryAccountL2Cache(AccountCacheProperties properties) {
+    return new InMemoryAccountL2Cache(properties.l2MaximumSize(), properties.l2Ttl());
+  }
+}
@@ -0,0 +1,21 @@
+package com.bank.account.cache;
+
+import com.bank.account.service.AccountsChangedEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class AccountCacheInvalidator {
+
+  private final AccountCache accountCache;
+
+  public AccountCacheInvalidator(AccountCache accountCache) {
+    this.accountCache = accountCache;
+  }
+
+  // After commit, so a concurrent reader cannot re-populate the cache with the pre-write row.
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onAccountsChanged(AccountsChangedEvent event) {
+    accountCache.evict(event.accountIds());
+  }
+}
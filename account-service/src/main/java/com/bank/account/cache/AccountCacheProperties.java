@@ -0,0 +1,15 @@
+package com.bank.account.cache;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.cache.accounts")
+public record AccountCacheProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("10000") long l1MaximumSize,
+    @DefaultValue("30s") Duration l1Ttl,
+    @DefaultValue("redis") String l2,
+    @DefaultValue("100000") long l2MaximumSize,
+    @DefaultValue("10m") Duration l2Ttl,
+    @DefaultValue("account:v1:") String l2KeyPrefix) {}
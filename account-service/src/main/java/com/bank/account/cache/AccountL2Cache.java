@@ -0,0 +1,15 @@
+package com.bank.account.cache;
+
+import com.bank.account.dto.AccountResponse;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface AccountL2Cache {
+
+  Optional<AccountResponse> get(UUID id);
+
+  void put(AccountResponse account);
+
+  void evict(Collection<UUID> ids);
+}
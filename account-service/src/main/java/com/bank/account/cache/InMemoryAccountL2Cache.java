@@ -0,0 +1,36 @@
+package com.bank.account.cache;
+
+import com.bank.account.dto.AccountResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+
+public class InMemoryAccountL2Cache implements AccountL2Cache {
+
+  private final Cache<UUID, AccountResponse> cache;
+
+  public InMemoryAccountL2Cache(long maximumSize, Duration ttl) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfterWrite(ttl)
+        .build();
+  }
+
+  @Override
+  public Optional<AccountResponse> get(UUID id) {
+    return Optional.ofNullable(cache.getIfPresent(id));
+  }
+
+  @Override
+  public void put(AccountResponse account) {
+    cache.put(account.id(), account);
+  }
+
+  @Override
+  public void evict(Collection<UUID> ids) {
+    cache.invalidateAll(ids);
+  }
+}
@@ -0,0 +1,22 @@
+package com.bank.account.cache;
+
+import com.bank.account.dto.AccountResponse;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.function.Function;
+
+public class NoOpAccountCache implements AccountCache {
+
+  @Override
+  public AccountResponse get(UUID id, Function<UUID, AccountResponse> loader) {
+    return loader.apply(id);
+  }
+
+  @Override
+  public void evict(Collection<UUID> ids) {
+  }
+
+  @Override
+  public void evictLocal(Collection<UUID> ids) {
+  }
+}
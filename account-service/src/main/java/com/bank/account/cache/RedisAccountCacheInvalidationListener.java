@@ -0,0 +1,110 @@
+package com.bank.account.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+/**
+ * Drops L1 entries that another instance has written, as announced by {@link RedisAccountL2Cache#evict}. Pub/sub
+ * delivery is at most once: a message missed while Redis is unreachable leaves the entry to expire after
+ * {@code l1-ttl}.
+ *
+ * <p>Subscribes off the startup thread and retries until Redis answers, so that, as with the L2 tier, an unreachable
+ * Redis does not keep the service from starting. Once subscribed, the container reconnects by itself.
+ */
+public class RedisAccountCacheInvalidationListener implements MessageListener, SmartLifecycle, DisposableBean {
+
+  private static final Logger log = LoggerFactory.getLogger(RedisAccountCacheInvalidationListener.class);
+
+  private static final Duration SUBSCRIBE_RETRY_INTERVAL = Duration.ofSeconds(5);
+
+  private final AccountCache accountCache;
+  private final RedisMessageListenerContainer container;
+  private final Counter received;
+  private volatile Thread subscriber;
+
+  public RedisAccountCacheInvalidationListener(
+      RedisConnectionFactory connectionFactory, String channel, AccountCache accountCache, MeterRegistry meterRegistry) {
+    this.accountCache = accountCache;
+    this.container = new RedisMessageListenerContainer();
+    this.container.setConnectionFactory(connectionFactory);
+    this.container.addMessageListener(this, new ChannelTopic(channel));
+    this.container.afterPropertiesSet();
+    this.received = Counter.builder("account.cache.remote.invalidations")
+        .description("Account ids evicted from L1 on another instance's write")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void onMessage(Message message, byte[] pattern) {
+    String body = new String(message.getBody(), StandardCharsets.UTF_8);
+    try {
+      List<UUID> ids = Arrays.stream(body.split(",")).map(UUID::fromString).toList();
+      accountCache.evictLocal(ids);
+      received.increment(ids.size());
+    } catch (IllegalArgumentException ex) {
+      log.warn("Ignoring malformed account cache invalidation: {}", ex.getMessage());
+    }
+  }
+
+  @Override
+  public void start() {
+    subscriber = Thread.ofVirtual().name("account-cache-invalidations").start(this::subscribe);
+  }
+
+  @Override
+  public void stop() {
+    Thread running = subscriber;
+    subscriber = null;
+    running.interrupt();
+    try {
+      // A subscription in flight would otherwise finish after the container has been stopped.
+      running.join();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+    container.stop();
+  }
+
+  @Override
+  public boolean isRunning() {
+    return subscriber != null;
+  }
+
+  @Override
+  public void destroy() throws Exception {
+    container.destroy();
+  }
+
+  private void subscribe() {
+    while (!Thread.currentThread().isInterrupted()) {
+      try {
+        container.start();
+        return;
+      } catch (RuntimeException ex) {
+        // A failed start leaves the container marked running; only stopping it lets the next start try again.
+        container.stop();
+        log.warn("Account cache invalidations not subscribed, retrying in {}: {}",
+            SUBSCRIBE_RETRY_INTERVAL, ex.toString());
+      }
+      try {
+        Thread.sleep(SUBSCRIBE_RETRY_INTERVAL);
+      } catch (InterruptedException ex) {
+        return;
+      }
+    }
+  }
+}
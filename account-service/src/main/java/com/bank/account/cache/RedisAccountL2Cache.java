@@ -0,0 +1,92 @@
+package com.bank.account.cache;
+
+import com.bank.account.dto.AccountResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+public class RedisAccountL2Cache implements AccountL2Cache {
+
+  private static final Logger log = LoggerFactory.getLogger(RedisAccountL2Cache.class);
+
+  private final StringRedisTemplate redisTemplate;
+  private final ObjectMapper objectMapper;
+  private final String keyPrefix;
+  private final String invalidationChannel;
+  private final Duration ttl;
+  private final Counter errors;
+
+  public RedisAccountL2Cache(
+      StringRedisTemplate redisTemplate,
+      ObjectMapper objectMapper,
+      String keyPrefix,
+      Duration ttl,
+      MeterRegistry meterRegistry) {
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+    this.keyPrefix = keyPrefix;
+    this.invalidationChannel = invalidationChannel(keyPrefix);
+    this.ttl = ttl;
+    this.errors = Counter.builder("account.cache.l2.errors")
+        .description("Redis L2 operations that failed and fell back to the database")
+        .register(meterRegistry);
+  }
+
+  // Redis is an optimisation: any failure degrades to a miss rather than failing the read.
+  @Override
+  public Optional<AccountResponse> get(UUID id) {
+    try {
+      String json = redisTemplate.opsForValue().get(key(id));
+      return json == null ? Optional.empty() : Optional.of(objectMapper.readValue(json, AccountResponse.class));
+    } catch (RuntimeException | JsonProcessingException ex) {
+      failed("get", ex);
+      return Optional.empty();
+    }
+  }
+
+  @Override
+  public void put(AccountResponse account) {
+    try {
+      redisTemplate.opsForValue().set(key(account.id()), objectMapper.writeValueAsString(account), ttl);
+    } catch (RuntimeException | JsonProcessingException ex) {
+      failed("put", ex);
+    }
+  }
+
+  // Deleted first, so an instance that drops its L1 copy on the message cannot read the old value back from here.
+  @Override
+  public void evict(Collection<UUID> ids) {
+    try {
+      List<String> keys = ids.stream().map(this::key).toList();
+      redisTemplate.delete(keys);
+      redisTemplate.convertAndSend(invalidationChannel,
+          ids.stream().map(UUID::toString).collect(Collectors.joining(",")));
+    } catch (RuntimeException ex) {
+      failed("evict", ex);
+    }
+  }
+
+  /** Pub/sub channel on which evicted ids are announced to every instance's L1. */
+  static String invalidationChannel(String keyPrefix) {
+    return keyPrefix + "invalidations";
+  }
+
+  private String key(UUID id) {
+    return keyPrefix + id;
+  }
+
+  private void failed(String operation, Exception ex) {
+    errors.increment();
+    log.warn("Redis account cache {} failed: {}", operation, ex.getMessage());
+  }
+}
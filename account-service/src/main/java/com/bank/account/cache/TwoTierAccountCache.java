@@ -0,0 +1,81 @@
+package com.bank.account.cache;
+
+import com.bank.account.dto.AccountResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+public class TwoTierAccountCache implements AccountCache {
+
+  private final Cache<UUID, AccountResponse> l1;
+  private final AccountL2Cache l2;
+  private final Counter l2Hits;
+  private final Counter l2Misses;
+  private final Counter invalidations;
+
+  public TwoTierAccountCache(long l1MaximumSize, Duration l1Ttl, AccountL2Cache l2, MeterRegistry meterRegistry) {
+    this.l1 = Caffeine.newBuilder()
+        .maximumSize(l1MaximumSize)
+        .expireAfterWrite(l1Ttl)
+        .recordStats()
+        .build();
+    this.l2 = l2;
+    CaffeineCacheMetrics.monitor(meterRegistry, l1, "accounts.l1");
+    this.l2Hits = l2Counter(meterRegistry, "hit");
+    this.l2Misses = l2Counter(meterRegistry, "miss");
+    this.invalidations = Counter.builder("account.cache.invalidations")
+        .description("Account ids invalidated in both cache tiers after a write")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public AccountResponse get(UUID id, Function<UUID, AccountResponse> loader) {
+    AccountResponse cached = l1.getIfPresent(id);
+    if (cached != null) {
+      return cached;
+    }
+
+    Optional<AccountResponse> shared = l2.get(id);
+    if (shared.isPresent()) {
+      l2Hits.increment();
+      l1.put(id, shared.get());
+      return shared.get();
+    }
+    l2Misses.increment();
+
+    // Not-found propagates as an exception from the loader, so misses are never cached.
+    AccountResponse loaded = loader.apply(id);
+    l2.put(loaded);
+    l1.put(id, loaded);
+    return loaded;
+  }
+
+  @Override
+  public void evict(Collection<UUID> ids) {
+    if (ids.isEmpty()) {
+      return;
+    }
+    l1.invalidateAll(ids);
+    l2.evict(ids);
+    invalidations.increment(ids.size());
+  }
+
+  @Override
+  public void evictLocal(Collection<UUID> ids) {
+    l1.invalidateAll(ids);
+  }
+
+  private static Counter l2Counter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("account.cache.l2.requests")
+        .description("Shared L2 account cache lookups after an L1 miss")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
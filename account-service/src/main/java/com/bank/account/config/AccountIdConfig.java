@@ -0,0 +1,24 @@
+package com.bank.account.config;
+
+import com.bank.account.service.AccountIdGenerator;
+import com.bank.account.service.RandomAccountIdGenerator;
+import com.bank.account.service.TimeOrderedAccountIdGenerator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class AccountIdConfig {
+
+  @Bean
+  @ConditionalOnProperty(name = "app.accounts.id-strategy", havingValue = "v7", matchIfMissing = true)
+  AccountIdGenerator timeOrderedAccountIdGenerator() {
+    return new TimeOrderedAccountIdGenerator();
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "app.accounts.id-strategy", havingValue = "v4")
+  AccountIdGenerator randomAccountIdGenerator() {
+    return new RandomAccountIdGenerator();
+  }
+}
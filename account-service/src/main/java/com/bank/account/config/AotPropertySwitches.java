@@ -0,0 +1,160 @@
+package com.bank.account.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.core.type.classreading.CachingMetadataReaderFactory;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.util.StringUtils;
+
+/**
+ * Spring AOT (the {@code fast-startup} image) settles every {@code @ConditionalOnProperty} when the sources are
+ * generated, so at runtime a different value for one of these switches is silently ignored. {@link Recorder} writes
+ * the build-time outcome of each switch into the jar, and {@link Guard} refuses to start an AOT run whose environment
+ * would have chosen differently.
+ */
+public final class AotPropertySwitches {
+
+  static final String RESOURCE = "META-INF/account-service/aot-switches.properties";
+
+  // Boot's own switches that this service's configuration depends on; @ConditionalOnThreading reads the first one.
+  static final List<Switch> FRAMEWORK_SWITCHES = List.of(
+      new Switch("spring.threads.virtual.enabled", "true", false),
+      new Switch("management.tracing.enabled", "true", true));
+
+  private static final String APPLICATION_CLASSES = "classpath*:com/bank/account/**/*.class";
+
+  private AotPropertySwitches() {}
+
+  /** One {@code @ConditionalOnProperty} test; the same property may appear in several. */
+  record Switch(String name, String havingValue, boolean matchIfMissing) {
+
+    // The rule OnPropertyCondition applies.
+    boolean matches(Environment environment) {
+      String value = environment.getProperty(name);
+      if (value == null) {
+        return matchIfMissing;
+      }
+      return StringUtils.hasLength(havingValue)
+          ? value.equalsIgnoreCase(havingValue)
+          : !"false".equalsIgnoreCase(value);
+    }
+
+    String key() {
+      return name + "|" + havingValue + "|" + matchIfMissing;
+    }
+
+    static Switch fromKey(String key) {
+      String[] parts = key.split("\\|", -1);
+      return new Switch(parts[0], parts[1], Boolean.parseBoolean(parts[2]));
+    }
+  }
+
+  /** Every switch the application's classes and bean methods are conditional on, plus {@link #FRAMEWORK_SWITCHES}. */
+  static List<Switch> discover(ClassLoader classLoader) {
+    PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(classLoader);
+    CachingMetadataReaderFactory readers = new CachingMetadataReaderFactory(resolver);
+    List<Switch> switches = new ArrayList<>(FRAMEWORK_SWITCHES);
+    try {
+      for (Resource resource : resolver.getResources(APPLICATION_CLASSES)) {
+        MetadataReader reader = readers.getMetadataReader(resource);
+        collect(reader.getAnnotationMetadata(), switches);
+        reader.getAnnotationMetadata().getDeclaredMethods().forEach(method -> collect(method, switches));
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    return switches.stream().distinct().toList();
+  }
+
+  /** Build-time outcome of each switch, keyed by {@link Switch#key()}. */
+  static Map<String, Boolean> outcomes(List<Switch> switches, Environment environment) {
+    Map<String, Boolean> outcomes = new TreeMap<>();
+    switches.forEach(s -> outcomes.put(s.key(), s.matches(environment)));
+    return outcomes;
+  }
+
+  /** The properties whose value in {@code environment} selects other beans than the recorded build did. */
+  static List<String> mismatches(Properties recorded, Environment environment) {
+    Set<String> names = new TreeSet<>();
+    for (String key : recorded.stringPropertyNames()) {
+      Switch s = Switch.fromKey(key);
+      if (s.matches(environment) != Boolean.parseBoolean(recorded.getProperty(key))) {
+        names.add(s.name());
+      }
+    }
+    return names.stream()
+        .map(name -> name + "=" + environment.getProperty(name, "<unset>"))
+        .toList();
+  }
+
+  private static void collect(AnnotatedTypeMetadata metadata, List<Switch> into) {
+    metadata.getAnnotations().stream(ConditionalOnProperty.class).forEach(annotation -> {
+      String prefix = annotation.getString("prefix");
+      String havingValue = annotation.getString("havingValue");
+      boolean matchIfMissing = annotation.getBoolean("matchIfMissing");
+      Stream.of(annotation.getStringArray("name"), annotation.getStringArray("value"))
+          .flatMap(Stream::of)
+          .map(name -> StringUtils.hasText(prefix) ? prefix.replaceAll("\\.$", "") + "." + name : name)
+          .forEach(name -> into.add(new Switch(name, havingValue, matchIfMissing)));
+    });
+  }
+
+  /** Runs during {@code spring-boot:process-aot}; registered in {@code META-INF/spring/aot.factories}. */
+  public static class Recorder implements BeanFactoryInitializationAotProcessor {
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+      Environment environment = beanFactory.getBean(Environment.class);
+      StringBuilder content = new StringBuilder("# @ConditionalOnProperty outcomes fixed by Spring AOT\n");
+      outcomes(discover(beanFactory.getBeanClassLoader()), environment)
+          .forEach((key, matched) -> content.append(key).append('=').append(matched).append('\n'));
+      return (generationContext, code) -> generationContext.getGeneratedFiles().addResourceFile(RESOURCE, content);
+    }
+  }
+
+  /** Fails an AOT start whose switches would select other beans than the build did. Does nothing without AOT. */
+  public static class Guard implements EnvironmentPostProcessor {
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+      ClassPathResource resource = new ClassPathResource(RESOURCE, application.getClassLoader());
+      if (!AotDetector.useGeneratedArtifacts() || !resource.exists()) {
+        return;
+      }
+      Properties recorded = new Properties();
+      try (InputStream in = resource.getInputStream()) {
+        recorded.load(in);
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+      List<String> mismatches = mismatches(recorded, environment);
+      if (!mismatches.isEmpty()) {
+        throw new IllegalStateException("This build was processed by Spring AOT, which fixed the beans these "
+            + "switches select at build time. Rebuild with AOT_JVM_ARGUMENTS set to the values below, or use the "
+            + "default image:\n  " + String.join("\n  ", mismatches));
+      }
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package com.bank.account.config;
+
+import com.bank.account.dto.AccountResponse;
+import com.bank.account.service.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.UUID;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ReadCoalescingProperties.class)
+public class ReadCoalescingConfig {
+
+  @Bean
+  SingleFlight<UUID, AccountResponse> accountLoads(ReadCoalescingProperties properties, MeterRegistry meterRegistry) {
+    if (!properties.enabled()) {
+      return SingleFlight.disabled("account", meterRegistry);
+    }
+    return new SingleFlight<>("account", properties.maxWait(), meterRegistry);
+  }
+}
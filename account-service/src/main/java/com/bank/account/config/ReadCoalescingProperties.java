@@ -0,0 +1,10 @@
+package com.bank.account.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.accounts.read-coalescing")
+public record ReadCoalescingProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("2s") Duration maxWait) {}
@@ -1,37 +1,111 @@
 package com.bank.account.controller;
 
+import com.bank.account.dto.AccountChangesResponse;
+import com.bank.account.dto.AccountLookupRequest;
+import com.bank.account.dto.AccountLookupResponse;
 import com.bank.account.dto.AccountResponse;
+import com.bank.account.dto.BatchCreateAccountsResponse;
 import com.bank.account.dto.CreateAccountRequest;
+import com.bank.account.idempotency.IdempotencyService;
+import com.bank.account.idempotency.IdempotentResult;
+import com.bank.account.service.AccountBatchService;
+import com.bank.account.service.AccountChangeService;
 import com.bank.account.service.AccountService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
 @RequestMapping("/api/accounts")
 public class AccountController {
 
+  static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+  static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
   private final AccountService accountService;
+  private final AccountBatchService accountBatchService;
+  private final IdempotencyService idempotencyService;
+  private final AccountChangeService accountChangeService;
+  private final ObjectMapper objectMapper;
 
-  public AccountController(AccountService accountService) {
+  public AccountController(
+      AccountService accountService,
+      AccountBatchService accountBatchService,
+      IdempotencyService idempotencyService,
+      AccountChangeService accountChangeService,
+      ObjectMapper objectMapper) {
     this.accountService = accountService;
+    this.accountBatchService = accountBatchService;
+    this.idempotencyService = idempotencyService;
+    this.accountChangeService = accountChangeService;
+    this.objectMapper = objectMapper;
   }
 
   @PostMapping
-  @ResponseStatus(HttpStatus.CREATED)
-  public AccountResponse create(@Valid @RequestBody CreateAccountRequest request) {
-    return accountService.create(request);
+  public ResponseEntity<AccountResponse> create(
+      @Valid @RequestBody CreateAccountRequest request,
+      @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+    if (idempotencyKey == null) {
+      return ResponseEntity.status(HttpStatus.CREATED).body(accountService.create(request));
+    }
+    IdempotentResult<AccountResponse> result = idempotencyService.execute(
+        idempotencyKey, request, AccountResponse.class, () -> accountService.create(request));
+    return ResponseEntity.status(HttpStatus.CREATED)
+        .header(IDEMPOTENT_REPLAYED, String.valueOf(result.replayed()))
+        .body(result.body());
+  }
+
+  @PostMapping("/batch")
+  public BatchCreateAccountsResponse createBatch(@RequestBody List<CreateAccountRequest> requests) {
+    return accountBatchService.createBatch(requests);
   }
 
+  @PostMapping("/lookup")
+  public AccountLookupResponse lookup(@Valid @RequestBody AccountLookupRequest request) {
+    return accountService.lookup(request.ids());
+  }
+
+  @GetMapping("/changes")
+  public AccountChangesResponse changes(
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "500") int limit) {
+    return accountChangeService.changes(cursor, limit);
+  }
+
+  /**
+   * The ETag is a hash of the JSON body, serialized by the same ObjectMapper as the response, so it changes exactly
+   * when the body does. A matching If-None-Match gets a 304 without a body (HttpEntityMethodProcessor); the account is
+   * still read.
+   */
   @GetMapping("/{id}")
-  public AccountResponse get(@PathVariable UUID id) {
-    return accountService.get(id);
+  public ResponseEntity<AccountResponse> get(@PathVariable UUID id) {
+    AccountResponse account = accountService.get(id);
+    return ResponseEntity.ok().eTag(etag(account)).body(account);
+  }
+
+  @GetMapping("/by-number/{accountNumber}")
+  public AccountResponse getByNumber(@PathVariable String accountNumber) {
+    return accountService.getByNumber(accountNumber);
+  }
+
+  private String etag(AccountResponse account) {
+    try {
+      return '"' + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(account)) + '"';
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Could not serialize account " + account.id(), ex);
+    }
   }
 }
@@ -0,0 +1,55 @@
+package com.bank.account.controller;
+
+import com.bank.account.dto.AccountImportReport;
+import com.bank.account.service.AccountImportFormat;
+import com.bank.account.service.AccountImportService;
+import java.io.InputStream;
+import java.util.UUID;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+@RestController
+@RequestMapping("/api/imports/accounts")
+public class AccountImportController {
+
+  static final String TEXT_CSV = "text/csv";
+
+  private final AccountImportService accountImportService;
+
+  public AccountImportController(AccountImportService accountImportService) {
+    this.accountImportService = accountImportService;
+  }
+
+  // The body is read straight from the request stream, never buffered whole.
+  @PostMapping(consumes = {TEXT_CSV, MediaType.APPLICATION_NDJSON_VALUE})
+  public AccountImportReport importAccounts(
+      @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+      @RequestParam(required = false) UUID importId,
+      InputStream body) {
+    return accountImportService.importAccounts(importId, format(contentType), body);
+  }
+
+  @GetMapping("/{importId}")
+  public AccountImportReport report(@PathVariable UUID importId) {
+    return accountImportService.report(importId);
+  }
+
+  private static AccountImportFormat format(MediaType contentType) {
+    if (contentType.isCompatibleWith(MediaType.parseMediaType(TEXT_CSV))) {
+      return AccountImportFormat.CSV;
+    }
+    if (contentType.isCompatibleWith(MediaType.APPLICATION_NDJSON)) {
+      return AccountImportFormat.NDJSON;
+    }
+    throw new ResponseStatusException(HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+  }
+}
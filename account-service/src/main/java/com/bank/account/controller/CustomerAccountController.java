@@ -0,0 +1,65 @@
+package com.bank.account.controller;
+
+import com.bank.account.dto.AccountPageResponse;
+import com.bank.account.dto.AccountResponse;
+import com.bank.account.service.CustomerAccountService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/customers/{customerId}/accounts")
+public class CustomerAccountController {
+
+  private final CustomerAccountService customerAccountService;
+  private final ObjectMapper objectMapper;
+  private final ObjectWriter ndjsonWriter;
+
+  public CustomerAccountController(CustomerAccountService customerAccountService, ObjectMapper objectMapper) {
+    this.customerAccountService = customerAccountService;
+    this.objectMapper = objectMapper;
+    // Let the response buffer decide when to flush instead of flushing after every row.
+    this.ndjsonWriter = objectMapper.writerFor(AccountResponse.class)
+        .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+  }
+
+  @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+  public AccountPageResponse page(
+      @PathVariable UUID customerId,
+      @RequestParam(required = false) UUID after,
+      @RequestParam(defaultValue = "100") int limit) {
+    return customerAccountService.page(customerId, after, limit);
+  }
+
+  // A StreamingResponseBody bypasses the message converters, so the content type is set here rather than from produces.
+  @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+  public ResponseEntity<StreamingResponseBody> stream(@PathVariable UUID customerId) {
+    StreamingResponseBody body = outputStream -> {
+      try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+        customerAccountService.stream(customerId, account -> {
+          try {
+            ndjsonWriter.writeValue(generator, account);
+            generator.writeRaw('\n');
+          } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+          }
+        });
+      }
+    };
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+  }
+}
@@ -0,0 +1,23 @@
+package com.bank.account.controller;
+
+import com.bank.account.dto.CustomerSummaryResponse;
+import com.bank.account.service.CustomerSummaryService;
+import java.util.UUID;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+public class CustomerSummaryController {
+
+  private final CustomerSummaryService customerSummaryService;
+
+  public CustomerSummaryController(CustomerSummaryService customerSummaryService) {
+    this.customerSummaryService = customerSummaryService;
+  }
+
+  @GetMapping("/api/customers/{customerId}/summary")
+  public CustomerSummaryResponse summary(@PathVariable UUID customerId) {
+    return customerSummaryService.summary(customerId);
+  }
+}
@@ -0,0 +1,127 @@
+package com.bank.account.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Admits at most {@code maxConcurrent} open connections, normally the size of the Hikari pool it wraps. Callers
+ * beyond that wait on a fair semaphore for up to {@code maxWait} and then fail with {@link DatabaseBusyException},
+ * instead of parking every virtual thread inside Hikari until its connection timeout.
+ */
+public class ConcurrencyLimitingDataSource extends DelegatingDataSource implements MeterBinder {
+
+  private final String pool;
+  private final Semaphore permits;
+  private final int maxConcurrent;
+  private final long maxWaitNanos;
+  private volatile Counter rejected;
+  private volatile Timer wait;
+
+  public ConcurrencyLimitingDataSource(DataSource targetDataSource, String pool, int maxConcurrent, Duration maxWait) {
+    super(targetDataSource);
+    this.pool = pool;
+    this.permits = new Semaphore(maxConcurrent, true);
+    this.maxConcurrent = maxConcurrent;
+    this.maxWaitNanos = maxWait.toNanos();
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    acquire();
+    try {
+      return releasingOnClose(super.getConnection());
+    } catch (SQLException | RuntimeException ex) {
+      permits.release();
+      throw ex;
+    }
+  }
+
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    acquire();
+    try {
+      return releasingOnClose(super.getConnection(username, password));
+    } catch (SQLException | RuntimeException ex) {
+      permits.release();
+      throw ex;
+    }
+  }
+
+  @Override
+  public void bindTo(MeterRegistry registry) {
+    Gauge.builder("db.concurrency.limit.in-flight", this, ds -> ds.maxConcurrent - ds.permits.availablePermits())
+        .tag("pool", pool)
+        .register(registry);
+    Gauge.builder("db.concurrency.limit.waiting", permits, Semaphore::getQueueLength)
+        .tag("pool", pool)
+        .register(registry);
+    Gauge.builder("db.concurrency.limit.max", this, ds -> ds.maxConcurrent)
+        .tag("pool", pool)
+        .register(registry);
+    rejected = Counter.builder("db.concurrency.limit.rejected").tag("pool", pool).register(registry);
+    // Time spent before reaching Hikari; hikaricp.connections.acquire covers the pool itself.
+    wait = Timer.builder("db.concurrency.limit.wait")
+        .description("Wait for a database permit, admitted or not")
+        .tag("pool", pool)
+        .register(registry);
+  }
+
+  private void acquire() throws SQLException {
+    long started = System.nanoTime();
+    try {
+      if (permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS)) {
+        return;
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new DatabaseBusyException("Interrupted while waiting for a database permit", ex);
+    } finally {
+      Timer timer = wait;
+      if (timer != null) {
+        timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+      }
+    }
+    Counter counter = rejected;
+    if (counter != null) {
+      counter.increment();
+    }
+    throw new DatabaseBusyException("No database permit available within " + Duration.ofNanos(maxWaitNanos), null);
+  }
+
+  private Connection releasingOnClose(Connection connection) {
+    AtomicBoolean released = new AtomicBoolean();
+    return (Connection) Proxy.newProxyInstance(
+        Connection.class.getClassLoader(),
+        new Class<?>[] {Connection.class},
+        (proxy, method, args) -> {
+          if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+            try {
+              connection.close();
+            } finally {
+              if (released.compareAndSet(false, true)) {
+                permits.release();
+              }
+            }
+            return null;
+          }
+          try {
+            return method.invoke(connection, args);
+          } catch (InvocationTargetException ex) {
+            throw ex.getTargetException();
+          }
+        });
+  }
+}
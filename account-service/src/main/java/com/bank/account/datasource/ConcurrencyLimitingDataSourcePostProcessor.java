@@ -0,0 +1,55 @@
+package com.bank.account.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.PriorityOrdered;
+import org.springframework.util.StringUtils;
+
+/**
+ * Puts every Hikari pool behind its own {@link ConcurrencyLimitingDataSource}: the primary pool bean, and each replica
+ * pool inside {@link ReplicaSelectingDataSource}. Only concrete pools are wrapped, so the routing proxy in front of
+ * them never takes a second permit. Runs first so that it sees the pool before any other post-processor proxies it.
+ */
+class ConcurrencyLimitingDataSourcePostProcessor implements BeanPostProcessor, PriorityOrdered {
+
+  private final DatabaseConcurrencyLimitProperties properties;
+  private final List<ConcurrencyLimitingDataSource> limiters = new CopyOnWriteArrayList<>();
+
+  ConcurrencyLimitingDataSourcePostProcessor(DatabaseConcurrencyLimitProperties properties) {
+    this.properties = properties;
+  }
+
+  @Override
+  public Object postProcessAfterInitialization(Object bean, String beanName) {
+    if (bean instanceof HikariDataSource pool) {
+      return limited(pool, beanName);
+    }
+    if (bean instanceof ReplicaSelectingDataSource replicas) {
+      replicas.wrapPools(pool -> limited(pool, pool.getPoolName()));
+    }
+    return bean;
+  }
+
+  @Override
+  public int getOrder() {
+    return Ordered.HIGHEST_PRECEDENCE;
+  }
+
+  List<ConcurrencyLimitingDataSource> limiters() {
+    return limiters;
+  }
+
+  // Default to the pool's own size so that every admitted caller can get a connection without queueing inside Hikari.
+  private DataSource limited(HikariDataSource pool, String fallbackName) {
+    int maxConcurrent = properties.maxConcurrent() > 0 ? properties.maxConcurrent() : pool.getMaximumPoolSize();
+    String name = StringUtils.hasText(pool.getPoolName()) ? pool.getPoolName() : fallbackName;
+    ConcurrencyLimitingDataSource limiter =
+        new ConcurrencyLimitingDataSource(pool, name, maxConcurrent, properties.maxWait());
+    limiters.add(limiter);
+    return limiter;
+  }
+}
@@ -0,0 +1,10 @@
+package com.bank.account.datasource;
+
+import java.sql.SQLTransientConnectionException;
+
+public class DatabaseBusyException extends SQLTransientConnectionException {
+
+  public DatabaseBusyException(String message, Throwable cause) {
+    super(message, cause);
+  }
+}
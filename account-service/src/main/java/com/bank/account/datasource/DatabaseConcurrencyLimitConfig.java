@@ -0,0 +1,28 @@
+package com.bank.account.datasource;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@ConditionalOnProperty(name = "app.db.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class DatabaseConcurrencyLimitConfig {
+
+  private static final String PREFIX = "app.db.concurrency-limit";
+
+  @Bean
+  static ConcurrencyLimitingDataSourcePostProcessor concurrencyLimitingDataSourcePostProcessor(
+      Environment environment) {
+    return new ConcurrencyLimitingDataSourcePostProcessor(Binder.get(environment)
+        .bindOrCreate(PREFIX, DatabaseConcurrencyLimitProperties.class));
+  }
+
+  // Bound once all singletons exist, so every pool's limiter is in the list by then.
+  @Bean
+  MeterBinder databaseConcurrencyLimitMetrics(ConcurrencyLimitingDataSourcePostProcessor postProcessor) {
+    return registry -> postProcessor.limiters().forEach(limiter -> limiter.bindTo(registry));
+  }
+}
@@ -0,0 +1,9 @@
+package com.bank.account.datasource;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+public record DatabaseConcurrencyLimitProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("0") int maxConcurrent,
+    @DefaultValue("2s") Duration maxWait) {}
@@ -0,0 +1,29 @@
+package com.bank.account.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/** {@code X-Read-Consistency: strong} pins every read of the request to the primary (read-your-own-writes). */
+public class ReadConsistencyFilter extends OncePerRequestFilter {
+
+  public static final String HEADER = "X-Read-Consistency";
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    if (!"strong".equalsIgnoreCase(request.getHeader(HEADER))) {
+      chain.doFilter(request, response);
+      return;
+    }
+    Boolean previous = ReadRouting.pinPrimary();
+    try {
+      chain.doFilter(request, response);
+    } finally {
+      ReadRouting.restore(previous);
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package com.bank.account.datasource;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Decides, per thread, whether read-only work may go to a replica. Writes and read-write transactions always use the
+ * primary; read-only transactions use a replica unless the caller pinned the primary with {@link #onPrimary}.
+ */
+public class ReadRouting {
+
+  private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+  private final boolean replicasEnabled;
+
+  public ReadRouting(boolean replicasEnabled) {
+    this.replicasEnabled = replicasEnabled;
+  }
+
+  public boolean replicasEnabled() {
+    return replicasEnabled;
+  }
+
+  /** True when replicas are on and this thread's reads are pinned to the primary. */
+  public boolean primaryPinned() {
+    return replicasEnabled && isPrimaryPinned();
+  }
+
+  public <T> T onPrimary(Supplier<T> read) {
+    Boolean previous = pinPrimary();
+    try {
+      return read.get();
+    } finally {
+      restore(previous);
+    }
+  }
+
+  /** Re-runs a read on the primary when the replica did not find it, e.g. a row written moments ago. */
+  public <T> Optional<T> orOnPrimary(Supplier<Optional<T>> read) {
+    Optional<T> result = read.get();
+    if (result.isPresent() || !replicasEnabled || isPrimaryPinned()) {
+      return result;
+    }
+    return onPrimary(read);
+  }
+
+  static boolean isPrimaryPinned() {
+    return Boolean.TRUE.equals(PRIMARY_PINNED.get());
+  }
+
+  static Boolean pinPrimary() {
+    Boolean previous = PRIMARY_PINNED.get();
+    PRIMARY_PINNED.set(Boolean.TRUE);
+    return previous;
+  }
+
+  static void restore(Boolean previous) {
+    if (previous == null) {
+      PRIMARY_PINNED.remove();
+    } else {
+      PRIMARY_PINNED.set(previous);
+    }
+  }
+}
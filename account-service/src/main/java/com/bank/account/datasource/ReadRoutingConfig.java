@@ -0,0 +1,110 @@
+package com.bank.account.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.StringUtils;
+
+@Configuration
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReadRoutingConfig {
+
+  @Bean
+  @ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "false", matchIfMissing = true)
+  ReadRouting primaryOnlyReadRouting() {
+    return new ReadRouting(false);
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @EnableScheduling
+  @ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+  static class ReplicaRouting {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties properties) {
+      return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    ReplicaSelectingDataSource replicaDataSource(
+        @Qualifier("primaryDataSource") DataSource primary,
+        DataSourceProperties primaryProperties,
+        ReplicaProperties properties,
+        MeterRegistry meterRegistry) {
+      List<HikariDataSource> pools = new ArrayList<>();
+      for (int i = 0; i < properties.urls().size(); i++) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setPoolName("replica-" + i);
+        pool.setJdbcUrl(properties.urls().get(i));
+        pool.setUsername(StringUtils.hasText(properties.username())
+            ? properties.username() : primaryProperties.determineUsername());
+        pool.setPassword(StringUtils.hasText(properties.password())
+            ? properties.password() : primaryProperties.determinePassword());
+        pool.setMaximumPoolSize(properties.maximumPoolSize());
+        pool.setReadOnly(true);
+        // Start even if a replica is down; it stays out of rotation until a lag check succeeds.
+        pool.setInitializationFailTimeout(-1);
+        pools.add(pool);
+      }
+      ReplicaSelectingDataSource replicas = new ReplicaSelectingDataSource(
+          primary, pools, properties.maxLag(), properties.lagQuery(), meterRegistry);
+      replicas.checkReplicas();
+      return replicas;
+    }
+
+    // Read-only transactions set the read-only flag before the first statement, so the lazy proxy can pick the
+    // replica side; everything else (writes, read-write transactions, Flyway) gets the primary.
+    @Bean
+    @Primary
+    DataSource dataSource(
+        @Qualifier("primaryDataSource") DataSource primary, ReplicaSelectingDataSource replicaDataSource) {
+      LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+      proxy.setReadOnlyDataSource(replicaDataSource);
+      return proxy;
+    }
+
+    @Bean
+    ReadRouting replicaReadRouting() {
+      return new ReadRouting(true);
+    }
+
+    @Bean
+    FilterRegistrationBean<ReadConsistencyFilter> readConsistencyFilter() {
+      return new FilterRegistrationBean<>(new ReadConsistencyFilter());
+    }
+
+    @Bean
+    ReplicaLagChecker replicaLagChecker(ReplicaSelectingDataSource replicaDataSource) {
+      return new ReplicaLagChecker(replicaDataSource);
+    }
+  }
+
+  static class ReplicaLagChecker {
+
+    private final ReplicaSelectingDataSource replicas;
+
+    ReplicaLagChecker(ReplicaSelectingDataSource replicas) {
+      this.replicas = replicas;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.check-interval-ms:2000}")
+    void check() {
+      replicas.checkReplicas();
+    }
+  }
+}
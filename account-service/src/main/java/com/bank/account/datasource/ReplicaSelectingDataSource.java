@@ -0,0 +1,142 @@
+package com.bank.account.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+/**
+ * Read-only target of the routing proxy: hands out connections from a healthy, caught-up replica (round robin) and
+ * falls back to the primary when none is usable or the caller pinned the primary.
+ */
+public class ReplicaSelectingDataSource extends AbstractDataSource implements Closeable {
+
+  private static final Logger log = LoggerFactory.getLogger(ReplicaSelectingDataSource.class);
+
+  private final DataSource primary;
+  private final List<Replica> replicas;
+  private final Duration maxLag;
+  private final String lagQuery;
+  private final AtomicInteger next = new AtomicInteger();
+  private final Counter replicaReads;
+  private final Counter primaryReads;
+
+  public ReplicaSelectingDataSource(
+      DataSource primary,
+      List<HikariDataSource> replicaPools,
+      Duration maxLag,
+      String lagQuery,
+      MeterRegistry meterRegistry) {
+    this.primary = primary;
+    this.replicas = replicaPools.stream().map(Replica::new).toList();
+    this.maxLag = maxLag;
+    this.lagQuery = lagQuery;
+    this.replicaReads = routedReads(meterRegistry, "replica");
+    this.primaryReads = routedReads(meterRegistry, "primary");
+    for (Replica replica : replicas) {
+      Gauge.builder("db.replica.lag", replica, r -> r.lagMillis / 1000.0)
+          .tag("replica", replica.pool.getPoolName())
+          .baseUnit("seconds")
+          .register(meterRegistry);
+      Gauge.builder("db.replica.usable", replica, r -> r.usable ? 1 : 0)
+          .tag("replica", replica.pool.getPoolName())
+          .register(meterRegistry);
+    }
+  }
+
+  @Override
+  public Connection getConnection() throws SQLException {
+    Replica replica = ReadRouting.isPrimaryPinned() ? null : pick();
+    if (replica == null) {
+      primaryReads.increment();
+      return primary.getConnection();
+    }
+    replicaReads.increment();
+    return replica.connections.getConnection();
+  }
+
+  // Each replica pool holds its own credentials; other users' connections would not be pooled or lag-checked.
+  @Override
+  public Connection getConnection(String username, String password) throws SQLException {
+    throw new SQLFeatureNotSupportedException("Replica routing uses the configured credentials");
+  }
+
+  /** Puts each replica pool behind {@code wrapper}, e.g. a concurrency limit of its own; lag checks bypass it. */
+  public void wrapPools(Function<HikariDataSource, DataSource> wrapper) {
+    for (Replica replica : replicas) {
+      replica.connections = wrapper.apply(replica.pool);
+    }
+  }
+
+  /** Refreshes each replica's lag; a replica that errors or lags more than {@code maxLag} stops receiving reads. */
+  public void checkReplicas() {
+    for (Replica replica : replicas) {
+      boolean wasUsable = replica.usable;
+      try (Connection connection = replica.pool.getConnection();
+          Statement statement = connection.createStatement();
+          ResultSet resultSet = statement.executeQuery(lagQuery)) {
+        resultSet.next();
+        replica.lagMillis = Math.round(resultSet.getDouble(1) * 1000);
+        replica.usable = replica.lagMillis <= maxLag.toMillis();
+      } catch (SQLException | RuntimeException ex) {
+        replica.usable = false;
+        log.debug("Replica {} lag check failed: {}", replica.pool.getPoolName(), ex.toString());
+      }
+      if (wasUsable != replica.usable) {
+        log.warn("Replica {} is now {} (lag {} ms)",
+            replica.pool.getPoolName(), replica.usable ? "in rotation" : "out of rotation", replica.lagMillis);
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    replicas.forEach(replica -> replica.pool.close());
+  }
+
+  private Replica pick() {
+    int size = replicas.size();
+    int start = Math.floorMod(next.getAndIncrement(), size);
+    for (int i = 0; i < size; i++) {
+      Replica candidate = replicas.get((start + i) % size);
+      if (candidate.usable) {
+        return candidate;
+      }
+    }
+    return null;
+  }
+
+  private static Counter routedReads(MeterRegistry meterRegistry, String target) {
+    return Counter.builder("db.read.routing")
+        .description("Read-only connections handed out, by target")
+        .tag("target", target)
+        .register(meterRegistry);
+  }
+
+  private static final class Replica {
+    private final HikariDataSource pool;
+    private volatile DataSource connections;
+    // Out of rotation until the first successful lag check.
+    private volatile boolean usable;
+    private volatile long lagMillis;
+
+    private Replica(HikariDataSource pool) {
+      this.pool = pool;
+      this.connections = pool;
+    }
+  }
+}
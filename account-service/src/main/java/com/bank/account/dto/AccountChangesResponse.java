@@ -0,0 +1,8 @@
+package com.bank.account.dto;
+
+import java.util.List;
+
+public record AccountChangesResponse(
+    List<AccountResponse> items,
+    String nextCursor,
+    boolean hasMore) {}
@@ -0,0 +1,11 @@
+package com.bank.account.dto;
+
+public record AccountImportIssue(long row, String accountNumber, String kind, String reason) {
+
+  public static final String REJECTED = "REJECTED";
+  public static final String DUPLICATE = "DUPLICATE";
+
+  public static AccountImportIssue rejected(long row, String accountNumber, String reason) {
+    return new AccountImportIssue(row, accountNumber, REJECTED, reason);
+  }
+}
@@ -0,0 +1,13 @@
+package com.bank.account.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record AccountImportReport(
+    UUID importId,
+    String status,
+    long rowsProcessed,
+    long imported,
+    long duplicates,
+    long rejected,
+    List<AccountImportIssue> issues) {}
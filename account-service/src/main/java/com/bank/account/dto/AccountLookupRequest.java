@@ -0,0 +1,13 @@
+package com.bank.account.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+
+public record AccountLookupRequest(
+    @NotEmpty @Size(max = AccountLookupRequest.MAX_IDS) List<@NotNull UUID> ids) {
+
+  public static final int MAX_IDS = 500;
+}
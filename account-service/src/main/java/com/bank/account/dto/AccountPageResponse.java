@@ -0,0 +1,8 @@
+package com.bank.account.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record AccountPageResponse(
+    List<AccountResponse> items,
+    UUID nextCursor) {}
@@ -0,0 +1,24 @@
+package com.bank.account.dto;
+
+import java.util.List;
+
+public record BatchCreateAccountsResponse(
+    int created,
+    int conflicts,
+    int invalid,
+    List<BatchItemResult> results) {
+
+  public static BatchCreateAccountsResponse of(List<BatchItemResult> results) {
+    int created = 0;
+    int conflicts = 0;
+    int invalid = 0;
+    for (BatchItemResult result : results) {
+      switch (result.status()) {
+        case CREATED -> created++;
+        case CONFLICT -> conflicts++;
+        case INVALID -> invalid++;
+      }
+    }
+    return new BatchCreateAccountsResponse(created, conflicts, invalid, results);
+  }
+}
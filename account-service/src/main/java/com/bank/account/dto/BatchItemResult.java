@@ -0,0 +1,23 @@
+package com.bank.account.dto;
+
+import java.util.UUID;
+
+public record BatchItemResult(
+    int index,
+    String accountNumber,
+    BatchItemStatus status,
+    UUID id,
+    String message) {
+
+  public static BatchItemResult created(int index, String accountNumber, UUID id) {
+    return new BatchItemResult(index, accountNumber, BatchItemStatus.CREATED, id, null);
+  }
+
+  public static BatchItemResult conflict(int index, String accountNumber, String message) {
+    return new BatchItemResult(index, accountNumber, BatchItemStatus.CONFLICT, null, message);
+  }
+
+  public static BatchItemResult invalid(int index, String accountNumber, String message) {
+    return new BatchItemResult(index, accountNumber, BatchItemStatus.INVALID, null, message);
+  }
+}
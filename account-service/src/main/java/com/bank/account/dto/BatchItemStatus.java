@@ -0,0 +1,7 @@
+package com.bank.account.dto;
+
+public enum BatchItemStatus {
+  CREATED,
+  CONFLICT,
+  INVALID
+}
@@ -0,0 +1,10 @@
+package com.bank.account.dto;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+public record CurrencySummaryResponse(
+    String currency,
+    BigDecimal totalBalance,
+    long accountCount,
+    Map<String, Long> accountsByStatus) {}
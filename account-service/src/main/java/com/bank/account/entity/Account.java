@@ -2,20 +2,22 @@ package com.bank.account.entity;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
 import java.util.UUID;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Table(name = "accounts")
-public class Account {
+public class Account implements Persistable<UUID> {
 
+  // Assigned by AccountIdGenerator before persisting, so inserts need no DB round trip for the key.
   @Id
-  @GeneratedValue(strategy = GenerationType.UUID)
   private UUID id;
 
   @Column(name = "customer_id", nullable = false)
@@ -39,7 +41,13 @@ public class Account {
   @Column(name = "updated_at", nullable = false)
   private OffsetDateTime updatedAt;
 
+  // With an assigned id, Spring Data cannot infer newness from a null id; without this, save() would merge.
+  @Transient
+  private boolean persisted;
+
+  @Override
   public UUID getId() { return id; }
+  public void setId(UUID id) { this.id = id; }
   public UUID getCustomerId() { return customerId; }
   public void setCustomerId(UUID customerId) { this.customerId = customerId; }
   public String getAccountNumber() { return accountNumber; }
@@ -54,4 +62,11 @@ public class Account {
   public void setCreatedAt(OffsetDateTime createdAt) { this.createdAt = createdAt; }
   public OffsetDateTime getUpdatedAt() { return updatedAt; }
   public void setUpdatedAt(OffsetDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+  @Override
+  public boolean isNew() { return !persisted; }
+
+  @PostLoad
+  @PostPersist
+  void markPersisted() { this.persisted = true; }
 }
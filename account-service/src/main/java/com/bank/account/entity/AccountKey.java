@@ -0,0 +1,29 @@
+package com.bank.account.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.util.UUID;
+
+// Filled by a trigger on accounts (V6); mapped for the id and account-number lookups in AccountRepository.
+@Entity
+@Table(name = "account_keys")
+public class AccountKey {
+
+  @Id
+  private UUID id;
+
+  @Column(name = "customer_id", nullable = false)
+  private UUID customerId;
+
+  @Column(name = "account_number", nullable = false, unique = true, length = 32)
+  private String accountNumber;
+
+  public UUID getId() { return id; }
+  public void setId(UUID id) { this.id = id; }
+  public UUID getCustomerId() { return customerId; }
+  public void setCustomerId(UUID customerId) { this.customerId = customerId; }
+  public String getAccountNumber() { return accountNumber; }
+  public void setAccountNumber(String accountNumber) { this.accountNumber = accountNumber; }
+}
@@ -0,0 +1,82 @@
+package com.bank.account.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+// Written and read over JDBC (CustomerSummaryJdbcRepository); mapped so the schema is validated and created in tests.
+@Entity
+@Table(name = "customer_account_summary")
+@IdClass(CustomerAccountSummary.Key.class)
+public class CustomerAccountSummary {
+
+  @Id
+  @Column(name = "customer_id", nullable = false)
+  private UUID customerId;
+
+  @Id
+  @Column(name = "currency", nullable = false, length = 3)
+  private String currency;
+
+  @Id
+  @Column(name = "status", nullable = false, length = 16)
+  private String status;
+
+  @Column(name = "account_count", nullable = false)
+  private long accountCount;
+
+  @Column(name = "total_balance", nullable = false, precision = 38, scale = 4)
+  private BigDecimal totalBalance;
+
+  @Column(name = "updated_at", nullable = false)
+  private OffsetDateTime updatedAt;
+
+  public UUID getCustomerId() { return customerId; }
+  public void setCustomerId(UUID customerId) { this.customerId = customerId; }
+  public String getCurrency() { return currency; }
+  public void setCurrency(String currency) { this.currency = currency; }
+  public String getStatus() { return status; }
+  public void setStatus(String status) { this.status = status; }
+  public long getAccountCount() { return accountCount; }
+  public void setAccountCount(long accountCount) { this.accountCount = accountCount; }
+  public BigDecimal getTotalBalance() { return totalBalance; }
+  public void setTotalBalance(BigDecimal totalBalance) { this.totalBalance = totalBalance; }
+  public OffsetDateTime getUpdatedAt() { return updatedAt; }
+  public void setUpdatedAt(OffsetDateTime updatedAt) { this.updatedAt = updatedAt; }
+
+  public static class Key implements Serializable {
+
+    private UUID customerId;
+    private String currency;
+    private String status;
+
+    public Key() {
+    }
+
+    public Key(UUID customerId, String currency, String status) {
+      this.customerId = customerId;
+      this.currency = currency;
+      this.status = status;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      return other instanceof Key key
+          && Objects.equals(customerId, key.customerId)
+          && Objects.equals(currency, key.currency)
+          && Objects.equals(status, key.status);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(customerId, currency, status);
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.bank.account.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+// Written and drained over JDBC (OutboxJdbcRepository); mapped so the schema is validated and created in tests.
+@Entity
+@Table(name = "account_outbox")
+public class OutboxEvent {
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "aggregate_id", nullable = false)
+  private UUID aggregateId;
+
+  @Column(name = "event_type", nullable = false, length = 64)
+  private String eventType;
+
+  @Column(name = "payload", nullable = false, columnDefinition = "text")
+  private String payload;
+
+  @Column(name = "created_at", nullable = false)
+  private OffsetDateTime createdAt;
+
+  public Long getId() { return id; }
+  public void setId(Long id) { this.id = id; }
+  public UUID getAggregateId() { return aggregateId; }
+  public void setAggregateId(UUID aggregateId) { this.aggregateId = aggregateId; }
+  public String getEventType() { return eventType; }
+  public void setEventType(String eventType) { this.eventType = eventType; }
+  public String getPayload() { return payload; }
+  public void setPayload(String payload) { this.payload = payload; }
+  public OffsetDateTime getCreatedAt() { return createdAt; }
+  public void setCreatedAt(OffsetDateTime createdAt) { this.createdAt = createdAt; }
+}
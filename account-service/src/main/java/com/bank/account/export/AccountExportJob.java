@@ -0,0 +1,26 @@
+package com.bank.account.export;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/** Nightly snapshot; enable it on one instance only ({@code app.export.enabled}). */
+public class AccountExportJob {
+
+  private static final Logger log = LoggerFactory.getLogger(AccountExportJob.class);
+
+  private final AccountExportService accountExportService;
+
+  public AccountExportJob(AccountExportService accountExportService) {
+    this.accountExportService = accountExportService;
+  }
+
+  @Scheduled(cron = "${app.export.cron:0 30 1 * * *}", zone = "UTC")
+  public void run() {
+    try {
+      accountExportService.export();
+    } catch (RuntimeException ex) {
+      log.error("Accounts export failed", ex);
+    }
+  }
+}
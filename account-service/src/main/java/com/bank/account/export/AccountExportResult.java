@@ -0,0 +1,10 @@
+package com.bank.account.export;
+
+import java.time.Duration;
+
+public record AccountExportResult(String location, long rows, long bytes, Duration duration) {
+
+  public double rowsPerSecond() {
+    return duration.isZero() ? rows : rows * 1_000_000_000.0 / duration.toNanos();
+  }
+}
@@ -0,0 +1,69 @@
+package com.bank.account.export;
+
+import com.bank.account.repository.AccountJdbcRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(ExportProperties.class)
+public class ExportConfig {
+
+  @Bean
+  @ConditionalOnProperty(name = "app.export.storage", havingValue = "s3", matchIfMissing = true)
+  S3Client exportS3Client(ExportProperties properties) {
+    S3ClientBuilder builder = S3Client.builder()
+        .region(Region.of(properties.region()))
+        .forcePathStyle(properties.pathStyleAccess());
+    if (properties.endpoint() != null) {
+      builder.endpointOverride(properties.endpoint());
+    }
+    builder.credentialsProvider(StringUtils.hasText(properties.accessKey())
+        ? StaticCredentialsProvider.create(AwsBasicCredentials.create(properties.accessKey(), properties.secretKey()))
+        : DefaultCredentialsProvider.create());
+    return builder.build();
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "app.export.storage", havingValue = "s3", matchIfMissing = true)
+  ExportStorage s3ExportStorage(S3Client exportS3Client, ExportProperties properties) {
+    return new S3ExportStorage(exportS3Client, properties.bucket(), (int) properties.partSize().toBytes());
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "app.export.storage", havingValue = "filesystem")
+  ExportStorage fileSystemExportStorage(ExportProperties properties) throws IOException {
+    return new FileSystemExportStorage(Files.createDirectories(properties.directory()));
+  }
+
+  @Bean
+  AccountExportService accountExportService(
+      AccountJdbcRepository accountJdbcRepository,
+      ExportStorage exportStorage,
+      PlatformTransactionManager transactionManager,
+      ExportProperties properties,
+      MeterRegistry meterRegistry) {
+    return new AccountExportService(
+        accountJdbcRepository, exportStorage, transactionManager, properties.keyPrefix(), meterRegistry);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "app.export.enabled", havingValue = "true")
+  AccountExportJob accountExportJob(AccountExportService accountExportService) {
+    return new AccountExportJob(accountExportService);
+  }
+}
@@ -0,0 +1,22 @@
+package com.bank.account.export;
+
+import java.net.URI;
+import java.nio.file.Path;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "app.export")
+public record ExportProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("0 30 1 * * *") String cron,
+    @DefaultValue("s3") String storage,
+    @DefaultValue("accounts/") String keyPrefix,
+    @DefaultValue("account-exports") String bucket,
+    URI endpoint,
+    @DefaultValue("us-east-1") String region,
+    String accessKey,
+    String secretKey,
+    @DefaultValue("true") boolean pathStyleAccess,
+    @DefaultValue("16MB") DataSize partSize,
+    @DefaultValue("${java.io.tmpdir}/account-exports") Path directory) {}
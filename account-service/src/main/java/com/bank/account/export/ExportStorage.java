@@ -0,0 +1,11 @@
+package com.bank.account.export;
+
+import java.io.IOException;
+
+public interface ExportStorage {
+
+  ExportUpload open(String key) throws IOException;
+
+  /** Where the object can be found afterwards, for logs and the job result. */
+  String location(String key);
+}
@@ -0,0 +1,9 @@
+package com.bank.account.export;
+
+import java.io.OutputStream;
+
+/** Bytes written are the object's content; {@link #close()} publishes it, {@link #abort()} discards it. */
+public abstract class ExportUpload extends OutputStream {
+
+  public abstract void abort();
+}
@@ -0,0 +1,57 @@
+package com.bank.account.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/** Local stand-in for the object store: written to a temporary file and moved into place on close. */
+public class FileSystemExportStorage implements ExportStorage {
+
+  private final Path directory;
+
+  public FileSystemExportStorage(Path directory) {
+    this.directory = directory;
+  }
+
+  @Override
+  public ExportUpload open(String key) throws IOException {
+    Path target = directory.resolve(key);
+    Files.createDirectories(target.getParent());
+    Path partial = target.resolveSibling(target.getFileName() + ".partial");
+    OutputStream out = Files.newOutputStream(partial);
+    return new ExportUpload() {
+      @Override
+      public void write(int b) throws IOException {
+        out.write(b);
+      }
+
+      @Override
+      public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+      }
+
+      @Override
+      public void close() throws IOException {
+        out.close();
+        Files.move(partial, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      }
+
+      @Override
+      public void abort() {
+        try {
+          out.close();
+          Files.deleteIfExists(partial);
+        } catch (IOException ignored) {
+          // Best effort: a leftover .partial file is never mistaken for an export.
+        }
+      }
+    };
+  }
+
+  @Override
+  public String location(String key) {
+    return directory.resolve(key).toUri().toString();
+  }
+}
@@ -0,0 +1,113 @@
+package com.bank.account.export;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+/**
+ * Multipart upload to an S3-compatible store (MinIO locally). Only one part is ever held in memory: a full buffer is
+ * uploaded synchronously, which also back-pressures the producer. An export smaller than one part is a single PUT.
+ */
+public class S3ExportStorage implements ExportStorage {
+
+  private final S3Client s3Client;
+  private final String bucket;
+  private final int partSize;
+
+  public S3ExportStorage(S3Client s3Client, String bucket, int partSize) {
+    this.s3Client = s3Client;
+    this.bucket = bucket;
+    this.partSize = partSize;
+  }
+
+  @Override
+  public ExportUpload open(String key) {
+    return new MultipartUpload(key);
+  }
+
+  @Override
+  public String location(String key) {
+    return "s3://" + bucket + "/" + key;
+  }
+
+  private final class MultipartUpload extends ExportUpload {
+
+    private final String key;
+    private final byte[] buffer = new byte[partSize];
+    private final List<CompletedPart> parts = new ArrayList<>();
+    private int filled;
+    private String uploadId;
+
+    private MultipartUpload(String key) {
+      this.key = key;
+    }
+
+    @Override
+    public void write(int b) {
+      if (filled == buffer.length) {
+        uploadPart();
+      }
+      buffer[filled++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+      while (len > 0) {
+        if (filled == buffer.length) {
+          uploadPart();
+        }
+        int chunk = Math.min(len, buffer.length - filled);
+        System.arraycopy(b, off, buffer, filled, chunk);
+        filled += chunk;
+        off += chunk;
+        len -= chunk;
+      }
+    }
+
+    @Override
+    public void close() {
+      if (uploadId == null) {
+        s3Client.putObject(
+            request -> request.bucket(bucket).key(key), content());
+        return;
+      }
+      if (filled > 0) {
+        uploadPart();
+      }
+      s3Client.completeMultipartUpload(request -> request
+          .bucket(bucket)
+          .key(key)
+          .uploadId(uploadId)
+          .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build()));
+    }
+
+    @Override
+    public void abort() {
+      if (uploadId != null) {
+        s3Client.abortMultipartUpload(request -> request.bucket(bucket).key(key).uploadId(uploadId));
+      }
+    }
+
+    // The buffer is re-used for the next part only after the synchronous call returns.
+    private RequestBody content() {
+      return RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, filled), filled);
+    }
+
+    private void uploadPart() {
+      if (uploadId == null) {
+        uploadId = s3Client.createMultipartUpload(request -> request.bucket(bucket).key(key)).uploadId();
+      }
+      int partNumber = parts.size() + 1;
+      UploadPartResponse response = s3Client.uploadPart(
+          request -> request.bucket(bucket).key(key).uploadId(uploadId).partNumber(partNumber),
+          content());
+      parts.add(CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build());
+      filled = 0;
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package com.bank.account.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+@Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
+public class IdempotencyConfig {
+
+  @Bean
+  @ConditionalOnProperty(name = "app.idempotency.store", havingValue = "redis", matchIfMissing = true)
+  IdempotencyStore redisIdempotencyStore(
+      StringRedisTemplate redisTemplate, ObjectMapper objectMapper, IdempotencyProperties properties) {
+    return new RedisIdempotencyStore(redisTemplate, objectMapper, properties.keyPrefix());
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "app.idempotency.store", havingValue = "memory")
+  IdempotencyStore inMemoryIdempotencyStore(IdempotencyProperties properties) {
+    return new InMemoryIdempotencyStore(properties.maximumSize());
+  }
+}
@@ -0,0 +1,14 @@
+package com.bank.account.idempotency;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.idempotency")
+public record IdempotencyProperties(
+    @DefaultValue("redis") String store,
+    @DefaultValue("24h") Duration ttl,
+    @DefaultValue("30s") Duration inProgressTtl,
+    @DefaultValue("5s") Duration waitTimeout,
+    @DefaultValue("100000") long maximumSize,
+    @DefaultValue("idempotency:v1:") String keyPrefix) {}
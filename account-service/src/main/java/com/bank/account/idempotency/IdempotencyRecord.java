@@ -0,0 +1,15 @@
+package com.bank.account.idempotency;
+
+/**
+ * What the store keeps per key: the request fingerprint and, once the first execution finished, its response body.
+ */
+public record IdempotencyRecord(String fingerprint, boolean completed, String body) {
+
+  public static IdempotencyRecord inProgress(String fingerprint) {
+    return new IdempotencyRecord(fingerprint, false, null);
+  }
+
+  public static IdempotencyRecord completed(String fingerprint, String body) {
+    return new IdempotencyRecord(fingerprint, true, body);
+  }
+}
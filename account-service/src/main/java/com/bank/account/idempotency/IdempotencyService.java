@@ -0,0 +1,202 @@
+package com.bank.account.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Runs an operation at most once per {@code Idempotency-Key}. The first execution's response is stored; a retry with
+ * the same key and payload gets it back without running the operation, and a duplicate that arrives while the first
+ * is still running waits for it. Failed executions are not stored, so they can be retried.
+ */
+@Service
+public class IdempotencyService {
+
+  private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
+  private static final int MAX_KEY_LENGTH = 255;
+  private static final long POLL_INTERVAL_MILLIS = 50;
+
+  private final IdempotencyStore store;
+  private final ObjectMapper objectMapper;
+  private final IdempotencyProperties properties;
+  // Same-instance duplicates wait on the running execution; duplicates on other instances poll the store.
+  private final Map<String, CompletableFuture<IdempotencyRecord>> inFlight = new ConcurrentHashMap<>();
+  private final Counter executed;
+  private final Counter replayed;
+  private final Counter storeErrors;
+
+  public IdempotencyService(
+      IdempotencyStore store, ObjectMapper objectMapper, IdempotencyProperties properties, MeterRegistry meterRegistry) {
+    this.store = store;
+    this.objectMapper = objectMapper;
+    this.properties = properties;
+    this.executed = requests(meterRegistry, "executed");
+    this.replayed = requests(meterRegistry, "replayed");
+    this.storeErrors = Counter.builder("idempotency.store.errors")
+        .description("Idempotency store operations that failed; the request ran without de-duplication")
+        .register(meterRegistry);
+  }
+
+  public <T> IdempotentResult<T> execute(String key, Object request, Class<T> responseType, Supplier<T> operation) {
+    if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+      throw new ResponseStatusException(
+          HttpStatus.BAD_REQUEST, "Idempotency-Key must be 1 to " + MAX_KEY_LENGTH + " characters");
+    }
+    String fingerprint = fingerprint(request);
+
+    CompletableFuture<IdempotencyRecord> execution = new CompletableFuture<>();
+    CompletableFuture<IdempotencyRecord> running = inFlight.putIfAbsent(key, execution);
+    if (running != null) {
+      return replay(awaitLocal(running), fingerprint, responseType);
+    }
+    try {
+      Optional<IdempotencyRecord> existing = claim(key, fingerprint);
+      if (existing.isPresent()) {
+        IdempotencyRecord record = existing.get().completed() ? existing.get() : awaitStore(key);
+        execution.complete(record);
+        return replay(record, fingerprint, responseType);
+      }
+      T response = run(key, operation);
+      IdempotencyRecord completed = IdempotencyRecord.completed(fingerprint, write(response));
+      try {
+        store.complete(key, completed, properties.ttl());
+      } catch (RuntimeException ex) {
+        storeFailed("complete", ex);
+      }
+      execution.complete(completed);
+      executed.increment();
+      return new IdempotentResult<>(response, false);
+    } catch (RuntimeException ex) {
+      execution.completeExceptionally(ex);
+      throw ex;
+    } finally {
+      inFlight.remove(key, execution);
+    }
+  }
+
+  private Optional<IdempotencyRecord> claim(String key, String fingerprint) {
+    try {
+      return store.claim(key, IdempotencyRecord.inProgress(fingerprint), properties.inProgressTtl());
+    } catch (RuntimeException ex) {
+      // The store only de-duplicates; the unique account number still rejects a real duplicate.
+      storeFailed("claim", ex);
+      return Optional.empty();
+    }
+  }
+
+  private <T> T run(String key, Supplier<T> operation) {
+    try {
+      return operation.get();
+    } catch (RuntimeException ex) {
+      try {
+        store.release(key);
+      } catch (RuntimeException releaseFailure) {
+        storeFailed("release", releaseFailure);
+      }
+      throw ex;
+    }
+  }
+
+  private IdempotencyRecord awaitLocal(CompletableFuture<IdempotencyRecord> running) {
+    try {
+      return running.get(properties.waitTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw new IllegalStateException(ex.getCause());
+    } catch (TimeoutException ex) {
+      throw stillInProgress();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw stillInProgress();
+    }
+  }
+
+  private IdempotencyRecord awaitStore(String key) {
+    long deadline = System.nanoTime() + properties.waitTimeout().toNanos();
+    while (System.nanoTime() < deadline) {
+      try {
+        Thread.sleep(POLL_INTERVAL_MILLIS);
+      } catch (InterruptedException ex) {
+        Thread.currentThread().interrupt();
+        break;
+      }
+      Optional<IdempotencyRecord> current = store.find(key);
+      if (current.isEmpty()) {
+        // The other execution failed and released the key; the client may retry.
+        throw new ResponseStatusException(HttpStatus.CONFLICT, "Concurrent request with this Idempotency-Key failed");
+      }
+      if (current.get().completed()) {
+        return current.get();
+      }
+    }
+    throw stillInProgress();
+  }
+
+  private <T> IdempotentResult<T> replay(IdempotencyRecord record, String fingerprint, Class<T> responseType) {
+    if (!record.fingerprint().equals(fingerprint)) {
+      throw new ResponseStatusException(
+          HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency-Key was already used with a different request");
+    }
+    replayed.increment();
+    try {
+      return new IdempotentResult<>(objectMapper.readValue(record.body(), responseType), true);
+    } catch (JsonProcessingException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  private String fingerprint(Object request) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+      return HexFormat.of().formatHex(digest);
+    } catch (JsonProcessingException ex) {
+      throw new UncheckedIOException(ex);
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  private String write(Object response) {
+    try {
+      return objectMapper.writeValueAsString(response);
+    } catch (JsonProcessingException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  private static ResponseStatusException stillInProgress() {
+    return new ResponseStatusException(HttpStatus.CONFLICT, "A request with this Idempotency-Key is still in progress");
+  }
+
+  private void storeFailed(String operation, RuntimeException ex) {
+    storeErrors.increment();
+    log.warn("Idempotency store {} failed: {}", operation, ex.getMessage());
+  }
+
+  private static Counter requests(MeterRegistry meterRegistry, String outcome) {
+    return Counter.builder("idempotency.requests")
+        .description("Requests carrying an Idempotency-Key, by outcome")
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+}
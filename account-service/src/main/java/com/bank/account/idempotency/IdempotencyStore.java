@@ -0,0 +1,17 @@
+package com.bank.account.idempotency;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public interface IdempotencyStore {
+
+  /** Claims {@code key} for a new execution, or returns the record already held for it. */
+  Optional<IdempotencyRecord> claim(String key, IdempotencyRecord inProgress, Duration ttl);
+
+  Optional<IdempotencyRecord> find(String key);
+
+  void complete(String key, IdempotencyRecord completed, Duration ttl);
+
+  /** Drops a claim whose execution failed, so a retry runs again. */
+  void release(String key);
+}
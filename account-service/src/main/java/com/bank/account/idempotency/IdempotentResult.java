@@ -0,0 +1,3 @@
+package com.bank.account.idempotency;
+
+public record IdempotentResult<T>(T body, boolean replayed) {}
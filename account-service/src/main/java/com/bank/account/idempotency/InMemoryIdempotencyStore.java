@@ -0,0 +1,58 @@
+package com.bank.account.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Duration;
+import java.util.Optional;
+
+/** Single-instance store; keys are not shared between replicas of the service. */
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+  private final Cache<String, Entry> cache;
+
+  public InMemoryIdempotencyStore(long maximumSize) {
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfter(new Expiry<String, Entry>() {
+          @Override
+          public long expireAfterCreate(String key, Entry entry, long currentTime) {
+            return entry.ttl().toNanos();
+          }
+
+          @Override
+          public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+            return entry.ttl().toNanos();
+          }
+
+          @Override
+          public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+          }
+        })
+        .build();
+  }
+
+  @Override
+  public Optional<IdempotencyRecord> claim(String key, IdempotencyRecord inProgress, Duration ttl) {
+    Entry existing = cache.asMap().putIfAbsent(key, new Entry(inProgress, ttl));
+    return existing == null ? Optional.empty() : Optional.of(existing.record());
+  }
+
+  @Override
+  public Optional<IdempotencyRecord> find(String key) {
+    return Optional.ofNullable(cache.getIfPresent(key)).map(Entry::record);
+  }
+
+  @Override
+  public void complete(String key, IdempotencyRecord completed, Duration ttl) {
+    cache.put(key, new Entry(completed, ttl));
+  }
+
+  @Override
+  public void release(String key) {
+    cache.invalidate(key);
+  }
+
+  private record Entry(IdempotencyRecord record, Duration ttl) {}
+}
@@ -0,0 +1,69 @@
+package com.bank.account.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/** Shared store: a key claimed on one instance is seen by every instance. */
+public class RedisIdempotencyStore implements IdempotencyStore {
+
+  private final StringRedisTemplate redisTemplate;
+  private final ObjectMapper objectMapper;
+  private final String keyPrefix;
+
+  public RedisIdempotencyStore(StringRedisTemplate redisTemplate, ObjectMapper objectMapper, String keyPrefix) {
+    this.redisTemplate = redisTemplate;
+    this.objectMapper = objectMapper;
+    this.keyPrefix = keyPrefix;
+  }
+
+  @Override
+  public Optional<IdempotencyRecord> claim(String key, IdempotencyRecord inProgress, Duration ttl) {
+    Boolean claimed = redisTemplate.opsForValue().setIfAbsent(redisKey(key), write(inProgress), ttl);
+    if (Boolean.TRUE.equals(claimed)) {
+      return Optional.empty();
+    }
+    Optional<IdempotencyRecord> existing = find(key);
+    // The holder expired between the two calls; report it as in progress and let the caller poll again.
+    return existing.isPresent() ? existing : Optional.of(inProgress);
+  }
+
+  @Override
+  public Optional<IdempotencyRecord> find(String key) {
+    String json = redisTemplate.opsForValue().get(redisKey(key));
+    return json == null ? Optional.empty() : Optional.of(read(json));
+  }
+
+  @Override
+  public void complete(String key, IdempotencyRecord completed, Duration ttl) {
+    redisTemplate.opsForValue().set(redisKey(key), write(completed), ttl);
+  }
+
+  @Override
+  public void release(String key) {
+    redisTemplate.delete(redisKey(key));
+  }
+
+  private String redisKey(String key) {
+    return keyPrefix + key;
+  }
+
+  private String write(IdempotencyRecord record) {
+    try {
+      return objectMapper.writeValueAsString(record);
+    } catch (JsonProcessingException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+  private IdempotencyRecord read(String json) {
+    try {
+      return objectMapper.readValue(json, IdempotencyRecord.class);
+    } catch (JsonProcessingException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package com.bank.account.limiter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Sheds account API requests beyond the adaptive in-flight limit with 503 and {@code Retry-After}, before they take a
+ * request thread's worth of memory and a place in the connection queue. Reads ({@code GET}, {@code HEAD} and the
+ * multi-get lookup) and writes have separate limits, so a write backlog does not starve cheap reads.
+ */
+public class AdaptiveConcurrencyLimitFilter extends OncePerRequestFilter {
+
+  private static final byte[] REJECTED_BODY = """
+      {"type":"about:blank","title":"Service Unavailable","status":503,\
+      "detail":"Too many concurrent requests, retry later"}""".getBytes(StandardCharsets.UTF_8);
+
+  private final AdaptiveConcurrencyLimiter reads;
+  private final AdaptiveConcurrencyLimiter writes;
+  private final String retryAfterSeconds;
+
+  public AdaptiveConcurrencyLimitFilter(
+      AdaptiveConcurrencyLimiter reads, AdaptiveConcurrencyLimiter writes, long retryAfterSeconds) {
+    this.reads = reads;
+    this.writes = writes;
+    this.retryAfterSeconds = String.valueOf(Math.max(1, retryAfterSeconds));
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    AdaptiveConcurrencyLimiter.Permit permit = (isRead(request) ? reads : writes).tryAcquire();
+    if (permit == null) {
+      response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+      response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+      response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+      response.getOutputStream().write(REJECTED_BODY);
+      return;
+    }
+
+    try {
+      chain.doFilter(request, response);
+    } catch (IOException | ServletException | RuntimeException ex) {
+      permit.onIgnore();
+      throw ex;
+    }
+    int status = response.getStatus();
+    if (status == HttpStatus.SERVICE_UNAVAILABLE.value() || status == HttpStatus.GATEWAY_TIMEOUT.value()) {
+      // The database limiter or pool gave up (DatabaseUnavailableHandler): the clearest overload signal there is.
+      permit.onDropped();
+    } else if (status >= 500) {
+      permit.onIgnore();
+    } else {
+      permit.onSuccess();
+    }
+  }
+
+  private static boolean isRead(HttpServletRequest request) {
+    String method = request.getMethod();
+    return "GET".equals(method) || "HEAD".equals(method)
+        || ("POST".equals(method) && request.getRequestURI().endsWith("/lookup"));
+  }
+}
@@ -0,0 +1,76 @@
+package com.bank.account.limiter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** Admits requests while fewer than the current {@link GradientLimit} are in flight; the rest are rejected at once. */
+public class AdaptiveConcurrencyLimiter {
+
+  private final GradientLimit limit;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final Counter rejected;
+
+  public AdaptiveConcurrencyLimiter(
+      String group, ApiConcurrencyLimitProperties.Group properties, MeterRegistry registry) {
+    this.limit = new GradientLimit(properties);
+    Gauge.builder("http.concurrency.limit", limit, GradientLimit::limit)
+        .description("Current adaptive in-flight limit")
+        .tag("group", group)
+        .register(registry);
+    Gauge.builder("http.concurrency.in-flight", inFlight, AtomicInteger::get)
+        .tag("group", group)
+        .register(registry);
+    this.rejected = Counter.builder("http.concurrency.rejected")
+        .description("Requests shed with 503 because the limit was reached")
+        .tag("group", group)
+        .register(registry);
+  }
+
+  /** A permit to release through exactly one of its methods, or null when the request must be shed. */
+  public Permit tryAcquire() {
+    int current = limit.limit();
+    for (int taken = inFlight.get(); ; taken = inFlight.get()) {
+      if (taken >= current) {
+        rejected.increment();
+        return null;
+      }
+      if (inFlight.compareAndSet(taken, taken + 1)) {
+        return new Permit(System.nanoTime(), taken + 1);
+      }
+    }
+  }
+
+  public int limit() {
+    return limit.limit();
+  }
+
+  public final class Permit {
+
+    private final long startedNanos;
+    private final int inFlightAtStart;
+
+    private Permit(long startedNanos, int inFlightAtStart) {
+      this.startedNanos = startedNanos;
+      this.inFlightAtStart = inFlightAtStart;
+    }
+
+    /** Completed normally: its latency feeds the limit. */
+    public void onSuccess() {
+      inFlight.decrementAndGet();
+      limit.onSample(System.nanoTime() - startedNanos, inFlightAtStart, false);
+    }
+
+    /** Failed because a downstream was overloaded or timed out: the limit backs off. */
+    public void onDropped() {
+      inFlight.decrementAndGet();
+      limit.onSample(System.nanoTime() - startedNanos, inFlightAtStart, true);
+    }
+
+    /** Finished in a way that says nothing about capacity (e.g. a client error). */
+    public void onIgnore() {
+      inFlight.decrementAndGet();
+    }
+  }
+}
@@ -0,0 +1,27 @@
+package com.bank.account.limiter;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ApiConcurrencyLimitProperties.class)
+@ConditionalOnProperty(name = "app.api.concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ApiConcurrencyLimitConfig {
+
+  // Runs after the security filters: unauthenticated requests are refused there and never hold a permit.
+  @Bean
+  FilterRegistrationBean<AdaptiveConcurrencyLimitFilter> adaptiveConcurrencyLimitFilter(
+      ApiConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+    FilterRegistrationBean<AdaptiveConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+        new AdaptiveConcurrencyLimitFilter(
+            new AdaptiveConcurrencyLimiter("reads", properties.reads(), meterRegistry),
+            new AdaptiveConcurrencyLimiter("writes", properties.writes(), meterRegistry),
+            properties.retryAfter().toSeconds()));
+    registration.addUrlPatterns("/api/accounts", "/api/accounts/*");
+    return registration;
+  }
+}
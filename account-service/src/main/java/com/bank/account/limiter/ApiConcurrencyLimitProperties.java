@@ -0,0 +1,25 @@
+package com.bank.account.limiter;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.api.concurrency-limit")
+public record ApiConcurrencyLimitProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue Group reads,
+    @DefaultValue Group writes,
+    @DefaultValue("1s") Duration retryAfter) {
+
+  /**
+   * One limit. {@code tolerance} is how much the current latency may exceed the long-term average before the limit
+   * shrinks; {@code smoothing} is the weight of each new estimate.
+   */
+  public record Group(
+      @DefaultValue("20") int initialLimit,
+      @DefaultValue("4") int minLimit,
+      @DefaultValue("200") int maxLimit,
+      @DefaultValue("2.0") double tolerance,
+      @DefaultValue("0.2") double smoothing,
+      @DefaultValue("600") int longWindow) {}
+}
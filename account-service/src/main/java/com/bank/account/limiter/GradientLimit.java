@@ -0,0 +1,57 @@
+package com.bank.account.limiter;
+
+/**
+ * Gradient concurrency limit: compares each request's latency with a long-term average and shrinks the limit as the
+ * ratio falls, or grows it by a queue allowance of {@code sqrt(limit)} while latency holds. Requests dropped because
+ * the downstream was overloaded cut the limit multiplicatively (AIMD). Samples taken while the limit is far from
+ * reached say nothing about it and are ignored.
+ */
+final class GradientLimit {
+
+  private static final double BACKOFF_RATIO = 0.9;
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double tolerance;
+  private final double smoothing;
+  private final int longWindow;
+  private double limit;
+  private double longRttNanos;
+
+  GradientLimit(ApiConcurrencyLimitProperties.Group group) {
+    if (group.minLimit() < 1 || group.maxLimit() < group.minLimit()) {
+      throw new IllegalArgumentException("Concurrency limit bounds must satisfy 1 <= min-limit <= max-limit");
+    }
+    this.minLimit = group.minLimit();
+    this.maxLimit = group.maxLimit();
+    this.tolerance = group.tolerance();
+    this.smoothing = group.smoothing();
+    this.longWindow = Math.max(1, group.longWindow());
+    this.limit = Math.clamp(group.initialLimit(), minLimit, maxLimit);
+  }
+
+  synchronized int limit() {
+    return (int) limit;
+  }
+
+  synchronized void onSample(long rttNanos, int inFlight, boolean dropped) {
+    if (dropped) {
+      limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+      return;
+    }
+    if (rttNanos <= 0) {
+      return;
+    }
+    longRttNanos = longRttNanos == 0 ? rttNanos : longRttNanos + (rttNanos - longRttNanos) / longWindow;
+    // After a long slowdown the average lags far behind recovery; pull it down so the limit can grow again.
+    if (longRttNanos / rttNanos > 2) {
+      longRttNanos *= 0.95;
+    }
+    if (inFlight < limit / 2) {
+      return;
+    }
+    double gradient = Math.clamp(tolerance * longRttNanos / rttNanos, 0.5, 1.0);
+    double estimate = limit * gradient + Math.sqrt(limit);
+    limit = Math.clamp(limit * (1 - smoothing) + estimate * smoothing, minLimit, maxLimit);
+  }
+}
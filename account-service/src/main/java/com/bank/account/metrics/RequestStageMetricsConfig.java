@@ -0,0 +1,51 @@
+package com.bank.account.metrics;
+
+import java.util.List;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.validation.SmartValidator;
+import org.springframework.validation.Validator;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Times validation and (de)serialization when {@link StageTimers} is in the context. {@code @WebMvcTest} slices load
+ * this configurer but not plain components, and then get Spring MVC's defaults.
+ */
+@Configuration
+public class RequestStageMetricsConfig implements WebMvcConfigurer {
+
+  private final ObjectProvider<jakarta.validation.Validator> validator;
+  private final ObjectProvider<StageTimers> stageTimers;
+
+  public RequestStageMetricsConfig(
+      ObjectProvider<jakarta.validation.Validator> validator, ObjectProvider<StageTimers> stageTimers) {
+    this.validator = validator;
+    this.stageTimers = stageTimers;
+  }
+
+  @Override
+  public Validator getValidator() {
+    StageTimers timers = stageTimers.getIfAvailable();
+    if (timers == null) {
+      return null;
+    }
+    jakarta.validation.Validator target = validator.getObject();
+    return new TimedValidator(
+        target instanceof SmartValidator smart ? smart : new SpringValidatorAdapter(target), timers);
+  }
+
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    StageTimers timers = stageTimers.getIfAvailable();
+    if (timers == null) {
+      return;
+    }
+    converters.replaceAll(converter -> converter instanceof MappingJackson2HttpMessageConverter jackson
+        && !(converter instanceof TimedJacksonConverter)
+            ? new TimedJacksonConverter(jackson.getObjectMapper(), timers)
+            : converter);
+  }
+}
@@ -0,0 +1,39 @@
+package com.bank.account.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times the stages of a request ({@code account.request.stage}, tagged by stage) so a slow endpoint can be split into
+ * validation, (de)serialization and the service's database steps. Histogram buckets come from
+ * {@code management.metrics.distribution.slo.account.request.stage}.
+ */
+@Component
+public class StageTimers {
+
+  private final MeterRegistry meterRegistry;
+  private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+  public StageTimers(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  public <T> T record(String stage, Supplier<T> work) {
+    return timer(stage).record(work);
+  }
+
+  public void record(String stage, Runnable work) {
+    timer(stage).record(work);
+  }
+
+  public Timer timer(String stage) {
+    return timers.computeIfAbsent(stage, name -> Timer.builder("account.request.stage")
+        .description("Time spent in one stage of handling a request")
+        .tag("stage", name)
+        .register(meterRegistry));
+  }
+}
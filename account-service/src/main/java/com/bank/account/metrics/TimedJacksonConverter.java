@@ -0,0 +1,47 @@
+package com.bank.account.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Times reading and writing JSON bodies as the {@code deserialization} and {@code serialization} stages. Writing
+ * includes flushing to the response, so a slow client shows up here too.
+ */
+public class TimedJacksonConverter extends MappingJackson2HttpMessageConverter {
+
+  private final StageTimers stageTimers;
+
+  public TimedJacksonConverter(ObjectMapper objectMapper, StageTimers stageTimers) {
+    super(objectMapper);
+    this.stageTimers = stageTimers;
+  }
+
+  @Override
+  public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage)
+      throws IOException, HttpMessageNotReadableException {
+    long started = System.nanoTime();
+    try {
+      return super.read(type, contextClass, inputMessage);
+    } finally {
+      stageTimers.timer("deserialization").record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  @Override
+  protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+      throws IOException, HttpMessageNotWritableException {
+    long started = System.nanoTime();
+    try {
+      super.writeInternal(object, type, outputMessage);
+    } finally {
+      stageTimers.timer("serialization").record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package com.bank.account.metrics;
+
+import org.springframework.validation.Errors;
+import org.springframework.validation.SmartValidator;
+
+/** Times Bean Validation of {@code @Valid} request bodies as the {@code validation} stage. */
+public class TimedValidator implements SmartValidator {
+
+  private final SmartValidator delegate;
+  private final StageTimers stageTimers;
+
+  public TimedValidator(SmartValidator delegate, StageTimers stageTimers) {
+    this.delegate = delegate;
+    this.stageTimers = stageTimers;
+  }
+
+  @Override
+  public boolean supports(Class<?> clazz) {
+    return delegate.supports(clazz);
+  }
+
+  @Override
+  public void validate(Object target, Errors errors) {
+    stageTimers.record("validation", () -> delegate.validate(target, errors));
+  }
+
+  @Override
+  public void validate(Object target, Errors errors, Object... validationHints) {
+    stageTimers.record("validation", () -> delegate.validate(target, errors, validationHints));
+  }
+
+  @Override
+  public void validateValue(
+      Class<?> targetType, String fieldName, Object value, Errors errors, Object... validationHints) {
+    stageTimers.record("validation",
+        () -> delegate.validateValue(targetType, fieldName, value, errors, validationHints));
+  }
+}
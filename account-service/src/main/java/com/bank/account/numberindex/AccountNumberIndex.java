@@ -0,0 +1,144 @@
+package com.bank.account.numberindex;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Collection;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory set of every account number, as a Bloom filter: "absent" is definite for the numbers it was given and
+ * "present" may be wrong, so only absent answers skip the database. Until the first build has finished every number
+ * may exist. Numbers are added before their insert commits (a rollback only leaves a false positive); writes by other
+ * instances arrive through {@link AccountNumberIndexSync}'s catch-up, so for up to one catch-up interval they read as
+ * absent here.
+ *
+ * <p>Adds share a read lock and swapping filters takes the write lock, so an add lands in the filter that survives.
+ * Lookups take no lock.
+ */
+public class AccountNumberIndex {
+
+  private final long minimumInsertions;
+  private final double growth;
+  private final double falsePositiveProbability;
+  private final Counter absent;
+  private final Counter maybe;
+  private final Counter falsePositives;
+  private volatile BloomFilter filter;
+  private volatile BloomFilter building;
+  private final ReentrantReadWriteLock swap = new ReentrantReadWriteLock();
+
+  public AccountNumberIndex(AccountNumberIndexProperties properties, MeterRegistry meterRegistry) {
+    this.minimumInsertions = properties.expectedInsertions();
+    this.growth = Math.max(1, properties.growth());
+    this.falsePositiveProbability = properties.falsePositiveProbability();
+    this.absent = checks(meterRegistry, "absent");
+    this.maybe = checks(meterRegistry, "maybe");
+    this.falsePositives = Counter.builder("account.number.index.false.positives")
+        .description("Numbers the index reported as maybe present that the database did not have")
+        .register(meterRegistry);
+    Gauge.builder("account.number.index.memory", this, AccountNumberIndex::memoryBytes)
+        .description("Bytes held by the filter, including one being rebuilt")
+        .baseUnit("bytes")
+        .register(meterRegistry);
+    Gauge.builder("account.number.index.expected.fpp", this,
+            index -> index.filter == null ? 1 : index.filter.expectedFalsePositiveProbability())
+        .description("False positive probability implied by the bits set so far")
+        .register(meterRegistry);
+  }
+
+  public boolean ready() {
+    return filter != null;
+  }
+
+  /** False only when the number definitely does not exist. */
+  public boolean mightExist(String accountNumber) {
+    BloomFilter current = filter;
+    if (current == null) {
+      return true;
+    }
+    if (current.mightContain(accountNumber)) {
+      maybe.increment();
+      return true;
+    }
+    absent.increment();
+    return false;
+  }
+
+  /** The database had no row for numbers {@link #mightExist} let through. */
+  public void recordFalsePositives(int count) {
+    falsePositives.increment(count);
+  }
+
+  public void add(String accountNumber) {
+    Lock lock = swap.readLock();
+    lock.lock();
+    try {
+      put(accountNumber);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  public void addAll(Collection<String> accountNumbers) {
+    Lock lock = swap.readLock();
+    lock.lock();
+    try {
+      accountNumbers.forEach(this::put);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  /** An empty filter sized for {@code rows}; {@link #add} feeds it too until {@link #finishRebuild}. */
+  public BloomFilter startRebuild(long rows) {
+    BloomFilter next = BloomFilter.create(
+        Math.max(minimumInsertions, (long) (rows * growth)), falsePositiveProbability);
+    swapped(next, filter);
+    return next;
+  }
+
+  public void finishRebuild(BloomFilter rebuilt) {
+    swapped(null, rebuilt);
+  }
+
+  public void abortRebuild() {
+    swapped(null, filter);
+  }
+
+  private void put(String accountNumber) {
+    BloomFilter current = filter;
+    if (current != null) {
+      current.put(accountNumber);
+    }
+    BloomFilter next = building;
+    if (next != null) {
+      next.put(accountNumber);
+    }
+  }
+
+  private void swapped(BloomFilter nextBuilding, BloomFilter nextFilter) {
+    Lock lock = swap.writeLock();
+    lock.lock();
+    try {
+      building = nextBuilding;
+      filter = nextFilter;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private double memoryBytes() {
+    BloomFilter current = filter;
+    BloomFilter next = building;
+    return (current == null ? 0 : current.sizeInBytes()) + (next == null ? 0 : next.sizeInBytes());
+  }
+
+  private static Counter checks(MeterRegistry meterRegistry, String result) {
+    return Counter.builder("account.number.index.checks")
+        .description("Account number index lookups; absent answers skip the database")
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
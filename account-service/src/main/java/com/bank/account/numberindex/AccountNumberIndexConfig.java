@@ -0,0 +1,46 @@
+package com.bank.account.numberindex;
+
+import com.bank.account.datasource.ReadRouting;
+import com.bank.account.repository.AccountNumberJdbcRepository;
+import com.bank.account.repository.AccountTableLayout;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@EnableConfigurationProperties(AccountNumberIndexProperties.class)
+public class AccountNumberIndexConfig {
+
+  // Until the sync has built it every number may exist, so with the sync off callers always ask the database.
+  @Bean
+  AccountNumberIndex accountNumberIndex(AccountNumberIndexProperties properties, MeterRegistry meterRegistry) {
+    return new AccountNumberIndex(properties, meterRegistry);
+  }
+
+  @Configuration(proxyBeanMethods = false)
+  @EnableScheduling
+  @ConditionalOnProperty(name = "app.accounts.number-index.enabled", havingValue = "true", matchIfMissing = true)
+  static class Sync {
+
+    @Bean
+    AccountNumberIndexSync accountNumberIndexSync(
+        AccountNumberJdbcRepository accountNumberJdbcRepository,
+        AccountNumberIndex accountNumberIndex,
+        AccountTableLayout accountTableLayout,
+        ReadRouting readRouting,
+        PlatformTransactionManager transactionManager,
+        AccountNumberIndexProperties properties) {
+      return new AccountNumberIndexSync(accountNumberJdbcRepository, accountNumberIndex, accountTableLayout,
+          readRouting, transactionManager, properties);
+    }
+
+    @Bean
+    AccountNumberIndexJob accountNumberIndexJob(AccountNumberIndexSync accountNumberIndexSync) {
+      return new AccountNumberIndexJob(accountNumberIndexSync);
+    }
+  }
+}
@@ -0,0 +1,43 @@
+package com.bank.account.numberindex;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Builds the number index at startup and again every {@code resync-interval-ms}, and catches up in between. The
+ * rebuild streams the whole table, so it runs on its own virtual thread rather than holding up the shared scheduler
+ * (and the outbox relay behind it).
+ */
+public class AccountNumberIndexJob {
+
+  private static final Logger log = LoggerFactory.getLogger(AccountNumberIndexJob.class);
+
+  private final AccountNumberIndexSync accountNumberIndexSync;
+
+  public AccountNumberIndexJob(AccountNumberIndexSync accountNumberIndexSync) {
+    this.accountNumberIndexSync = accountNumberIndexSync;
+  }
+
+  @Scheduled(fixedDelayString = "${app.accounts.number-index.resync-interval-ms:21600000}")
+  public void resync() {
+    Thread.ofVirtual().name("account-number-index-rebuild").start(() -> {
+      try {
+        accountNumberIndexSync.rebuild();
+      } catch (RuntimeException ex) {
+        log.error("Account number index rebuild failed; lookups keep using the previous index", ex);
+      }
+    });
+  }
+
+  @Scheduled(
+      fixedDelayString = "${app.accounts.number-index.catch-up-interval-ms:5000}",
+      initialDelayString = "${app.accounts.number-index.catch-up-interval-ms:5000}")
+  public void catchUp() {
+    try {
+      accountNumberIndexSync.catchUp();
+    } catch (RuntimeException ex) {
+      log.warn("Account number index catch-up failed; retrying on the next run", ex);
+    }
+  }
+}
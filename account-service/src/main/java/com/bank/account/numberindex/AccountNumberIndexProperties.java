@@ -0,0 +1,17 @@
+package com.bank.account.numberindex;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * {@code expected-insertions} is a floor: each rebuild sizes the filter for {@code growth} times the rows it found.
+ */
+@ConfigurationProperties(prefix = "app.accounts.number-index")
+public record AccountNumberIndexProperties(
+    @DefaultValue("true") boolean enabled,
+    @DefaultValue("1000000") long expectedInsertions,
+    @DefaultValue("1.5") double growth,
+    @DefaultValue("0.01") double falsePositiveProbability,
+    @DefaultValue("5000") long catchUpIntervalMs,
+    @DefaultValue("21600000") long resyncIntervalMs,
+    @DefaultValue("5000") int fetchSize) {}
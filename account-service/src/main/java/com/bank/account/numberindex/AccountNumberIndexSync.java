@@ -0,0 +1,100 @@
+package com.bank.account.numberindex;
+
+import com.bank.account.datasource.ReadRouting;
+import com.bank.account.repository.AccountNumberJdbcRepository;
+import com.bank.account.repository.AccountTableLayout;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Fills the {@link AccountNumberIndex}. A rebuild streams every number into a fresh filter (from a replica when there
+ * is one) while local writes go to both filters, then swaps it in. Catch-up adds the numbers other instances wrote
+ * since the last sync, from the primary, in commit rather than id order: it reads every row stamped (V7) by a
+ * transaction at or above the horizon of the last sync, the oldest transaction then still running. Everything below
+ * it had ended by then and was read, however long it ran or whenever its ids were generated; rows above it are read
+ * again until the horizon passes them.
+ */
+public class AccountNumberIndexSync {
+
+  private static final Logger log = LoggerFactory.getLogger(AccountNumberIndexSync.class);
+
+  private final AccountNumberJdbcRepository accountNumberJdbcRepository;
+  private final AccountNumberIndex accountNumberIndex;
+  private final AccountTableLayout accountTableLayout;
+  private final ReadRouting readRouting;
+  private final TransactionTemplate readOnly;
+  private final int fetchSize;
+  private final AtomicBoolean rebuilding = new AtomicBoolean();
+  private final AtomicLong syncedFromXid = new AtomicLong();
+
+  public AccountNumberIndexSync(
+      AccountNumberJdbcRepository accountNumberJdbcRepository,
+      AccountNumberIndex accountNumberIndex,
+      AccountTableLayout accountTableLayout,
+      ReadRouting readRouting,
+      PlatformTransactionManager transactionManager,
+      AccountNumberIndexProperties properties) {
+    this.accountNumberJdbcRepository = accountNumberJdbcRepository;
+    this.accountNumberIndex = accountNumberIndex;
+    this.accountTableLayout = accountTableLayout;
+    this.readRouting = readRouting;
+    this.readOnly = new TransactionTemplate(transactionManager);
+    this.readOnly.setReadOnly(true);
+    this.fetchSize = properties.fetchSize();
+  }
+
+  /** Returns the number of accounts indexed, or -1 when a rebuild is already running. */
+  public long rebuild() {
+    if (!rebuilding.compareAndSet(false, true)) {
+      return -1;
+    }
+    try {
+      long started = System.currentTimeMillis();
+      boolean keyed = accountTableLayout.keyed();
+      BloomFilter next = accountNumberIndex.startRebuild(accountNumberJdbcRepository.count(keyed));
+      long[] rows = {0};
+      long[] scanHorizon = {0};
+      readOnly.executeWithoutResult(status -> {
+        // Taken before the scan, whose later snapshot therefore sees every transaction below it.
+        scanHorizon[0] = accountNumberJdbcRepository.changeHorizon();
+        accountNumberJdbcRepository.streamAll(keyed, fetchSize, number -> {
+          next.put(number);
+          rows[0]++;
+        });
+      });
+      // Covers replica lag and writes that committed after the scan's snapshot from another instance.
+      long horizon = streamChangedSince(scanHorizon[0], next::put);
+      accountNumberIndex.finishRebuild(next);
+      syncedFromXid.set(horizon);
+      log.info("Account number index rebuilt: {} accounts, {} KiB, {} hash functions in {} ms",
+          rows[0], next.sizeInBytes() / 1024, next.hashFunctions(), System.currentTimeMillis() - started);
+      return rows[0];
+    } catch (RuntimeException ex) {
+      accountNumberIndex.abortRebuild();
+      throw ex;
+    } finally {
+      rebuilding.set(false);
+    }
+  }
+
+  public void catchUp() {
+    if (!accountNumberIndex.ready() || rebuilding.get()) {
+      return;
+    }
+    syncedFromXid.set(streamChangedSince(syncedFromXid.get(), accountNumberIndex::add));
+  }
+
+  // Returns the primary's horizon, read before the rows so that the next catch-up can start there.
+  private long streamChangedSince(long fromXid, Consumer<String> consumer) {
+    return readRouting.onPrimary(() -> readOnly.execute(status -> {
+      long horizon = accountNumberJdbcRepository.changeHorizon();
+      accountNumberJdbcRepository.streamChangedSince(fromXid, fetchSize, consumer);
+      return horizon;
+    }));
+  }
+}
@@ -0,0 +1,101 @@
+package com.bank.account.numberindex;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over strings: {@code k} bit positions per value from two 64-bit hashes (Kirsch-Mitzenmacher
+ * double hashing). Bits are only ever set, with a CAS, so readers never lock and never see a false negative for a value
+ * whose {@link #put} has returned.
+ */
+public final class BloomFilter {
+
+  private static final double LN2 = Math.log(2);
+
+  private final AtomicLongArray words;
+  private final long bitSize;
+  private final int hashFunctions;
+  private final AtomicLong bitsSet = new AtomicLong();
+
+  private BloomFilter(long bits, int hashFunctions) {
+    this.words = new AtomicLongArray(Math.toIntExact((bits + 63) / 64));
+    this.bitSize = words.length() * 64L;
+    this.hashFunctions = hashFunctions;
+  }
+
+  /** Sized so that {@code expectedInsertions} values give about {@code falsePositiveProbability}. */
+  public static BloomFilter create(long expectedInsertions, double falsePositiveProbability) {
+    if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+      throw new IllegalArgumentException("False positive probability must be between 0 and 1");
+    }
+    long n = Math.max(1, expectedInsertions);
+    long bits = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveProbability) / (LN2 * LN2)));
+    int hashFunctions = Math.max(1, (int) Math.round((double) bits / n * LN2));
+    return new BloomFilter(bits, hashFunctions);
+  }
+
+  public void put(String value) {
+    long hash = fnv1a(value);
+    long hash1 = mix(hash);
+    long hash2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+    for (int i = 0; i < hashFunctions; i++) {
+      setBit(Long.remainderUnsigned(hash1 + i * hash2, bitSize));
+    }
+  }
+
+  public boolean mightContain(String value) {
+    long hash = fnv1a(value);
+    long hash1 = mix(hash);
+    long hash2 = mix(hash ^ 0x9E3779B97F4A7C15L) | 1;
+    for (int i = 0; i < hashFunctions; i++) {
+      long bit = Long.remainderUnsigned(hash1 + i * hash2, bitSize);
+      if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  public long bitSize() {
+    return bitSize;
+  }
+
+  public int hashFunctions() {
+    return hashFunctions;
+  }
+
+  public long sizeInBytes() {
+    return words.length() * 8L;
+  }
+
+  /** The chance that an absent value is reported present, from the share of bits set so far. */
+  public double expectedFalsePositiveProbability() {
+    return Math.pow((double) bitsSet.get() / bitSize, hashFunctions);
+  }
+
+  private void setBit(long bit) {
+    int word = (int) (bit >>> 6);
+    long mask = 1L << bit;
+    for (long current = words.get(word); (current & mask) == 0; current = words.get(word)) {
+      if (words.compareAndSet(word, current, current | mask)) {
+        bitsSet.incrementAndGet();
+        return;
+      }
+    }
+  }
+
+  private static long fnv1a(String value) {
+    long hash = 0xCBF29CE484222325L;
+    for (int i = 0; i < value.length(); i++) {
+      hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+    }
+    return hash;
+  }
+
+  // MurmurHash3 fmix64: FNV alone clusters short, similar keys such as sequential account numbers.
+  private static long mix(long hash) {
+    hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+    hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+    return hash ^ (hash >>> 33);
+  }
+}
@@ -0,0 +1,13 @@
+package com.bank.account.outbox;
+
+import com.bank.account.entity.OutboxEvent;
+import java.util.List;
+
+public interface AccountEventPublisher {
+
+  /**
+   * Publishes the events in order and returns only once all of them are acknowledged. Throws if any of them may
+   * not have been delivered; the relay then keeps the whole batch and retries it (at-least-once).
+   */
+  void publish(List<OutboxEvent> events) throws Exception;
+}
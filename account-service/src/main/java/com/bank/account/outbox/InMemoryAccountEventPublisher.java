@@ -0,0 +1,24 @@
+package com.bank.account.outbox;
+
+import com.bank.account.entity.OutboxEvent;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/** Collects published events in memory; used when no broker is available (tests, local runs). */
+public class InMemoryAccountEventPublisher implements AccountEventPublisher {
+
+  private final List<OutboxEvent> published = new CopyOnWriteArrayList<>();
+
+  @Override
+  public void publish(List<OutboxEvent> events) {
+    published.addAll(events);
+  }
+
+  public List<OutboxEvent> published() {
+    return List.copyOf(published);
+  }
+
+  public void clear() {
+    published.clear();
+  }
+}
@@ -0,0 +1,77 @@
+package com.bank.account.outbox;
+
+import com.bank.account.entity.OutboxEvent;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+/**
+ * A batch waits on the broker for at most {@code send-timeout} plus the producer's {@code max.block.ms}: no record is
+ * sent once {@code send-timeout} has passed, and {@code send()} itself blocks for up to {@code max.block.ms} while
+ * metadata is missing or the buffer is full. Startup fails unless that stays below {@code relay-transaction-timeout},
+ * and unless the producer gives up on a record ({@code delivery.timeout.ms}) within {@code send-timeout}.
+ */
+public class KafkaAccountEventPublisher implements AccountEventPublisher {
+
+  private final KafkaTemplate<String, String> kafkaTemplate;
+  private final String topic;
+  private final Duration sendTimeout;
+
+  public KafkaAccountEventPublisher(KafkaTemplate<String, String> kafkaTemplate, OutboxProperties properties) {
+    Map<String, Object> producer = kafkaTemplate.getProducerFactory().getConfigurationProperties();
+    Duration maxBlock = producerTimeout(producer, ProducerConfig.MAX_BLOCK_MS_CONFIG);
+    Duration deliveryTimeout = producerTimeout(producer, ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG);
+    if (maxBlock.compareTo(properties.sendTimeout()) >= 0
+        || deliveryTimeout.compareTo(properties.sendTimeout()) > 0
+        || properties.sendTimeout().plus(maxBlock).compareTo(properties.relayTransactionTimeout()) >= 0) {
+      throw new IllegalArgumentException("spring.kafka.producer.properties.max.block.ms (" + maxBlock.toMillis()
+          + ") must be below app.outbox.send-timeout (" + properties.sendTimeout() + "), delivery.timeout.ms ("
+          + deliveryTimeout.toMillis() + ") at most send-timeout, and send-timeout plus max.block.ms below "
+          + "app.outbox.relay-transaction-timeout (" + properties.relayTransactionTimeout() + ")");
+    }
+    this.kafkaTemplate = kafkaTemplate;
+    this.topic = properties.topic();
+    this.sendTimeout = properties.sendTimeout();
+  }
+
+  @Override
+  public void publish(List<OutboxEvent> events) throws Exception {
+    long deadline = System.nanoTime() + sendTimeout.toNanos();
+    // Send the whole batch before waiting so the producer can fill its batches; keying by account id keeps
+    // each account's events on one partition, in outbox order.
+    List<CompletableFuture<SendResult<String, String>>> sends = new ArrayList<>(events.size());
+    for (OutboxEvent event : events) {
+      if (System.nanoTime() - deadline > 0) {
+        throw new TimeoutException("Sent " + sends.size() + " of " + events.size() + " events in " + sendTimeout);
+      }
+      ProducerRecord<String, String> record =
+          new ProducerRecord<>(topic, event.getAggregateId().toString(), event.getPayload());
+      record.headers()
+          .add("event-id", Long.toString(event.getId()).getBytes(StandardCharsets.UTF_8))
+          .add("event-type", event.getEventType().getBytes(StandardCharsets.UTF_8));
+      CompletableFuture<SendResult<String, String>> send = kafkaTemplate.send(record);
+      // Failed before reaching the producer's buffer (e.g. no metadata within max.block.ms): the rest would too.
+      if (send.isCompletedExceptionally()) {
+        send.get();
+      }
+      sends.add(send);
+    }
+    CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new))
+        .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+  }
+
+  // Unset means the producer's default (60s and 120s), which the check above then rejects.
+  private static Duration producerTimeout(Map<String, Object> producer, String name) {
+    Object value = producer.getOrDefault(name, ProducerConfig.configDef().defaultValues().get(name));
+    return Duration.ofMillis(Long.parseLong(String.valueOf(value)));
+  }
+}
@@ -0,0 +1,41 @@
+package com.bank.account.outbox;
+
+import com.bank.account.repository.OutboxJdbcRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+
+  @Bean
+  @ConditionalOnProperty(name = "app.outbox.publisher", havingValue = "kafka", matchIfMissing = true)
+  AccountEventPublisher kafkaAccountEventPublisher(
+      KafkaTemplate<String, String> kafkaTemplate, OutboxProperties properties) {
+    return new KafkaAccountEventPublisher(kafkaTemplate, properties);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "app.outbox.publisher", havingValue = "memory")
+  AccountEventPublisher inMemoryAccountEventPublisher() {
+    return new InMemoryAccountEventPublisher();
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "app.outbox.relay-enabled", havingValue = "true", matchIfMissing = true)
+  OutboxRelay outboxRelay(
+      OutboxJdbcRepository outboxJdbcRepository,
+      AccountEventPublisher publisher,
+      PlatformTransactionManager transactionManager,
+      OutboxProperties properties,
+      MeterRegistry meterRegistry) {
+    return new OutboxRelay(outboxJdbcRepository, publisher, transactionManager, properties, meterRegistry);
+  }
+}
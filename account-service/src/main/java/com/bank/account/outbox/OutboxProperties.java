@@ -0,0 +1,16 @@
+package com.bank.account.outbox;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.outbox")
+public record OutboxProperties(
+    @DefaultValue("kafka") String publisher,
+    @DefaultValue("account-events") String topic,
+    @DefaultValue("5s") Duration sendTimeout,
+    @DefaultValue("true") boolean relayEnabled,
+    @DefaultValue("1000") int relayBatchSize,
+    @DefaultValue("20") int relayMaxBatchesPerPoll,
+    @DefaultValue("200") long relayPollIntervalMs,
+    @DefaultValue("10s") Duration relayTransactionTimeout) {}
@@ -0,0 +1,137 @@
+package com.bank.account.outbox;
+
+import com.bank.account.entity.OutboxEvent;
+import com.bank.account.repository.OutboxJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Drains {@code account_outbox} in id order. Each batch is read, published and deleted in one transaction that also
+ * holds the relay advisory lock, so only one instance relays at a time and per-account order is preserved.
+ * A failed publish rolls back and leaves the rows for the next poll.
+ *
+ * <p>Polls on a thread of its own rather than the shared {@code @Scheduled} one, since a batch may wait on the broker
+ * for up to {@code send-timeout}. That wait is bounded below {@code relay-transaction-timeout}, so the lock and the
+ * transaction are given up (and the batch retried) rather than held for as long as the broker is slow.
+ */
+public class OutboxRelay implements SmartLifecycle {
+
+  private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+  private final OutboxJdbcRepository outboxJdbcRepository;
+  private final AccountEventPublisher publisher;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final int maxBatchesPerPoll;
+  private final long pollIntervalMs;
+  private final Counter published;
+  private final Counter failures;
+  private final Timer batchTimer;
+  private final AtomicLong lagMillis = new AtomicLong();
+  private volatile ScheduledExecutorService scheduler;
+
+  public OutboxRelay(
+      OutboxJdbcRepository outboxJdbcRepository,
+      AccountEventPublisher publisher,
+      PlatformTransactionManager transactionManager,
+      OutboxProperties properties,
+      MeterRegistry meterRegistry) {
+    if (properties.sendTimeout().compareTo(properties.relayTransactionTimeout()) >= 0) {
+      throw new IllegalArgumentException("app.outbox.send-timeout (" + properties.sendTimeout()
+          + ") must be below app.outbox.relay-transaction-timeout (" + properties.relayTransactionTimeout() + ")");
+    }
+    this.outboxJdbcRepository = outboxJdbcRepository;
+    this.publisher = publisher;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.transactionTemplate.setTimeout((int) Math.max(1, properties.relayTransactionTimeout().toSeconds()));
+    this.batchSize = properties.relayBatchSize();
+    this.maxBatchesPerPoll = properties.relayMaxBatchesPerPoll();
+    this.pollIntervalMs = properties.relayPollIntervalMs();
+    this.published = Counter.builder("account.outbox.published")
+        .description("Outbox events published and removed from the outbox")
+        .register(meterRegistry);
+    this.failures = Counter.builder("account.outbox.publish.failures")
+        .description("Outbox batches that failed to publish and will be retried")
+        .register(meterRegistry);
+    this.batchTimer = Timer.builder("account.outbox.batch")
+        .description("Time to read, publish and delete one outbox batch")
+        .register(meterRegistry);
+    Gauge.builder("account.outbox.lag", lagMillis, lag -> lag.get() / 1000.0)
+        .description("Age of the oldest unpublished outbox event at the last poll")
+        .baseUnit("seconds")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void start() {
+    scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("outbox-relay").daemon().factory());
+    scheduler.scheduleWithFixedDelay(this::poll, pollIntervalMs, pollIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public void stop() {
+    ScheduledExecutorService running = scheduler;
+    scheduler = null;
+    running.shutdown();
+    try {
+      // Let the batch in flight commit or roll back before the data source closes.
+      running.awaitTermination(transactionTemplate.getTimeout(), TimeUnit.SECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return scheduler != null;
+  }
+
+  public void poll() {
+    try {
+      for (int batch = 0; batch < maxBatchesPerPoll; batch++) {
+        Integer relayed = batchTimer.record(() -> transactionTemplate.execute(status -> relayBatch()));
+        if (relayed == null || relayed < batchSize) {
+          return;
+        }
+      }
+    } catch (RuntimeException ex) {
+      failures.increment();
+      log.warn("Outbox relay failed, batch will be retried: {}", ex.toString());
+    }
+  }
+
+  /** Returns the number of events relayed, or 0 if another instance holds the relay lock. */
+  private int relayBatch() {
+    if (!outboxJdbcRepository.tryLockRelay()) {
+      return 0;
+    }
+    List<OutboxEvent> events = outboxJdbcRepository.findOldest(batchSize);
+    if (events.isEmpty()) {
+      lagMillis.set(0);
+      return 0;
+    }
+    lagMillis.set(Duration.between(events.get(0).getCreatedAt(), OffsetDateTime.now()).toMillis());
+    try {
+      publisher.publish(events);
+    } catch (Exception ex) {
+      throw new IllegalStateException("Publishing " + events.size() + " outbox events failed", ex);
+    }
+    outboxJdbcRepository.deleteAll(events.stream().map(OutboxEvent::getId).toList());
+    published.increment(events.size());
+    return events.size();
+  }
+}
@@ -0,0 +1,140 @@
+package com.bank.account.partition;
+
+import com.bank.account.repository.AccountPartitionJdbcRepository;
+import com.bank.account.repository.AccountPartitionJdbcRepository.Batch;
+import com.bank.account.repository.AccountPartitionJdbcRepository.Checkpoint;
+import com.bank.account.repository.AccountPartitionJdbcRepository.Verification;
+import com.bank.account.repository.AccountTableLayout;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves the old {@code accounts} table into the hash-partitioned one while the service keeps writing: keyset batches
+ * in id order, each committed with its checkpoint, so a restart resumes where it stopped. Once the copy is complete and
+ * verified, instances switch to the keyed queries (AccountTableLayout); after {@code cutover-delay}, long enough for
+ * every instance to have checked, the tables are swapped under a short exclusive lock.
+ */
+public class AccountPartitionMigration {
+
+  private static final Logger log = LoggerFactory.getLogger(AccountPartitionMigration.class);
+
+  private final AccountPartitionJdbcRepository accountPartitionJdbcRepository;
+  private final AccountTableLayout accountTableLayout;
+  private final TransactionTemplate transactionTemplate;
+  private final int batchSize;
+  private final int maxBatchesPerRun;
+  private final boolean cutover;
+  private final Duration cutoverDelay;
+  private final String lockTimeout;
+  private final Counter copiedRows;
+
+  public AccountPartitionMigration(
+      AccountPartitionJdbcRepository accountPartitionJdbcRepository,
+      AccountTableLayout accountTableLayout,
+      PlatformTransactionManager transactionManager,
+      PartitionMigrationProperties properties,
+      MeterRegistry meterRegistry) {
+    if (properties.batchSize() < 1) {
+      throw new IllegalArgumentException("app.accounts.partitioning.batch-size must be positive");
+    }
+    this.accountPartitionJdbcRepository = accountPartitionJdbcRepository;
+    this.accountTableLayout = accountTableLayout;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.batchSize = properties.batchSize();
+    this.maxBatchesPerRun = properties.maxBatchesPerRun();
+    this.cutover = properties.cutover();
+    this.cutoverDelay = properties.cutoverDelay();
+    this.lockTimeout = String.valueOf(properties.lockTimeout().toMillis());
+    this.copiedRows = Counter.builder("account.partition.backfill.rows")
+        .description("Rows copied from the old accounts table into the partitioned one")
+        .register(meterRegistry);
+  }
+
+  public PartitionMigrationResult migrate() {
+    long started = System.nanoTime();
+    if (!accountPartitionJdbcRepository.migrationPending()) {
+      accountTableLayout.refresh();
+      return new PartitionMigrationResult(0, true, true, false, Duration.ZERO);
+    }
+
+    long copied = 0;
+    boolean backfilled = false;
+    for (int batches = 0; maxBatchesPerRun <= 0 || batches < maxBatchesPerRun; batches++) {
+      Batch batch = transactionTemplate.execute(status -> copyNext());
+      if (batch == null) {
+        log.info("Accounts partition backfill is running on another instance");
+        return result(copied, false, false, false, started);
+      }
+      copied += batch.copied();
+      copiedRows.increment(batch.copied());
+      if (batch.scanned() < batchSize) {
+        backfilled = true;
+        break;
+      }
+    }
+    if (!backfilled) {
+      log.info("Copied {} accounts into the partitioned table; continuing on the next run", copied);
+      return result(copied, false, false, false, started);
+    }
+
+    Verification verification = accountPartitionJdbcRepository.verify();
+    if (!verification.consistent()) {
+      log.warn("Partitioned accounts do not match yet: {}", verification);
+      return result(copied, true, false, false, started);
+    }
+    OffsetDateTime verifiedAt = accountPartitionJdbcRepository.markVerified(OffsetDateTime.now());
+    accountTableLayout.refresh();
+    if (!cutover) {
+      log.info("Accounts backfill verified ({} rows); cutover is disabled", verification.sourceRows());
+      return result(copied, true, true, false, started);
+    }
+    if (verifiedAt.plus(cutoverDelay).isAfter(OffsetDateTime.now())) {
+      log.info("Accounts backfill verified ({} rows); cutover once every instance uses keyed lookups, after {}",
+          verification.sourceRows(), verifiedAt.plus(cutoverDelay));
+      return result(copied, true, true, false, started);
+    }
+
+    Boolean switched = transactionTemplate.execute(status -> {
+      if (accountPartitionJdbcRepository.lockCheckpoint().isEmpty()
+          || !accountPartitionJdbcRepository.migrationPending()) {
+        return false;
+      }
+      accountPartitionJdbcRepository.cutover(lockTimeout, OffsetDateTime.now());
+      return true;
+    });
+    accountTableLayout.refresh();
+    PartitionMigrationResult result = result(copied, true, true, Boolean.TRUE.equals(switched), started);
+    if (result.cutOver()) {
+      log.info("Accounts now hash-partitioned on customer_id ({} rows verified) in {} ms",
+          verification.sourceRows(), result.duration().toMillis());
+    }
+    return result;
+  }
+
+  private Batch copyNext() {
+    List<Checkpoint> checkpoint = accountPartitionJdbcRepository.lockCheckpoint();
+    if (checkpoint.isEmpty()) {
+      return null;
+    }
+    UUID after = checkpoint.get(0).lastId() != null ? checkpoint.get(0).lastId() : AccountPartitionJdbcRepository.START;
+    Batch batch = accountPartitionJdbcRepository.copyBatch(after, batchSize);
+    if (batch.scanned() > 0) {
+      accountPartitionJdbcRepository.advance(batch.lastId(), batch.copied(), OffsetDateTime.now());
+    }
+    return batch;
+  }
+
+  private static PartitionMigrationResult result(
+      long copied, boolean backfilled, boolean consistent, boolean cutOver, long started) {
+    return new PartitionMigrationResult(
+        copied, backfilled, consistent, cutOver, Duration.ofNanos(System.nanoTime() - started));
+  }
+}
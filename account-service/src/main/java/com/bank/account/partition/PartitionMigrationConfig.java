@@ -0,0 +1,34 @@
+package com.bank.account.partition;
+
+import com.bank.account.repository.AccountPartitionJdbcRepository;
+import com.bank.account.repository.AccountTableLayout;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(PartitionMigrationProperties.class)
+public class PartitionMigrationConfig {
+
+  @Bean
+  AccountPartitionMigration accountPartitionMigration(
+      AccountPartitionJdbcRepository accountPartitionJdbcRepository,
+      AccountTableLayout accountTableLayout,
+      PlatformTransactionManager transactionManager,
+      PartitionMigrationProperties properties,
+      MeterRegistry meterRegistry) {
+    return new AccountPartitionMigration(
+        accountPartitionJdbcRepository, accountTableLayout, transactionManager, properties, meterRegistry);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "app.accounts.partitioning.migration-enabled", havingValue = "true")
+  PartitionMigrationJob partitionMigrationJob(AccountPartitionMigration accountPartitionMigration) {
+    return new PartitionMigrationJob(accountPartitionMigration);
+  }
+}
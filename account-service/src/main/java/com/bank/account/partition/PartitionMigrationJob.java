@@ -0,0 +1,29 @@
+package com.bank.account.partition;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/**
+ * Runs the accounts partition backfill until it has cut over; then each run is a single catalog lookup. Instances
+ * take turns through the checkpoint row lock ({@code app.accounts.partitioning.migration-enabled}).
+ */
+public class PartitionMigrationJob {
+
+  private static final Logger log = LoggerFactory.getLogger(PartitionMigrationJob.class);
+
+  private final AccountPartitionMigration accountPartitionMigration;
+
+  public PartitionMigrationJob(AccountPartitionMigration accountPartitionMigration) {
+    this.accountPartitionMigration = accountPartitionMigration;
+  }
+
+  @Scheduled(fixedDelayString = "${app.accounts.partitioning.migration-interval-ms:60000}")
+  public void run() {
+    try {
+      accountPartitionMigration.migrate();
+    } catch (RuntimeException ex) {
+      log.error("Accounts partition migration failed; it resumes from its checkpoint on the next run", ex);
+    }
+  }
+}
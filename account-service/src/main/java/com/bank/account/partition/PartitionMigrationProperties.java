@@ -0,0 +1,16 @@
+package com.bank.account.partition;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.accounts.partitioning")
+public record PartitionMigrationProperties(
+    @DefaultValue("false") boolean migrationEnabled,
+    @DefaultValue("5000") int batchSize,
+    @DefaultValue("0") int maxBatchesPerRun,
+    @DefaultValue("60000") long migrationIntervalMs,
+    @DefaultValue("true") boolean cutover,
+    @DefaultValue("30s") Duration cutoverDelay,
+    @DefaultValue("5s") Duration lockTimeout,
+    @DefaultValue("10000") long layoutCheckIntervalMs) {}
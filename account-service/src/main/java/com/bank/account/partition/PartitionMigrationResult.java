@@ -0,0 +1,10 @@
+package com.bank.account.partition;
+
+import java.time.Duration;
+
+public record PartitionMigrationResult(
+    long rowsCopied,
+    boolean backfilled,
+    boolean consistent,
+    boolean cutOver,
+    Duration duration) {}
@@ -0,0 +1,61 @@
+package com.bank.account.repository;
+
+import com.bank.account.dto.AccountResponse;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Reads the change feed positions stamped by the V7 trigger. PostgreSQL only: the change columns are not mapped on
+ * the entity.
+ */
+@Repository
+public class AccountChangeJdbcRepository {
+
+  // Only transaction ids below the snapshot's xmin: those transactions have all ended, so no row can still appear
+  // behind a position handed out. Rows of in-progress (or longer-running) transactions wait for a later read.
+  private static final String SELECT_AFTER_SQL = """
+      SELECT id, customer_id, account_number, currency, balance, status, created_at, updated_at,
+             change_xid::text AS change_xid, change_seq
+      FROM accounts
+      WHERE (change_xid, change_seq, id) > (?::xid8, ?, ?)
+        AND change_xid < pg_snapshot_xmin(pg_current_snapshot())
+      ORDER BY change_xid, change_seq, id
+      LIMIT ?
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public AccountChangeJdbcRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public List<AccountChange> findAfter(ChangePosition after, int limit) {
+    return jdbcTemplate.query(SELECT_AFTER_SQL,
+        (resultSet, rowNum) -> new AccountChange(
+            new ChangePosition(
+                Long.parseLong(resultSet.getString("change_xid")),
+                resultSet.getLong("change_seq"),
+                resultSet.getObject("id", UUID.class)),
+            new AccountResponse(
+                resultSet.getObject("id", UUID.class),
+                resultSet.getObject("customer_id", UUID.class),
+                resultSet.getString("account_number"),
+                resultSet.getString("currency"),
+                resultSet.getBigDecimal("balance"),
+                resultSet.getString("status"),
+                resultSet.getObject("created_at", OffsetDateTime.class),
+                resultSet.getObject("updated_at", OffsetDateTime.class))),
+        Long.toString(after.xid()), after.seq(), after.id(), limit);
+  }
+
+  /** A row's place in the feed. Rows written before V7 all sit at xid 0, ordered by id. */
+  public record ChangePosition(long xid, long seq, UUID id) {
+
+    public static final ChangePosition START = new ChangePosition(0, 0, new UUID(0, 0));
+  }
+
+  public record AccountChange(ChangePosition position, AccountResponse account) {}
+}
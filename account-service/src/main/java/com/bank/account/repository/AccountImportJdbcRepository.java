@@ -0,0 +1,255 @@
+package com.bank.account.repository;
+
+import com.bank.account.dto.AccountImportIssue;
+import com.bank.account.dto.AccountImportReport;
+import com.bank.account.dto.CreateAccountRequest;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.UncategorizedSQLException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/** PostgreSQL-only: rows reach {@code account_import_staging} through the COPY protocol. */
+@Repository
+public class AccountImportJdbcRepository {
+
+  private static final String COPY_SQL = """
+      COPY account_import_staging (import_id, row_number, id, customer_id, account_number, currency, balance)
+      FROM STDIN (FORMAT csv)
+      """;
+
+  // First occurrence of a number wins; the rest of the chunk and rows hitting existing accounts are duplicates.
+  // Numbers are claimed in account_keys first: the only global unique index once accounts is hash-partitioned. On the
+  // old table a number it has not registered yet is still caught by its UNIQUE column (target-less ON CONFLICT); the
+  // partition backfill then points that key back at the existing account.
+  // Customer summaries and outbox events for the inserted rows are written by the same statement.
+  private static final String MERGE_SQL = """
+      WITH candidates AS (
+        SELECT DISTINCT ON (account_number) id, customer_id, account_number, currency, balance
+        FROM account_import_staging
+        WHERE import_id = ?
+        ORDER BY account_number, row_number
+      ), claimed AS (
+        INSERT INTO account_keys (id, customer_id, account_number)
+        SELECT id, customer_id, account_number FROM candidates
+        ON CONFLICT DO NOTHING
+        RETURNING id
+      ), inserted AS (
+        INSERT INTO accounts (id, customer_id, account_number, currency, balance, status, created_at, updated_at)
+        SELECT c.id, c.customer_id, c.account_number, c.currency, c.balance, 'ACTIVE', ?, ?
+        FROM candidates c JOIN claimed USING (id)
+        ON CONFLICT DO NOTHING
+        RETURNING id, customer_id, account_number, currency, balance, status, created_at, updated_at
+      ), summary AS (
+        INSERT INTO customer_account_summary (customer_id, currency, status, account_count, total_balance, updated_at)
+        SELECT customer_id, currency, status, count(*), sum(balance), ?
+        FROM inserted
+        GROUP BY customer_id, currency, status
+        ORDER BY customer_id, currency, status
+        ON CONFLICT (customer_id, currency, status) DO UPDATE
+        SET account_count = customer_account_summary.account_count + EXCLUDED.account_count,
+            total_balance = customer_account_summary.total_balance + EXCLUDED.total_balance,
+            updated_at = EXCLUDED.updated_at
+      )
+      INSERT INTO account_outbox (aggregate_id, event_type, payload, created_at)
+      SELECT id, ?, json_build_object(
+          'id', id, 'customerId', customer_id, 'accountNumber', account_number, 'currency', currency,
+          'balance', balance, 'status', status, 'createdAt', created_at, 'updatedAt', updated_at)::text, ?
+      FROM inserted
+      ORDER BY id
+      """;
+
+  private static final String DUPLICATES_SQL = """
+      INSERT INTO account_import_issue (import_id, row_number, account_number, kind, reason)
+      SELECT s.import_id, s.row_number, s.account_number, 'DUPLICATE', 'Account number already exists'
+      FROM account_import_staging s
+      WHERE s.import_id = ?
+        AND NOT EXISTS (SELECT 1 FROM accounts a WHERE a.customer_id = s.customer_id AND a.id = s.id)
+      """;
+
+  private static final String INSERT_ISSUE_SQL = """
+      INSERT INTO account_import_issue (import_id, row_number, account_number, kind, reason)
+      VALUES (?, ?, ?, ?, ?)
+      """;
+
+  private static final String ADVANCE_SQL = """
+      UPDATE account_import
+      SET rows_processed = rows_processed + ?, imported = imported + ?, duplicates = duplicates + ?,
+          rejected = rejected + ?, updated_at = ?
+      WHERE import_id = ?
+      """;
+
+  private static final int COPY_BUFFER_CHARS = 64 * 1024;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final int batchSize;
+
+  public AccountImportJdbcRepository(
+      JdbcTemplate jdbcTemplate,
+      @Value("${app.accounts.batch.jdbc-batch-size:500}") int batchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.batchSize = batchSize;
+  }
+
+  /** Registers the import; a no-op when resuming an existing one. */
+  public void createIfAbsent(UUID importId, String format, OffsetDateTime now) {
+    jdbcTemplate.update("""
+        INSERT INTO account_import (import_id, format, status, created_at, updated_at)
+        VALUES (?, ?, 'RUNNING', ?, ?)
+        ON CONFLICT (import_id) DO NOTHING
+        """, importId, format, now, now);
+  }
+
+  /** Row-locks the checkpoint for the chunk transaction, so two uploads of one import cannot interleave. */
+  public long lockProgress(UUID importId) {
+    Long rows = jdbcTemplate.queryForObject(
+        "SELECT rows_processed FROM account_import WHERE import_id = ? FOR UPDATE", Long.class, importId);
+    return rows == null ? 0 : rows;
+  }
+
+  public Optional<AccountImportReport> find(UUID importId, int issueLimit) {
+    List<AccountImportIssue> issues = jdbcTemplate.query("""
+        SELECT row_number, account_number, kind, reason
+        FROM account_import_issue
+        WHERE import_id = ?
+        ORDER BY row_number
+        LIMIT ?
+        """,
+        (rs, rowNum) -> new AccountImportIssue(
+            rs.getLong("row_number"), rs.getString("account_number"), rs.getString("kind"), rs.getString("reason")),
+        importId, issueLimit);
+    return jdbcTemplate.query("""
+        SELECT import_id, status, rows_processed, imported, duplicates, rejected
+        FROM account_import
+        WHERE import_id = ?
+        """,
+        (rs, rowNum) -> new AccountImportReport(
+            rs.getObject("import_id", UUID.class),
+            rs.getString("status"),
+            rs.getLong("rows_processed"),
+            rs.getLong("imported"),
+            rs.getLong("duplicates"),
+            rs.getLong("rejected"),
+            issues),
+        importId).stream().findFirst();
+  }
+
+  /**
+   * Streams rows into the staging table over one COPY. Nothing else may run on the connection until
+   * {@code rows} returns, so callers collect anything they need to write separately.
+   */
+  public void stage(UUID importId, Consumer<StagingWriter> rows) {
+    jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+      CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+      try {
+        StagingWriter writer = new StagingWriter(importId, copyIn);
+        rows.accept(writer);
+        writer.flush();
+        copyIn.endCopy();
+      } finally {
+        if (copyIn.isActive()) {
+          copyIn.cancelCopy();
+        }
+      }
+      return null;
+    });
+  }
+
+  /** Moves staged rows into {@code accounts} plus summaries and outbox events; returns how many were inserted. */
+  public int merge(UUID importId, String eventType, OffsetDateTime now) {
+    return jdbcTemplate.update(MERGE_SQL, importId, now, now, now, eventType, now);
+  }
+
+  /** Records every staged row that did not make it into {@code accounts}; returns how many. */
+  public int recordDuplicates(UUID importId) {
+    return jdbcTemplate.update(DUPLICATES_SQL, importId);
+  }
+
+  public void clearStaging(UUID importId) {
+    jdbcTemplate.update("DELETE FROM account_import_staging WHERE import_id = ?", importId);
+  }
+
+  public void insertIssues(UUID importId, List<AccountImportIssue> issues) {
+    jdbcTemplate.batchUpdate(INSERT_ISSUE_SQL, issues, batchSize, (ps, issue) -> {
+      ps.setObject(1, importId);
+      ps.setLong(2, issue.row());
+      ps.setString(3, issue.accountNumber());
+      ps.setString(4, issue.kind());
+      ps.setString(5, issue.reason());
+    });
+  }
+
+  public void advance(
+      UUID importId, long rows, long imported, long duplicates, long rejected, OffsetDateTime now) {
+    jdbcTemplate.update(ADVANCE_SQL, rows, imported, duplicates, rejected, now, importId);
+  }
+
+  public void complete(UUID importId, OffsetDateTime now) {
+    jdbcTemplate.update(
+        "UPDATE account_import SET status = 'COMPLETED', updated_at = ? WHERE import_id = ?", now, importId);
+  }
+
+  /** Encodes staged rows as COPY csv and hands them to the driver in {@value #COPY_BUFFER_CHARS}-char blocks. */
+  public static final class StagingWriter {
+
+    private final String importId;
+    private final CopyIn copyIn;
+    private final StringBuilder buffer = new StringBuilder(COPY_BUFFER_CHARS + 256);
+
+    private StagingWriter(UUID importId, CopyIn copyIn) {
+      this.importId = importId.toString();
+      this.copyIn = copyIn;
+    }
+
+    public void write(long rowNumber, UUID id, CreateAccountRequest request) {
+      buffer.append(importId).append(',')
+          .append(rowNumber).append(',')
+          .append(id).append(',')
+          .append(request.customerId()).append(',');
+      quoted(request.accountNumber());
+      buffer.append(',');
+      quoted(request.currency());
+      buffer.append(',')
+          .append(request.openingBalance().setScale(4, RoundingMode.HALF_UP).toPlainString())
+          .append('\n');
+      if (buffer.length() >= COPY_BUFFER_CHARS) {
+        flush();
+      }
+    }
+
+    private void quoted(String value) {
+      buffer.append('"');
+      for (int i = 0; i < value.length(); i++) {
+        char c = value.charAt(i);
+        if (c == '"') {
+          buffer.append('"');
+        }
+        buffer.append(c);
+      }
+      buffer.append('"');
+    }
+
+    private void flush() {
+      if (buffer.isEmpty()) {
+        return;
+      }
+      byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+      try {
+        copyIn.writeToCopy(bytes, 0, bytes.length);
+      } catch (SQLException ex) {
+        throw new UncategorizedSQLException("COPY into account_import_staging", COPY_SQL, ex);
+      }
+      buffer.setLength(0);
+    }
+  }
+}
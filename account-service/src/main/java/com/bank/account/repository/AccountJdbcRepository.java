@@ -0,0 +1,105 @@
+package com.bank.account.repository;
+
+import com.bank.account.entity.Account;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class AccountJdbcRepository {
+
+  private static final String INSERT_SQL = """
+      INSERT INTO accounts (id, customer_id, account_number, currency, balance, status, created_at, updated_at)
+      VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+      """;
+
+  private static final String SELECT_BY_CUSTOMER_SQL = """
+      SELECT id, customer_id, account_number, currency, balance, status, created_at, updated_at
+      FROM accounts
+      WHERE customer_id = ?
+      ORDER BY id
+      """;
+
+  private static final String COPY_OUT_SQL = """
+      COPY (SELECT id, customer_id, account_number, currency, balance, status, created_at, updated_at FROM accounts)
+      TO STDOUT (FORMAT csv, HEADER)
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final int batchSize;
+
+  public AccountJdbcRepository(
+      JdbcTemplate jdbcTemplate,
+      @Value("${app.accounts.batch.jdbc-batch-size:500}") int batchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.batchSize = batchSize;
+  }
+
+  public void insertAll(List<Account> accounts) {
+    jdbcTemplate.batchUpdate(INSERT_SQL, accounts, batchSize, (ps, account) -> {
+      ps.setObject(1, account.getId());
+      ps.setObject(2, account.getCustomerId());
+      ps.setString(3, account.getAccountNumber());
+      ps.setString(4, account.getCurrency());
+      ps.setBigDecimal(5, account.getBalance());
+      ps.setString(6, account.getStatus());
+      ps.setObject(7, account.getCreatedAt());
+      ps.setObject(8, account.getUpdatedAt());
+    });
+  }
+
+  /**
+   * Streams a customer's accounts in id order. Must run inside a transaction: the PostgreSQL driver only honours
+   * the fetch size (server-side cursor) when autocommit is off, otherwise it buffers the whole result.
+   */
+  public void streamByCustomerId(UUID customerId, int fetchSize, Consumer<Account> consumer) {
+    jdbcTemplate.query(
+        connection -> {
+          var statement = connection.prepareStatement(SELECT_BY_CUSTOMER_SQL);
+          statement.setFetchSize(fetchSize);
+          statement.setObject(1, customerId);
+          return statement;
+        },
+        (RowCallbackHandler) resultSet -> consumer.accept(mapRow(resultSet)));
+  }
+
+  /**
+   * Writes every account as CSV with PostgreSQL's COPY TO: the server formats rows and the driver streams them into
+   * {@code out} as they arrive, so nothing is materialised client-side. Returns the number of rows copied.
+   */
+  public long copyAllAsCsv(OutputStream out) {
+    Long rows = jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+      try {
+        return connection.unwrap(PGConnection.class).getCopyAPI().copyOut(COPY_OUT_SQL, out);
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    });
+    return rows == null ? 0 : rows;
+  }
+
+  private static Account mapRow(ResultSet resultSet) throws SQLException {
+    Account account = new Account();
+    account.setId(resultSet.getObject("id", UUID.class));
+    account.setCustomerId(resultSet.getObject("customer_id", UUID.class));
+    account.setAccountNumber(resultSet.getString("account_number"));
+    account.setCurrency(resultSet.getString("currency"));
+    account.setBalance(resultSet.getBigDecimal("balance"));
+    account.setStatus(resultSet.getString("status"));
+    account.setCreatedAt(resultSet.getObject("created_at", OffsetDateTime.class));
+    account.setUpdatedAt(resultSet.getObject("updated_at", OffsetDateTime.class));
+    return account;
+  }
+}
@@ -0,0 +1,67 @@
+package com.bank.account.repository;
+
+import java.util.function.Consumer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Account numbers for the in-memory number index. Once {@code account_keys} is complete (see AccountTableLayout), that
+ * narrow registry has every number and an id primary key, so it is read instead.
+ */
+@Repository
+public class AccountNumberJdbcRepository {
+
+  private static final String CHANGED_SINCE_SQL = "SELECT account_number FROM accounts WHERE change_xid >= ?::xid8";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public AccountNumberJdbcRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public long count(boolean keyed) {
+    Long rows = jdbcTemplate.queryForObject("SELECT count(*) FROM " + table(keyed), Long.class);
+    return rows == null ? 0 : rows;
+  }
+
+  /** Must run inside a transaction for the fetch size to give a server-side cursor (see AccountJdbcRepository). */
+  public void streamAll(boolean keyed, int fetchSize, Consumer<String> consumer) {
+    jdbcTemplate.query(
+        connection -> {
+          var statement = connection.prepareStatement("SELECT account_number FROM " + table(keyed));
+          statement.setFetchSize(fetchSize);
+          return statement;
+        },
+        (RowCallbackHandler) resultSet -> consumer.accept(resultSet.getString(1)));
+  }
+
+  /**
+   * The oldest transaction id still running: every transaction below it has committed or rolled back. Also answers on
+   * a replica, for the transactions it has replayed.
+   */
+  public long changeHorizon() {
+    String xmin = jdbcTemplate.queryForObject("SELECT pg_snapshot_xmin(pg_current_snapshot())::text", String.class);
+    return Long.parseLong(xmin);
+  }
+
+  /**
+   * Numbers of accounts written by transaction {@code fromXid} or later, through the change feed index (V7, V8).
+   * Always {@code accounts}: {@code account_keys} has no change position. Must run inside a transaction, as
+   * {@link #streamAll} must.
+   */
+  public void streamChangedSince(long fromXid, int fetchSize, Consumer<String> consumer) {
+    jdbcTemplate.query(
+        connection -> {
+          var statement = connection.prepareStatement(CHANGED_SINCE_SQL);
+          statement.setFetchSize(fetchSize);
+          statement.setString(1, Long.toString(fromXid));
+          return statement;
+        },
+        (RowCallbackHandler) resultSet -> consumer.accept(resultSet.getString(1)));
+  }
+
+  private static String table(boolean keyed) {
+    return keyed ? "account_keys" : "accounts";
+  }
+}
@@ -0,0 +1,129 @@
+package com.bank.account.repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * PostgreSQL-only: moves the old {@code accounts} table into {@code accounts_partitioned} (V6). New and changed rows
+ * are mirrored by a trigger in the writer's transaction, so the backfill only copies what existed before and every
+ * snapshot sees both tables in step.
+ */
+@Repository
+public class AccountPartitionJdbcRepository {
+
+  // The nil uuid is never generated, so it stands for "before the first row".
+  public static final UUID START = new UUID(0L, 0L);
+
+  // FOR KEY SHARE holds off deletes (not updates) until the copy commits, so a deleted row is never copied back in.
+  // Registry rows win on account number: an import may have claimed a number that a not-yet-copied account holds.
+  // Rows keep their change feed position (V7), so that the moved table is not read as new changes after cutover.
+  private static final String COPY_BATCH_SQL = """
+      WITH batch AS (
+        SELECT id, customer_id, account_number, currency, balance, status, created_at, updated_at,
+               change_xid, change_seq
+        FROM accounts
+        WHERE id > ?
+        ORDER BY id
+        LIMIT ?
+        FOR KEY SHARE
+      ), keys AS (
+        INSERT INTO account_keys (id, customer_id, account_number)
+        SELECT id, customer_id, account_number FROM batch
+        ON CONFLICT (account_number) DO UPDATE SET id = EXCLUDED.id, customer_id = EXCLUDED.customer_id
+        RETURNING id
+      ), copied AS (
+        INSERT INTO accounts_partitioned
+            (id, customer_id, account_number, currency, balance, status, created_at, updated_at, change_xid, change_seq)
+        SELECT b.id, b.customer_id, b.account_number, b.currency, b.balance, b.status, b.created_at, b.updated_at,
+               b.change_xid, b.change_seq
+        FROM batch b JOIN keys USING (id)
+        ON CONFLICT (customer_id, id) DO NOTHING
+        RETURNING id
+      )
+      SELECT (SELECT count(*) FROM batch) AS scanned,
+             (SELECT count(*) FROM copied) AS copied,
+             (SELECT (array_agg(id ORDER BY id DESC))[1] FROM batch) AS last_id
+      """;
+
+  // One statement, one snapshot: the mirror trigger keeps the tables equal in every committed state.
+  private static final String VERIFY_SQL = """
+      SELECT (SELECT count(*) FROM accounts) AS source_rows,
+             (SELECT count(*) FROM accounts_partitioned) AS target_rows,
+             (SELECT count(*) FROM accounts a
+              WHERE NOT EXISTS (SELECT 1 FROM accounts_partitioned p
+                                WHERE p.customer_id = a.customer_id AND p.id = a.id)) AS missing_rows,
+             (SELECT count(*) FROM accounts_partitioned p
+              WHERE NOT EXISTS (SELECT 1 FROM account_keys k WHERE k.id = p.id)) AS missing_keys
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public AccountPartitionJdbcRepository(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  /** True while the partitioned table still sits beside the old one. */
+  public boolean migrationPending() {
+    return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+        "SELECT to_regclass('accounts_partitioned') IS NOT NULL", Boolean.class));
+  }
+
+  /** Locks the checkpoint row for the transaction; empty when another instance holds it. */
+  public List<Checkpoint> lockCheckpoint() {
+    return jdbcTemplate.query("""
+        SELECT last_id, rows_copied FROM account_partition_backfill WHERE id = 1 FOR UPDATE SKIP LOCKED
+        """, (rs, rowNum) -> new Checkpoint(rs.getObject("last_id", UUID.class), rs.getLong("rows_copied")));
+  }
+
+  public Batch copyBatch(UUID after, int limit) {
+    return jdbcTemplate.queryForObject(COPY_BATCH_SQL, (rs, rowNum) -> new Batch(
+        rs.getInt("scanned"), rs.getInt("copied"), rs.getObject("last_id", UUID.class)), after, limit);
+  }
+
+  public void advance(UUID lastId, long copied, OffsetDateTime now) {
+    jdbcTemplate.update("""
+        UPDATE account_partition_backfill SET last_id = ?, rows_copied = rows_copied + ?, updated_at = ? WHERE id = 1
+        """, lastId, copied, now);
+  }
+
+  public Verification verify() {
+    return jdbcTemplate.queryForObject(VERIFY_SQL, (rs, rowNum) -> new Verification(
+        rs.getLong("source_rows"), rs.getLong("target_rows"), rs.getLong("missing_rows"), rs.getLong("missing_keys")));
+  }
+
+  /** Records the first successful verification and returns its time. */
+  public OffsetDateTime markVerified(OffsetDateTime now) {
+    return jdbcTemplate.queryForObject("""
+        UPDATE account_partition_backfill SET verified_at = coalesce(verified_at, ?), updated_at = ? WHERE id = 1
+        RETURNING verified_at
+        """, OffsetDateTime.class, now, now);
+  }
+
+  /**
+   * Swaps the tables. Takes both exclusive locks up front, giving up after {@code lockTimeout} (a PostgreSQL interval)
+   * rather than queueing every reader behind a long-running transaction; the rename itself is catalog-only.
+   */
+  public void cutover(String lockTimeout, OffsetDateTime now) {
+    jdbcTemplate.queryForObject("SELECT set_config('lock_timeout', ?, true)", String.class, lockTimeout);
+    jdbcTemplate.execute("LOCK TABLE accounts, accounts_partitioned IN ACCESS EXCLUSIVE MODE");
+    jdbcTemplate.execute("DROP TRIGGER accounts_mirror ON accounts");
+    jdbcTemplate.execute("ALTER TABLE accounts RENAME TO accounts_legacy");
+    jdbcTemplate.execute("ALTER TABLE accounts_partitioned RENAME TO accounts");
+    jdbcTemplate.update("UPDATE account_partition_backfill SET completed_at = ?, updated_at = ? WHERE id = 1",
+        now, now);
+  }
+
+  public record Checkpoint(UUID lastId, long rowsCopied) {}
+
+  public record Batch(int scanned, int copied, UUID lastId) {}
+
+  public record Verification(long sourceRows, long targetRows, long missingRows, long missingKeys) {
+
+    public boolean consistent() {
+      return sourceRows == targetRows && missingRows == 0 && missingKeys == 0;
+    }
+  }
+}
@@ -1,10 +1,63 @@
 package com.bank.account.repository;
 
+import com.bank.account.dto.AccountResponse;
 import com.bank.account.entity.Account;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface AccountRepository extends JpaRepository<Account, UUID> {
+  String RESPONSE_PROJECTION = "select new com.bank.account.dto.AccountResponse("
+      + "a.id, a.customerId, a.accountNumber, a.currency, a.balance, a.status, a.createdAt, a.updatedAt) "
+      + "from Account a ";
+
+  // Once account_keys is complete it supplies the customer_id, so a partitioned accounts probe hits one partition.
+  String KEYED_RESPONSE_PROJECTION = "select new com.bank.account.dto.AccountResponse("
+      + "a.id, a.customerId, a.accountNumber, a.currency, a.balance, a.status, a.createdAt, a.updatedAt) "
+      + "from AccountKey k join Account a on a.customerId = k.customerId and a.id = k.id ";
+
   Optional<Account> findByAccountNumber(String accountNumber);
+
+  // Read paths project straight into the response: no managed entity, no snapshot, and read-only means no flush.
+  @Transactional(readOnly = true)
+  @Query(RESPONSE_PROJECTION + "where a.id = :id")
+  Optional<AccountResponse> findResponseById(@Param("id") UUID id);
+
+  @Transactional(readOnly = true)
+  @Query(RESPONSE_PROJECTION + "where a.accountNumber = :accountNumber")
+  Optional<AccountResponse> findResponseByAccountNumber(@Param("accountNumber") String accountNumber);
+
+  @Transactional(readOnly = true)
+  @Query(RESPONSE_PROJECTION + "where a.id in :ids")
+  List<AccountResponse> findResponsesByIdIn(@Param("ids") Collection<UUID> ids);
+
+  @Transactional(readOnly = true)
+  @Query(KEYED_RESPONSE_PROJECTION + "where k.id = :id")
+  Optional<AccountResponse> findKeyedResponseById(@Param("id") UUID id);
+
+  @Transactional(readOnly = true)
+  @Query(KEYED_RESPONSE_PROJECTION + "where k.accountNumber = :accountNumber")
+  Optional<AccountResponse> findKeyedResponseByAccountNumber(@Param("accountNumber") String accountNumber);
+
+  @Transactional(readOnly = true)
+  @Query(KEYED_RESPONSE_PROJECTION + "where k.id in :ids")
+  List<AccountResponse> findKeyedResponsesByIdIn(@Param("ids") Collection<UUID> ids);
+
+  @Query("select a.accountNumber from Account a where a.accountNumber in :accountNumbers")
+  Set<String> findExistingAccountNumbers(@Param("accountNumbers") Collection<String> accountNumbers);
+
+  @Query("select k.accountNumber from AccountKey k where k.accountNumber in :accountNumbers")
+  Set<String> findRegisteredAccountNumbers(@Param("accountNumbers") Collection<String> accountNumbers);
+
+  // Keyset pages over (customer_id, id), an index or the partitioned primary key: the cursor is the last id seen.
+  List<Account> findByCustomerIdOrderByIdAsc(UUID customerId, Limit limit);
+
+  List<Account> findByCustomerIdAndIdGreaterThanOrderByIdAsc(UUID customerId, UUID after, Limit limit);
 }
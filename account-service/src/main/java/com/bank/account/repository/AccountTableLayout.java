@@ -0,0 +1,51 @@
+package com.bank.account.repository;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Whether lookups by id or account number resolve the customer through {@code account_keys}, so that the
+ * {@code accounts} probe carries the partition key. That is safe as soon as the partition backfill has been verified:
+ * from then on the mirror keeps {@code account_keys} complete, and the keyed queries also use the old table's
+ * {@code (customer_id, id)} index. The migration holds the cutover back until every instance has had a check in
+ * between, so no instance is left probing the partitioned table by id alone. Flips once and never back.
+ */
+@Component
+public class AccountTableLayout {
+
+  private static final String KEYED_SQL = """
+      SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass('accounts'))
+          OR EXISTS (SELECT 1 FROM account_partition_backfill WHERE verified_at IS NOT NULL)
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private volatile boolean keyed;
+
+  public AccountTableLayout(JdbcTemplate jdbcTemplate) {
+    this.jdbcTemplate = jdbcTemplate;
+  }
+
+  public boolean keyed() {
+    return keyed;
+  }
+
+  // Checked before the instance reports ready, then polled: the backfill may be verified on another instance.
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(
+      initialDelayString = "${app.accounts.partitioning.layout-check-interval-ms:10000}",
+      fixedDelayString = "${app.accounts.partitioning.layout-check-interval-ms:10000}")
+  public void refresh() {
+    if (keyed) {
+      return;
+    }
+    try {
+      keyed = Boolean.TRUE.equals(jdbcTemplate.queryForObject(KEYED_SQL, Boolean.class));
+    } catch (DataAccessException ex) {
+      // Not PostgreSQL (the H2 test profile) or not reachable yet: keep the old layout's queries.
+    }
+  }
+}
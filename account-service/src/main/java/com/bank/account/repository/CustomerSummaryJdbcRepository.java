@@ -0,0 +1,147 @@
+package com.bank.account.repository;
+
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class CustomerSummaryJdbcRepository {
+
+  private static final String INCREMENT_SQL = """
+      UPDATE customer_account_summary
+      SET account_count = account_count + ?, total_balance = total_balance + ?, updated_at = ?
+      WHERE customer_id = ? AND currency = ? AND status = ?
+      """;
+
+  private static final String INSERT_SQL = """
+      INSERT INTO customer_account_summary (customer_id, currency, status, account_count, total_balance, updated_at)
+      VALUES (?, ?, ?, ?, ?, ?)
+      ON CONFLICT DO NOTHING
+      """;
+
+  private static final String SELECT_BY_CUSTOMER_SQL = """
+      SELECT currency, status, account_count, total_balance
+      FROM customer_account_summary
+      WHERE customer_id = ?
+      ORDER BY currency, status
+      """;
+
+  // One statement, so one snapshot: an account and its summary increment commit together and are seen together.
+  private static final String DRIFT_SQL = """
+      WITH actual AS (
+        SELECT customer_id, currency, status, count(*) AS account_count, sum(balance) AS total_balance
+        FROM accounts
+        WHERE customer_id BETWEEN ? AND ?
+        GROUP BY customer_id, currency, status
+      ), stored AS (
+        SELECT customer_id, currency, status, account_count, total_balance
+        FROM customer_account_summary
+        WHERE customer_id BETWEEN ? AND ?
+      )
+      SELECT customer_id, currency, status
+      FROM actual a FULL JOIN stored s USING (customer_id, currency, status)
+      WHERE a.account_count IS DISTINCT FROM s.account_count OR a.total_balance IS DISTINCT FROM s.total_balance
+      ORDER BY customer_id, currency, status
+      """;
+
+  private static final String LOCK_SQL = """
+      SELECT 1 FROM customer_account_summary
+      WHERE customer_id = ANY(?)
+      ORDER BY customer_id, currency, status
+      FOR UPDATE
+      """;
+
+  private static final String REBUILD_SQL = """
+      INSERT INTO customer_account_summary (customer_id, currency, status, account_count, total_balance, updated_at)
+      SELECT customer_id, currency, status, count(*), sum(balance), ?
+      FROM accounts
+      WHERE customer_id = ANY(?)
+      GROUP BY customer_id, currency, status
+      """;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final int batchSize;
+
+  public CustomerSummaryJdbcRepository(
+      JdbcTemplate jdbcTemplate,
+      @Value("${app.accounts.batch.jdbc-batch-size:500}") int batchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.batchSize = batchSize;
+  }
+
+  /** Adds each delta to its summary row, creating the row on first use. Deltas should be in key order. */
+  public void applyAll(List<Delta> deltas, OffsetDateTime now) {
+    int[][] updated = jdbcTemplate.batchUpdate(INCREMENT_SQL, deltas, batchSize, (ps, delta) -> {
+      ps.setLong(1, delta.accounts());
+      ps.setBigDecimal(2, delta.balance());
+      ps.setObject(3, now);
+      ps.setObject(4, delta.customerId());
+      ps.setString(5, delta.currency());
+      ps.setString(6, delta.status());
+    });
+
+    int index = 0;
+    for (int[] batch : updated) {
+      for (int rows : batch) {
+        Delta delta = deltas.get(index++);
+        // A key's first account: rare, so inserted one at a time to see when a concurrent insert won the race.
+        if (rows == 0 && jdbcTemplate.update(INSERT_SQL, delta.customerId(), delta.currency(), delta.status(),
+            delta.accounts(), delta.balance(), now) == 0) {
+          jdbcTemplate.update(INCREMENT_SQL, delta.accounts(), delta.balance(), now,
+              delta.customerId(), delta.currency(), delta.status());
+        }
+      }
+    }
+  }
+
+  public List<Row> findByCustomerId(UUID customerId) {
+    return jdbcTemplate.query(SELECT_BY_CUSTOMER_SQL, (rs, rowNum) -> new Row(
+        rs.getString("currency"),
+        rs.getString("status"),
+        rs.getLong("account_count"),
+        rs.getBigDecimal("total_balance")), customerId);
+  }
+
+  /** PostgreSQL-only: keys in the customer id range whose stored summary differs from {@code accounts}. */
+  public List<Key> findDrift(UUID fromCustomerId, UUID toCustomerId) {
+    return jdbcTemplate.query(DRIFT_SQL, (rs, rowNum) -> new Key(
+            rs.getObject("customer_id", UUID.class), rs.getString("currency"), rs.getString("status")),
+        fromCustomerId, toCustomerId, fromCustomerId, toCustomerId);
+  }
+
+  /**
+   * PostgreSQL-only: recomputes the customers' summaries from {@code accounts}. Their existing rows are locked first,
+   * in the order writers take them, so a concurrent account insert either lands before the recount or waits and
+   * increments the rebuilt row.
+   */
+  public void rebuild(List<UUID> customerIds, OffsetDateTime now) {
+    UUID[] ids = customerIds.toArray(UUID[]::new);
+    jdbcTemplate.query(connection -> {
+      var statement = connection.prepareStatement(LOCK_SQL);
+      statement.setArray(1, connection.createArrayOf("uuid", ids));
+      return statement;
+    }, (RowCallbackHandler) rs -> { });
+    jdbcTemplate.update(connection -> {
+      var statement = connection.prepareStatement("DELETE FROM customer_account_summary WHERE customer_id = ANY(?)");
+      statement.setArray(1, connection.createArrayOf("uuid", ids));
+      return statement;
+    });
+    jdbcTemplate.update(connection -> {
+      var statement = connection.prepareStatement(REBUILD_SQL);
+      statement.setObject(1, now);
+      statement.setArray(2, connection.createArrayOf("uuid", ids));
+      return statement;
+    });
+  }
+
+  public record Delta(UUID customerId, String currency, String status, long accounts, BigDecimal balance) {}
+
+  public record Row(String currency, String status, long accountCount, BigDecimal totalBalance) {}
+
+  public record Key(UUID customerId, String currency, String status) {}
+}
@@ -0,0 +1,74 @@
+package com.bank.account.repository;
+
+import com.bank.account.entity.OutboxEvent;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class OutboxJdbcRepository {
+
+  private static final String INSERT_SQL = """
+      INSERT INTO account_outbox (aggregate_id, event_type, payload, created_at)
+      VALUES (?, ?, ?, ?)
+      """;
+
+  private static final String SELECT_BATCH_SQL = """
+      SELECT id, aggregate_id, event_type, payload, created_at
+      FROM account_outbox
+      ORDER BY id
+      LIMIT ?
+      """;
+
+  // Arbitrary application-wide key for pg_try_advisory_xact_lock: one relay drains the outbox at a time.
+  private static final long RELAY_LOCK_KEY = 0x6163636f756e74L;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final int batchSize;
+
+  public OutboxJdbcRepository(
+      JdbcTemplate jdbcTemplate,
+      @Value("${app.accounts.batch.jdbc-batch-size:500}") int batchSize) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.batchSize = batchSize;
+  }
+
+  public void insertAll(List<OutboxEvent> events) {
+    jdbcTemplate.batchUpdate(INSERT_SQL, events, batchSize, (ps, event) -> {
+      ps.setObject(1, event.getAggregateId());
+      ps.setString(2, event.getEventType());
+      ps.setString(3, event.getPayload());
+      ps.setObject(4, event.getCreatedAt());
+    });
+  }
+
+  /** Transaction-scoped: released on commit or rollback, so a crashed relay never holds it. */
+  public boolean tryLockRelay() {
+    return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+        "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, RELAY_LOCK_KEY));
+  }
+
+  public List<OutboxEvent> findOldest(int limit) {
+    return jdbcTemplate.query(SELECT_BATCH_SQL, (rs, rowNum) -> {
+      OutboxEvent event = new OutboxEvent();
+      event.setId(rs.getLong("id"));
+      event.setAggregateId(rs.getObject("aggregate_id", UUID.class));
+      event.setEventType(rs.getString("event_type"));
+      event.setPayload(rs.getString("payload"));
+      event.setCreatedAt(rs.getObject("created_at", OffsetDateTime.class));
+      return event;
+    }, limit);
+  }
+
+  public int deleteAll(List<Long> ids) {
+    return jdbcTemplate.update(
+        connection -> {
+          var statement = connection.prepareStatement("DELETE FROM account_outbox WHERE id = ANY(?)");
+          statement.setArray(1, connection.createArrayOf("bigint", ids.toArray()));
+          return statement;
+        });
+  }
+}
@@ -0,0 +1,90 @@
+package com.bank.account.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+/**
+ * Remembers tokens the delegate already verified, so a client reusing its bearer token pays for the signature check
+ * once rather than on every request. Entries are keyed by a SHA-256 of the token (raw tokens are never held) and
+ * expire with the token's {@code exp}, capped at {@code maxTtl}. Rejected tokens are not cached.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+  private static final Base64.Encoder KEY_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+  private final JwtDecoder delegate;
+  private final Cache<String, Jwt> cache;
+  private final Timer verification;
+
+  public CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Duration maxTtl, MeterRegistry meterRegistry) {
+    this(delegate, maximumSize, maxTtl, meterRegistry, Clock.systemUTC());
+  }
+
+  CachingJwtDecoder(JwtDecoder delegate, long maximumSize, Duration maxTtl, MeterRegistry meterRegistry, Clock clock) {
+    this.delegate = delegate;
+    this.cache = Caffeine.newBuilder()
+        .maximumSize(maximumSize)
+        .expireAfter(new Expiry<String, Jwt>() {
+          @Override
+          public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            Duration remaining = Duration.between(clock.instant(), jwt.getExpiresAt());
+            return remaining.isNegative() ? 0 : Math.min(remaining.toNanos(), maxTtl.toNanos());
+          }
+
+          @Override
+          public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+          }
+
+          @Override
+          public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+          }
+        })
+        .recordStats()
+        .build();
+    CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt");
+    this.verification = Timer.builder("security.jwt.verification")
+        .description("Full decode and signature verification of bearer tokens that missed the cache")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Jwt decode(String token) throws JwtException {
+    String key = key(token);
+    Jwt cached = cache.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    Jwt jwt = verification.record(() -> delegate.decode(token));
+    Instant expiresAt = jwt.getExpiresAt();
+    // Without exp there is nothing to bound the entry by.
+    if (expiresAt != null) {
+      cache.put(key, jwt);
+    }
+    return jwt;
+  }
+
+  private static String key(String token) {
+    try {
+      byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+      return KEY_ENCODER.encodeToString(digest);
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+}
@@ -0,0 +1,78 @@
+package com.bank.account.security;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.security.oauth2.resource.OAuth2ResourceServerProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimNames;
+import org.springframework.security.oauth2.jwt.JwtClaimValidator;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.util.StringUtils;
+
+/**
+ * Replaces Boot's issuer-derived decoder when security is on. The JWK set is cached and refreshed in the background
+ * ahead of expiry, so a key rotation is picked up without a request waiting on the fetch; a token signed with a key
+ * that is not cached yet still triggers an immediate (rate-limited) reload.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.security.enabled", havingValue = "true")
+@EnableConfigurationProperties(JwtValidationProperties.class)
+public class JwtDecoderConfig {
+
+  @Bean
+  JWKSource<SecurityContext> jwkSource(
+      OAuth2ResourceServerProperties resourceServer, JwtValidationProperties properties) throws MalformedURLException {
+    return JWKSourceBuilder.create(URI.create(resourceServer.getJwt().getJwkSetUri()).toURL())
+        .cache(properties.jwkSetTtl().toMillis(), properties.jwkSetRefreshTimeout().toMillis())
+        .refreshAheadCache(properties.jwkSetRefreshAhead().toMillis(), true)
+        .build();
+  }
+
+  @Bean
+  JwtDecoder jwtDecoder(
+      JWKSource<SecurityContext> jwkSource,
+      OAuth2ResourceServerProperties resourceServer,
+      JwtValidationProperties properties,
+      MeterRegistry meterRegistry) {
+    OAuth2ResourceServerProperties.Jwt jwt = resourceServer.getJwt();
+    Set<JWSAlgorithm> algorithms = jwt.getJwsAlgorithms().stream().map(JWSAlgorithm::parse).collect(Collectors.toSet());
+    DefaultJWTProcessor<SecurityContext> processor = new DefaultJWTProcessor<>();
+    processor.setJWSKeySelector(new JWSVerificationKeySelector<>(algorithms, jwkSource));
+    // Claims are checked once, by the Spring validators below.
+    processor.setJWTClaimsSetVerifier((claims, context) -> { });
+
+    List<OAuth2TokenValidator<Jwt>> validators = new ArrayList<>();
+    validators.add(StringUtils.hasText(jwt.getIssuerUri())
+        ? JwtValidators.createDefaultWithIssuer(jwt.getIssuerUri())
+        : JwtValidators.createDefault());
+    if (!jwt.getAudiences().isEmpty()) {
+      validators.add(new JwtClaimValidator<List<String>>(JwtClaimNames.AUD,
+          aud -> aud != null && aud.stream().anyMatch(jwt.getAudiences()::contains)));
+    }
+    NimbusJwtDecoder decoder = new NimbusJwtDecoder(processor);
+    decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(validators));
+    if (!properties.cacheEnabled()) {
+      return decoder;
+    }
+    return new CachingJwtDecoder(decoder, properties.cacheMaximumSize(), properties.cacheMaxTtl(), meterRegistry);
+  }
+}
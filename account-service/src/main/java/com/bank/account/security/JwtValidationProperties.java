@@ -0,0 +1,14 @@
+package com.bank.account.security;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.security.jwt")
+public record JwtValidationProperties(
+    @DefaultValue("true") boolean cacheEnabled,
+    @DefaultValue("10000") long cacheMaximumSize,
+    @DefaultValue("5m") Duration cacheMaxTtl,
+    @DefaultValue("15m") Duration jwkSetTtl,
+    @DefaultValue("1m") Duration jwkSetRefreshAhead,
+    @DefaultValue("5s") Duration jwkSetRefreshTimeout) {}
@@ -0,0 +1,171 @@
+package com.bank.account.service;
+
+import com.bank.account.dto.BatchCreateAccountsResponse;
+import com.bank.account.dto.BatchItemResult;
+import com.bank.account.dto.CreateAccountRequest;
+import com.bank.account.entity.Account;
+import com.bank.account.numberindex.AccountNumberIndex;
+import com.bank.account.repository.AccountJdbcRepository;
+import com.bank.account.repository.AccountRepository;
+import com.bank.account.repository.AccountTableLayout;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+public class AccountBatchService {
+
+  private final AccountRepository accountRepository;
+  private final AccountJdbcRepository accountJdbcRepository;
+  private final AccountIdGenerator accountIdGenerator;
+  private final Validator validator;
+  private final AccountOutbox accountOutbox;
+  private final CustomerSummaryService customerSummaryService;
+  private final AccountTableLayout accountTableLayout;
+  private final AccountNumberIndex accountNumberIndex;
+  private final TransactionTemplate transactionTemplate;
+  private final int maxItems;
+
+  public AccountBatchService(
+      AccountRepository accountRepository,
+      AccountJdbcRepository accountJdbcRepository,
+      AccountIdGenerator accountIdGenerator,
+      Validator validator,
+      AccountOutbox accountOutbox,
+      CustomerSummaryService customerSummaryService,
+      AccountTableLayout accountTableLayout,
+      AccountNumberIndex accountNumberIndex,
+      PlatformTransactionManager transactionManager,
+      @Value("${app.accounts.batch.max-items:5000}") int maxItems) {
+    this.accountRepository = accountRepository;
+    this.accountJdbcRepository = accountJdbcRepository;
+    this.accountIdGenerator = accountIdGenerator;
+    this.validator = validator;
+    this.accountOutbox = accountOutbox;
+    this.customerSummaryService = customerSummaryService;
+    this.accountTableLayout = accountTableLayout;
+    this.accountNumberIndex = accountNumberIndex;
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.maxItems = maxItems;
+  }
+
+  public BatchCreateAccountsResponse createBatch(List<CreateAccountRequest> requests) {
+    if (requests == null || requests.isEmpty()) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Batch must contain at least one account");
+    }
+    if (requests.size() > maxItems) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Batch exceeds maximum of " + maxItems + " accounts");
+    }
+
+    try {
+      return transactionTemplate.execute(status -> insert(requests, true));
+    } catch (DuplicateKeyException firstAttempt) {
+      // A concurrent create took one of the numbers between the duplicate check and the insert, or the number index
+      // had not caught up with another instance yet; re-check once, against the database only.
+      try {
+        return transactionTemplate.execute(status -> insert(requests, false));
+      } catch (DuplicateKeyException secondAttempt) {
+        throw new ResponseStatusException(HttpStatus.CONFLICT, "Concurrent account creation, retry the batch");
+      }
+    }
+  }
+
+  private BatchCreateAccountsResponse insert(List<CreateAccountRequest> requests, boolean useIndex) {
+    BatchItemResult[] results = new BatchItemResult[requests.size()];
+    Map<String, Integer> candidates = new LinkedHashMap<>();
+
+    for (int index = 0; index < requests.size(); index++) {
+      CreateAccountRequest request = requests.get(index);
+      if (request == null) {
+        results[index] = BatchItemResult.invalid(index, null, "Account request must not be null");
+        continue;
+      }
+      Set<ConstraintViolation<CreateAccountRequest>> violations = validator.validate(request);
+      if (!violations.isEmpty()) {
+        results[index] = BatchItemResult.invalid(index, request.accountNumber(), describe(violations));
+        continue;
+      }
+      if (candidates.putIfAbsent(request.accountNumber(), index) != null) {
+        results[index] = BatchItemResult.conflict(index, request.accountNumber(), "Duplicate account number in batch");
+      }
+    }
+
+    Set<String> probe = useIndex ? mightExist(candidates.keySet()) : candidates.keySet();
+    Set<String> existing = findExisting(probe);
+    if (useIndex && accountNumberIndex.ready()) {
+      accountNumberIndex.recordFalsePositives(probe.size() - existing.size());
+    }
+
+    OffsetDateTime now = OffsetDateTime.now();
+    List<Account> accounts = new ArrayList<>(candidates.size());
+    for (Map.Entry<String, Integer> candidate : candidates.entrySet()) {
+      int index = candidate.getValue();
+      if (existing.contains(candidate.getKey())) {
+        results[index] = BatchItemResult.conflict(index, candidate.getKey(), "Account number already exists");
+        continue;
+      }
+      CreateAccountRequest request = requests.get(index);
+      Account account = new Account();
+      account.setId(accountIdGenerator.nextId());
+      account.setCustomerId(request.customerId());
+      account.setAccountNumber(request.accountNumber());
+      account.setCurrency(request.currency());
+      account.setBalance(request.openingBalance());
+      account.setStatus("ACTIVE");
+      account.setCreatedAt(now);
+      account.setUpdatedAt(now);
+      accounts.add(account);
+      results[index] = BatchItemResult.created(index, request.accountNumber(), account.getId());
+    }
+
+    if (!accounts.isEmpty()) {
+      accounts.forEach(account -> accountNumberIndex.add(account.getAccountNumber()));
+      accountJdbcRepository.insertAll(accounts);
+      customerSummaryService.accountsCreated(accounts);
+      accountOutbox.accountsCreated(accounts);
+    }
+    return BatchCreateAccountsResponse.of(Arrays.asList(results));
+  }
+
+  // Numbers the index has definitely never seen are new: only the rest need the database.
+  private Set<String> mightExist(Set<String> accountNumbers) {
+    Set<String> probe = new HashSet<>();
+    for (String accountNumber : accountNumbers) {
+      if (accountNumberIndex.mightExist(accountNumber)) {
+        probe.add(accountNumber);
+      }
+    }
+    return probe;
+  }
+
+  private Set<String> findExisting(Set<String> accountNumbers) {
+    if (accountNumbers.isEmpty()) {
+      return Set.of();
+    }
+    return accountTableLayout.keyed()
+        ? accountRepository.findRegisteredAccountNumbers(accountNumbers)
+        : accountRepository.findExistingAccountNumbers(accountNumbers);
+  }
+
+  private static String describe(Set<ConstraintViolation<CreateAccountRequest>> violations) {
+    return violations.stream()
+        .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+        .sorted()
+        .collect(Collectors.joining("; "));
+  }
+}
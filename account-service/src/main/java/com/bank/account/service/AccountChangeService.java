@@ -0,0 +1,72 @@
+package com.bank.account.service;
+
+import com.bank.account.dto.AccountChangesResponse;
+import com.bank.account.dto.AccountResponse;
+import com.bank.account.repository.AccountChangeJdbcRepository;
+import com.bank.account.repository.AccountChangeJdbcRepository.AccountChange;
+import com.bank.account.repository.AccountChangeJdbcRepository.ChangePosition;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+public class AccountChangeService {
+
+  private final AccountChangeJdbcRepository accountChangeJdbcRepository;
+  private final TransactionTemplate readOnlyTransaction;
+  private final int maxLimit;
+
+  public AccountChangeService(
+      AccountChangeJdbcRepository accountChangeJdbcRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${app.accounts.changes.max-limit:5000}") int maxLimit) {
+    this.accountChangeJdbcRepository = accountChangeJdbcRepository;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.maxLimit = maxLimit;
+  }
+
+  /**
+   * Accounts written after {@code cursor} (from the start when null), in the order their transactions were assigned
+   * ids. The returned cursor is never null: with nothing new it is the one passed in, to be polled again later.
+   */
+  public AccountChangesResponse changes(String cursor, int limit) {
+    if (limit < 1 || limit > maxLimit) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + maxLimit);
+    }
+    ChangePosition after = cursor == null ? ChangePosition.START : decode(cursor);
+
+    // One extra row tells whether the caller should come straight back instead of waiting for the next poll.
+    List<AccountChange> changes = readOnlyTransaction.execute(
+        status -> accountChangeJdbcRepository.findAfter(after, limit + 1));
+    boolean hasMore = changes.size() > limit;
+    List<AccountChange> page = hasMore ? changes.subList(0, limit) : changes;
+    List<AccountResponse> items = page.stream().map(AccountChange::account).toList();
+    ChangePosition next = page.isEmpty() ? after : page.get(page.size() - 1).position();
+    return new AccountChangesResponse(items, encode(next), hasMore);
+  }
+
+  static String encode(ChangePosition position) {
+    String raw = position.xid() + ":" + position.seq() + ":" + position.id();
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  static ChangePosition decode(String cursor) {
+    try {
+      String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":", -1);
+      if (parts.length != 3) {
+        throw new IllegalArgumentException("expected 3 parts");
+      }
+      return new ChangePosition(Long.parseLong(parts[0]), Long.parseLong(parts[1]), UUID.fromString(parts[2]));
+    } catch (IllegalArgumentException ex) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "Invalid cursor");
+    }
+  }
+}
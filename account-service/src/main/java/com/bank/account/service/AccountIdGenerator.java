@@ -0,0 +1,7 @@
+package com.bank.account.service;
+
+import java.util.UUID;
+
+public interface AccountIdGenerator {
+  UUID nextId();
+}
@@ -0,0 +1,57 @@
+package com.bank.account.service;
+
+import com.bank.account.dto.CreateAccountRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/** Line formats accepted by the bulk import; both carry one {@link CreateAccountRequest} per line. */
+public enum AccountImportFormat {
+
+  /** {@code customerId,accountNumber,currency,openingBalance}; an optional header line starting with customerId. */
+  CSV {
+    @Override
+    CreateAccountRequest parse(String line, ObjectReader json) {
+      String[] fields = line.split(",", -1);
+      if (fields.length != 4) {
+        throw new IllegalArgumentException("Expected 4 columns but found " + fields.length);
+      }
+      try {
+        return new CreateAccountRequest(
+            fields[0].isBlank() ? null : UUID.fromString(fields[0].trim()),
+            fields[1].trim(),
+            fields[2].trim(),
+            fields[3].isBlank() ? null : new BigDecimal(fields[3].trim()));
+      } catch (IllegalArgumentException ex) {
+        // NumberFormatException included.
+        throw new IllegalArgumentException("Malformed value: " + ex.getMessage(), ex);
+      }
+    }
+
+    @Override
+    boolean isHeader(String line) {
+      return line.startsWith("customerId");
+    }
+  },
+
+  NDJSON {
+    @Override
+    CreateAccountRequest parse(String line, ObjectReader json) {
+      try {
+        return json.readValue(line);
+      } catch (JsonProcessingException ex) {
+        throw new IllegalArgumentException("Malformed JSON: " + ex.getOriginalMessage(), ex);
+      }
+    }
+
+    @Override
+    boolean isHeader(String line) {
+      return false;
+    }
+  };
+
+  abstract CreateAccountRequest parse(String line, ObjectReader json);
+
+  abstract boolean isHeader(String line);
+}
@@ -0,0 +1,226 @@
+package com.bank.account.service;
+
+import com.bank.account.dto.AccountImportIssue;
+import com.bank.account.dto.AccountImportReport;
+import com.bank.account.dto.CreateAccountRequest;
+import com.bank.account.numberindex.AccountNumberIndex;
+import com.bank.account.repository.AccountImportJdbcRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Loads large account files in fixed-size chunks: each chunk is validated while it streams into the staging table
+ * over COPY, then merged into {@code accounts} and checkpointed in one transaction. Memory is bounded by a chunk's
+ * rejects, not by the file; re-sending the same file with the same import id resumes after the last checkpoint.
+ */
+@Service
+public class AccountImportService {
+
+  private static final String COMPLETED = "COMPLETED";
+  private static final int MAX_ACCOUNT_NUMBER_LENGTH = 32;
+  private static final int MAX_BALANCE_INTEGER_DIGITS = 15;
+
+  private final AccountImportJdbcRepository accountImportJdbcRepository;
+  private final AccountIdGenerator accountIdGenerator;
+  private final AccountNumberIndex accountNumberIndex;
+  private final Validator validator;
+  private final ObjectReader requestReader;
+  private final TransactionTemplate transactionTemplate;
+  private final int chunkSize;
+  private final int maxReportedIssues;
+  private final Counter imported;
+  private final Counter duplicates;
+  private final Counter rejected;
+
+  public AccountImportService(
+      AccountImportJdbcRepository accountImportJdbcRepository,
+      AccountIdGenerator accountIdGenerator,
+      AccountNumberIndex accountNumberIndex,
+      Validator validator,
+      ObjectMapper objectMapper,
+      PlatformTransactionManager transactionManager,
+      MeterRegistry meterRegistry,
+      @Value("${app.accounts.import.chunk-size:50000}") int chunkSize,
+      @Value("${app.accounts.import.max-reported-issues:100}") int maxReportedIssues) {
+    this.accountImportJdbcRepository = accountImportJdbcRepository;
+    this.accountIdGenerator = accountIdGenerator;
+    this.accountNumberIndex = accountNumberIndex;
+    this.validator = validator;
+    this.requestReader = objectMapper.readerFor(CreateAccountRequest.class);
+    this.transactionTemplate = new TransactionTemplate(transactionManager);
+    this.chunkSize = chunkSize;
+    this.maxReportedIssues = maxReportedIssues;
+    this.imported = rows(meterRegistry, "imported");
+    this.duplicates = rows(meterRegistry, "duplicate");
+    this.rejected = rows(meterRegistry, "rejected");
+  }
+
+  public AccountImportReport importAccounts(UUID importId, AccountImportFormat format, InputStream body) {
+    UUID id = importId != null ? importId : accountIdGenerator.nextId();
+    accountImportJdbcRepository.createIfAbsent(id, format.name(), OffsetDateTime.now());
+    AccountImportReport current = report(id);
+    if (COMPLETED.equals(current.status())) {
+      return current;
+    }
+
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8), 1 << 16)) {
+      Rows rows = new Rows(reader, format);
+      rows.skip(current.rowsProcessed());
+      long checkpoint = current.rowsProcessed();
+      while (rows.hasNext()) {
+        long expected = checkpoint;
+        checkpoint += transactionTemplate.execute(status -> importChunk(id, rows, expected));
+      }
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+    accountImportJdbcRepository.complete(id, OffsetDateTime.now());
+    return report(id);
+  }
+
+  public AccountImportReport report(UUID importId) {
+    return accountImportJdbcRepository.find(importId, maxReportedIssues)
+        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Import not found"));
+  }
+
+  private long importChunk(UUID importId, Rows rows, long expectedCheckpoint) {
+    if (accountImportJdbcRepository.lockProgress(importId) != expectedCheckpoint) {
+      throw new ResponseStatusException(HttpStatus.CONFLICT, "Import " + importId + " is being resumed elsewhere");
+    }
+    List<AccountImportIssue> rejects = new ArrayList<>();
+    long[] read = {0};
+    accountImportJdbcRepository.stage(importId, writer -> {
+      while (read[0] < chunkSize && rows.hasNext()) {
+        String line = rows.next();
+        read[0]++;
+        try {
+          CreateAccountRequest request = rows.format.parse(line, requestReader);
+          String problem = validate(request);
+          if (problem == null) {
+            // Indexed before the merge commits, like every other create.
+            accountNumberIndex.add(request.accountNumber());
+            writer.write(rows.number(), accountIdGenerator.nextId(), request);
+          } else {
+            rejects.add(AccountImportIssue.rejected(rows.number(), request.accountNumber(), problem));
+          }
+        } catch (IllegalArgumentException ex) {
+          rejects.add(AccountImportIssue.rejected(rows.number(), null, ex.getMessage()));
+        }
+      }
+    });
+
+    OffsetDateTime now = OffsetDateTime.now();
+    int inserted = accountImportJdbcRepository.merge(importId, AccountOutbox.ACCOUNT_CREATED, now);
+    int duplicate = accountImportJdbcRepository.recordDuplicates(importId);
+    accountImportJdbcRepository.clearStaging(importId);
+    accountImportJdbcRepository.insertIssues(importId, rejects);
+    accountImportJdbcRepository.advance(importId, read[0], inserted, duplicate, rejects.size(), now);
+    imported.increment(inserted);
+    duplicates.increment(duplicate);
+    rejected.increment(rejects.size());
+    return read[0];
+  }
+
+  private String validate(CreateAccountRequest request) {
+    Set<ConstraintViolation<CreateAccountRequest>> violations = validator.validate(request);
+    if (!violations.isEmpty()) {
+      return violations.stream()
+          .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+          .sorted()
+          .collect(Collectors.joining("; "));
+    }
+    // Column limits: one oversized value would otherwise fail the COPY for the whole chunk.
+    if (request.accountNumber().length() > MAX_ACCOUNT_NUMBER_LENGTH) {
+      return "accountNumber must be at most " + MAX_ACCOUNT_NUMBER_LENGTH + " characters";
+    }
+    BigDecimal balance = request.openingBalance().setScale(4, RoundingMode.HALF_UP);
+    if (balance.precision() - balance.scale() > MAX_BALANCE_INTEGER_DIGITS) {
+      return "openingBalance must have at most " + MAX_BALANCE_INTEGER_DIGITS + " integer digits";
+    }
+    return null;
+  }
+
+  private static Counter rows(MeterRegistry meterRegistry, String outcome) {
+    return Counter.builder("account.import.rows")
+        .description("Bulk import rows by outcome")
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+
+  /** Data lines of the upload, numbered from 1; blank lines and the CSV header are not rows. */
+  private static final class Rows {
+
+    private final BufferedReader reader;
+    private final AccountImportFormat format;
+    private String pending;
+    private long number;
+    private boolean first = true;
+
+    private Rows(BufferedReader reader, AccountImportFormat format) {
+      this.reader = reader;
+      this.format = format;
+    }
+
+    boolean hasNext() {
+      if (pending != null) {
+        return true;
+      }
+      try {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          boolean header = first && format.isHeader(line);
+          first = false;
+          if (!header && !line.isBlank()) {
+            pending = line;
+            return true;
+          }
+        }
+        return false;
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    }
+
+    String next() {
+      hasNext();
+      String line = pending;
+      pending = null;
+      number++;
+      return line;
+    }
+
+    long number() {
+      return number;
+    }
+
+    void skip(long count) {
+      while (number < count && hasNext()) {
+        next();
+      }
+    }
+  }
+}
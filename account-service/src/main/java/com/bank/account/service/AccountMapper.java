@@ -0,0 +1,21 @@
+package com.bank.account.service;
+
+import com.bank.account.dto.AccountResponse;
+import com.bank.account.entity.Account;
+
+final class AccountMapper {
+
+  private AccountMapper() {}
+
+  static AccountResponse toResponse(Account account) {
+    return new AccountResponse(
+        account.getId(),
+        account.getCustomerId(),
+        account.getAccountNumber(),
+        account.getCurrency(),
+        account.getBalance(),
+        account.getStatus(),
+        account.getCreatedAt(),
+        account.getUpdatedAt());
+  }
+}
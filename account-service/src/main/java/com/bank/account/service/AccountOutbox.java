@@ -0,0 +1,48 @@
+package com.bank.account.service;
+
+import com.bank.account.entity.Account;
+import com.bank.account.entity.OutboxEvent;
+import com.bank.account.repository.OutboxJdbcRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.stereotype.Component;
+
+/** Appends account events to {@code account_outbox} in the caller's transaction; {@code OutboxRelay} publishes them. */
+@Component
+public class AccountOutbox {
+
+  public static final String ACCOUNT_CREATED = "AccountCreated";
+
+  private final OutboxJdbcRepository outboxJdbcRepository;
+  private final ObjectMapper objectMapper;
+
+  public AccountOutbox(OutboxJdbcRepository outboxJdbcRepository, ObjectMapper objectMapper) {
+    this.outboxJdbcRepository = outboxJdbcRepository;
+    this.objectMapper = objectMapper;
+  }
+
+  public void accountsCreated(List<Account> accounts) {
+    OffsetDateTime now = OffsetDateTime.now();
+    List<OutboxEvent> events = new ArrayList<>(accounts.size());
+    for (Account account : accounts) {
+      OutboxEvent event = new OutboxEvent();
+      event.setAggregateId(account.getId());
+      event.setEventType(ACCOUNT_CREATED);
+      event.setPayload(payload(account));
+      event.setCreatedAt(now);
+      events.add(event);
+    }
+    outboxJdbcRepository.insertAll(events);
+  }
+
+  private String payload(Account account) {
+    try {
+      return objectMapper.writeValueAsString(AccountMapper.toResponse(account));
+    } catch (JsonProcessingException ex) {
+      throw new IllegalStateException("Could not serialize account event " + account.getId(), ex);
+    }
+  }
+}
@@ -1,31 +1,78 @@
 package com.bank.account.service;
 
+import com.bank.account.cache.AccountCache;
+import com.bank.account.datasource.ReadRouting;
+import com.bank.account.dto.AccountLookupResponse;
 import com.bank.account.dto.AccountResponse;
 import com.bank.account.dto.CreateAccountRequest;
 import com.bank.account.entity.Account;
+import com.bank.account.metrics.StageTimers;
+import com.bank.account.numberindex.AccountNumberIndex;
 import com.bank.account.repository.AccountRepository;
+import com.bank.account.repository.AccountTableLayout;
+import java.sql.SQLException;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 @Service
 public class AccountService {
 
+  private static final String UNIQUE_VIOLATION = "23505";
+
   private final AccountRepository accountRepository;
+  private final AccountIdGenerator accountIdGenerator;
+  private final AccountCache accountCache;
+  private final AccountOutbox accountOutbox;
+  private final CustomerSummaryService customerSummaryService;
+  private final ReadRouting readRouting;
+  private final AccountTableLayout accountTableLayout;
+  private final StageTimers stageTimers;
+  private final SingleFlight<UUID, AccountResponse> accountLoads;
+  private final AccountNumberIndex accountNumberIndex;
 
-  public AccountService(AccountRepository accountRepository) {
+  public AccountService(
+      AccountRepository accountRepository,
+      AccountIdGenerator accountIdGenerator,
+      AccountCache accountCache,
+      AccountOutbox accountOutbox,
+      CustomerSummaryService customerSummaryService,
+      ReadRouting readRouting,
+      AccountTableLayout accountTableLayout,
+      StageTimers stageTimers,
+      SingleFlight<UUID, AccountResponse> accountLoads,
+      AccountNumberIndex accountNumberIndex) {
     this.accountRepository = accountRepository;
+    this.accountIdGenerator = accountIdGenerator;
+    this.accountCache = accountCache;
+    this.accountOutbox = accountOutbox;
+    this.customerSummaryService = customerSummaryService;
+    this.readRouting = readRouting;
+    this.accountTableLayout = accountTableLayout;
+    this.stageTimers = stageTimers;
+    this.accountLoads = accountLoads;
+    this.accountNumberIndex = accountNumberIndex;
   }
 
+  // The account row, its customer summary and its outbox event commit together.
+  @Transactional
   public AccountResponse create(CreateAccountRequest request) {
-    accountRepository.findByAccountNumber(request.accountNumber()).ifPresent(existing -> {
-      throw new ResponseStatusException(HttpStatus.CONFLICT, "Account number already exists");
-    });
-
     OffsetDateTime now = OffsetDateTime.now();
     Account account = new Account();
+    account.setId(accountIdGenerator.nextId());
     account.setCustomerId(request.customerId());
     account.setAccountNumber(request.accountNumber());
     account.setCurrency(request.currency());
@@ -34,25 +81,94 @@ public class AccountService {
     account.setCreatedAt(now);
     account.setUpdatedAt(now);
 
-    Account saved = accountRepository.save(account);
-    return map(saved);
+    // The account_number UNIQUE constraint is the duplicate check: one INSERT, no pre-check SELECT to race. Its
+    // stage timer therefore covers both.
+    accountNumberIndex.add(request.accountNumber());
+    try {
+      Account saved = stageTimers.record("insert", () -> accountRepository.saveAndFlush(account));
+      stageTimers.record("summary", () -> customerSummaryService.accountsCreated(List.of(saved)));
+      stageTimers.record("outbox", () -> accountOutbox.accountsCreated(List.of(saved)));
+      return AccountMapper.toResponse(saved);
+    } catch (DataIntegrityViolationException ex) {
+      if (isUniqueViolation(ex)) {
+        throw new ResponseStatusException(HttpStatus.CONFLICT, "Account number already exists");
+      }
+      throw ex;
+    }
   }
 
   public AccountResponse get(UUID id) {
-    return accountRepository.findById(id)
-        .map(this::map)
+    return accountCache.get(id, this::load);
+  }
+
+  // Most numbers asked for do exist; the index spares the query for those that definitely do not. A caller pinned to
+  // the primary asked to see writes from every instance, which the index only learns of at the next catch-up.
+  public AccountResponse getByNumber(String accountNumber) {
+    boolean indexed = !readRouting.primaryPinned();
+    if (indexed && !accountNumberIndex.mightExist(accountNumber)) {
+      throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Account not found");
+    }
+    return stageTimers.record("load", () -> readRouting.orOnPrimary(() -> accountTableLayout.keyed()
+            ? accountRepository.findKeyedResponseByAccountNumber(accountNumber)
+            : accountRepository.findResponseByAccountNumber(accountNumber)))
+        .orElseThrow(() -> {
+          if (indexed) {
+            accountNumberIndex.recordFalsePositives(1);
+          }
+          return new ResponseStatusException(HttpStatus.NOT_FOUND, "Account not found");
+        });
+  }
+
+  public AccountLookupResponse lookup(Collection<UUID> ids) {
+    Set<UUID> uniqueIds = new LinkedHashSet<>(ids);
+    Map<UUID, AccountResponse> byId = findResponses(uniqueIds).stream()
+        .collect(Collectors.toMap(AccountResponse::id, Function.identity(), (first, second) -> first, HashMap::new));
+    if (byId.size() < uniqueIds.size() && readRouting.replicasEnabled()) {
+      // Ids the replica does not have yet may have been created moments ago; ask the primary for those only.
+      Set<UUID> unresolved = new LinkedHashSet<>(uniqueIds);
+      unresolved.removeAll(byId.keySet());
+      readRouting.onPrimary(() -> findResponses(unresolved))
+          .forEach(account -> byId.put(account.id(), account));
+    }
+
+    List<AccountResponse> found = new ArrayList<>(byId.size());
+    List<UUID> missing = new ArrayList<>();
+    for (UUID id : uniqueIds) {
+      AccountResponse account = byId.get(id);
+      if (account != null) {
+        found.add(account);
+      } else {
+        missing.add(id);
+      }
+    }
+    return new AccountLookupResponse(found, missing);
+  }
+
+  // Concurrent misses for one id share a query. A caller pinned to the primary must not take a replica read, so it
+  // loads on its own.
+  private AccountResponse load(UUID id) {
+    return readRouting.primaryPinned() ? loadOnce(id) : accountLoads.execute(id, this::loadOnce);
+  }
+
+  private AccountResponse loadOnce(UUID id) {
+    return stageTimers.record("load", () -> readRouting.orOnPrimary(() -> accountTableLayout.keyed()
+            ? accountRepository.findKeyedResponseById(id)
+            : accountRepository.findResponseById(id)))
         .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Account not found"));
   }
 
-  private AccountResponse map(Account account) {
-    return new AccountResponse(
-        account.getId(),
-        account.getCustomerId(),
-        account.getAccountNumber(),
-        account.getCurrency(),
-        account.getBalance(),
-        account.getStatus(),
-        account.getCreatedAt(),
-        account.getUpdatedAt());
+  private List<AccountResponse> findResponses(Collection<UUID> ids) {
+    return stageTimers.record("lookup", () -> accountTableLayout.keyed()
+        ? accountRepository.findKeyedResponsesByIdIn(ids)
+        : accountRepository.findResponsesByIdIn(ids));
+  }
+
+  private static boolean isUniqueViolation(Throwable ex) {
+    for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+      if (cause instanceof SQLException sqlException && UNIQUE_VIOLATION.equals(sqlException.getSQLState())) {
+        return true;
+      }
+    }
+    return false;
   }
 }
@@ -0,0 +1,17 @@
+package com.bank.account.service;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+/** Published by update and delete paths; creates need none, as a missing id is never cached. */
+public record AccountsChangedEvent(Set<UUID> accountIds) {
+
+  public static AccountsChangedEvent of(UUID accountId) {
+    return new AccountsChangedEvent(Set.of(accountId));
+  }
+
+  public static AccountsChangedEvent of(Collection<UUID> accountIds) {
+    return new AccountsChangedEvent(Set.copyOf(accountIds));
+  }
+}
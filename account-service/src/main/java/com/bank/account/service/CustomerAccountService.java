@@ -0,0 +1,66 @@
+package com.bank.account.service;
+
+import com.bank.account.dto.AccountPageResponse;
+import com.bank.account.dto.AccountResponse;
+import com.bank.account.entity.Account;
+import com.bank.account.repository.AccountJdbcRepository;
+import com.bank.account.repository.AccountRepository;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+@Service
+public class CustomerAccountService {
+
+  private final AccountRepository accountRepository;
+  private final AccountJdbcRepository accountJdbcRepository;
+  private final TransactionTemplate readOnlyTransaction;
+  private final int maxLimit;
+  private final int streamFetchSize;
+
+  public CustomerAccountService(
+      AccountRepository accountRepository,
+      AccountJdbcRepository accountJdbcRepository,
+      PlatformTransactionManager transactionManager,
+      @Value("${app.accounts.page.max-limit:1000}") int maxLimit,
+      @Value("${app.accounts.stream.fetch-size:500}") int streamFetchSize) {
+    this.accountRepository = accountRepository;
+    this.accountJdbcRepository = accountJdbcRepository;
+    this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+    this.readOnlyTransaction.setReadOnly(true);
+    this.maxLimit = maxLimit;
+    this.streamFetchSize = streamFetchSize;
+  }
+
+  public AccountPageResponse page(UUID customerId, UUID after, int limit) {
+    if (limit < 1 || limit > maxLimit) {
+      throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be between 1 and " + maxLimit);
+    }
+
+    // Fetch one extra row to know whether another page exists without a COUNT.
+    Limit fetch = Limit.of(limit + 1);
+    List<Account> accounts = after == null
+        ? accountRepository.findByCustomerIdOrderByIdAsc(customerId, fetch)
+        : accountRepository.findByCustomerIdAndIdGreaterThanOrderByIdAsc(customerId, after, fetch);
+
+    boolean hasMore = accounts.size() > limit;
+    List<AccountResponse> items = accounts.stream()
+        .limit(limit)
+        .map(AccountMapper::toResponse)
+        .toList();
+    UUID nextCursor = hasMore ? items.get(items.size() - 1).id() : null;
+    return new AccountPageResponse(items, nextCursor);
+  }
+
+  public void stream(UUID customerId, Consumer<AccountResponse> consumer) {
+    readOnlyTransaction.executeWithoutResult(status -> accountJdbcRepository.streamByCustomerId(
+        customerId, streamFetchSize, account -> consumer.accept(AccountMapper.toResponse(account))));
+  }
+}
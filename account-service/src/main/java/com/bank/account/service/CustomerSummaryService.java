@@ -0,0 +1,74 @@
+package com.bank.account.service;
+
+import com.bank.account.dto.CurrencySummaryResponse;
+import com.bank.account.dto.CustomerSummaryResponse;
+import com.bank.account.entity.Account;
+import com.bank.account.repository.CustomerSummaryJdbcRepository;
+import com.bank.account.repository.CustomerSummaryJdbcRepository.Delta;
+import com.bank.account.repository.CustomerSummaryJdbcRepository.Key;
+import com.bank.account.repository.CustomerSummaryJdbcRepository.Row;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+
+/**
+ * Keeps {@code customer_account_summary} in step with {@code accounts}. Writers call {@link #accountsCreated} inside
+ * their transaction, so a customer's summary is a primary-key read of a few rows rather than an aggregate over all of
+ * the customer's accounts.
+ */
+@Service
+public class CustomerSummaryService {
+
+  // Matches PostgreSQL's uuid ordering, which the import merge and the rebuild lock in, so writers cannot deadlock.
+  private static final Comparator<Delta> KEY_ORDER = Comparator
+      .comparing((Delta delta) -> delta.customerId().toString())
+      .thenComparing(Delta::currency)
+      .thenComparing(Delta::status);
+
+  private final CustomerSummaryJdbcRepository customerSummaryJdbcRepository;
+
+  public CustomerSummaryService(CustomerSummaryJdbcRepository customerSummaryJdbcRepository) {
+    this.customerSummaryJdbcRepository = customerSummaryJdbcRepository;
+  }
+
+  public void accountsCreated(List<Account> accounts) {
+    Map<Key, Delta> byKey = new HashMap<>();
+    for (Account account : accounts) {
+      Key key = new Key(account.getCustomerId(), account.getCurrency(), account.getStatus());
+      byKey.merge(key, new Delta(key.customerId(), key.currency(), key.status(), 1, account.getBalance()),
+          (current, added) -> new Delta(key.customerId(), key.currency(), key.status(),
+              current.accounts() + added.accounts(), current.balance().add(added.balance())));
+    }
+    customerSummaryJdbcRepository.applyAll(byKey.values().stream().sorted(KEY_ORDER).toList(), OffsetDateTime.now());
+  }
+
+  public CustomerSummaryResponse summary(UUID customerId) {
+    Map<String, List<Row>> byCurrency = new LinkedHashMap<>();
+    for (Row row : customerSummaryJdbcRepository.findByCustomerId(customerId)) {
+      if (row.accountCount() > 0) {
+        byCurrency.computeIfAbsent(row.currency(), currency -> new ArrayList<>()).add(row);
+      }
+    }
+
+    List<CurrencySummaryResponse> currencies = new ArrayList<>(byCurrency.size());
+    byCurrency.forEach((currency, rows) -> {
+      BigDecimal totalBalance = BigDecimal.ZERO;
+      long accountCount = 0;
+      Map<String, Long> accountsByStatus = new LinkedHashMap<>();
+      for (Row row : rows) {
+        totalBalance = totalBalance.add(row.totalBalance());
+        accountCount += row.accountCount();
+        accountsByStatus.put(row.status(), row.accountCount());
+      }
+      currencies.add(new CurrencySummaryResponse(currency, totalBalance, accountCount, accountsByStatus));
+    });
+    return new CustomerSummaryResponse(customerId, currencies);
+  }
+}
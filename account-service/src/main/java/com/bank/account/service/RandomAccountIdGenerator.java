@@ -0,0 +1,11 @@
+package com.bank.account.service;
+
+import java.util.UUID;
+
+public class RandomAccountIdGenerator implements AccountIdGenerator {
+
+  @Override
+  public UUID nextId() {
+    return UUID.randomUUID();
+  }
+}
@@ -0,0 +1,108 @@
+package com.bank.account.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+/**
+ * Coalesces concurrent loads of the same key: the first caller runs the loader on its own thread, later callers wait
+ * for its result, or its exception, instead of issuing the same query again. Nothing is kept once the load finishes,
+ * so this is not a cache. Waiters give up after {@code maxWait} with a 503 (database busy) rather than queueing
+ * behind a stuck query.
+ */
+public class SingleFlight<K, V> {
+
+  private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+  private final boolean enabled;
+  private final long maxWaitNanos;
+  private final Counter leaders;
+  private final Counter coalesced;
+  private final Counter timedOut;
+
+  public SingleFlight(String name, Duration maxWait, MeterRegistry meterRegistry) {
+    this(true, maxWait, name, meterRegistry);
+  }
+
+  private SingleFlight(boolean enabled, Duration maxWait, String name, MeterRegistry meterRegistry) {
+    this.enabled = enabled;
+    this.maxWaitNanos = maxWait.toNanos();
+    this.leaders = requests(meterRegistry, name, "leader");
+    this.coalesced = requests(meterRegistry, name, "coalesced");
+    this.timedOut = requests(meterRegistry, name, "timed-out");
+    Gauge.builder("singleflight.in-flight", inFlight, ConcurrentMap::size)
+        .description("Loads currently running with callers able to join them")
+        .tag("name", name)
+        .register(meterRegistry);
+  }
+
+  /** Runs every load on its caller's thread; the metrics stay registered but only count leaders. */
+  public static <K, V> SingleFlight<K, V> disabled(String name, MeterRegistry meterRegistry) {
+    return new SingleFlight<>(false, Duration.ZERO, name, meterRegistry);
+  }
+
+  public V execute(K key, Function<K, V> loader) {
+    if (!enabled) {
+      leaders.increment();
+      return loader.apply(key);
+    }
+    CompletableFuture<V> mine = new CompletableFuture<>();
+    CompletableFuture<V> running = inFlight.putIfAbsent(key, mine);
+    if (running == null) {
+      return lead(key, loader, mine);
+    }
+    coalesced.increment();
+    return await(key, running);
+  }
+
+  private V lead(K key, Function<K, V> loader, CompletableFuture<V> mine) {
+    leaders.increment();
+    try {
+      V value = loader.apply(key);
+      mine.complete(value);
+      return value;
+    } catch (RuntimeException | Error ex) {
+      mine.completeExceptionally(ex);
+      throw ex;
+    } finally {
+      inFlight.remove(key, mine);
+    }
+  }
+
+  private V await(K key, CompletableFuture<V> running) {
+    try {
+      return running.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+    } catch (TimeoutException ex) {
+      timedOut.increment();
+      throw new DataAccessResourceFailureException("Timed out waiting for a concurrent load of " + key, ex);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new DataAccessResourceFailureException("Interrupted waiting for a concurrent load of " + key, ex);
+    } catch (ExecutionException ex) {
+      // The leader's exception as is, so a not-found is a 404 for every waiter.
+      if (ex.getCause() instanceof RuntimeException runtime) {
+        throw runtime;
+      }
+      if (ex.getCause() instanceof Error error) {
+        throw error;
+      }
+      throw new IllegalStateException(ex.getCause());
+    }
+  }
+
+  private static Counter requests(MeterRegistry meterRegistry, String name, String result) {
+    return Counter.builder("singleflight.requests")
+        .description("Loads run (leader), joined (coalesced) or abandoned after max-wait (timed-out)")
+        .tag("name", name)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,52 @@
+package com.bank.account.service;
+
+import java.time.Clock;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * RFC 9562 UUIDv7: 48-bit Unix epoch milliseconds, then a 12-bit counter seeded randomly each millisecond
+ * (method 1, "fixed bit-length dedicated counter"), then 62 random bits. Ids from one instance are strictly
+ * increasing even when the clock stalls or steps back, so inserts append to the right edge of the primary key.
+ */
+public class TimeOrderedAccountIdGenerator implements AccountIdGenerator {
+
+  private static final long MAX_COUNTER = 0xFFF;
+  private static final long VERSION_7 = 0x7000L;
+  private static final long VARIANT_RFC_4122 = 0x8000000000000000L;
+  private static final long RANDOM_62_BITS = 0x3FFFFFFFFFFFFFFFL;
+
+  private final Clock clock;
+  private long lastMillis = -1;
+  private long counter;
+
+  public TimeOrderedAccountIdGenerator() {
+    this(Clock.systemUTC());
+  }
+
+  public TimeOrderedAccountIdGenerator(Clock clock) {
+    this.clock = clock;
+  }
+
+  @Override
+  public UUID nextId() {
+    long millis;
+    long sequence;
+    synchronized (this) {
+      long now = clock.millis();
+      if (now > lastMillis) {
+        lastMillis = now;
+        // Seed below the midpoint so a burst within one millisecond has room to count up.
+        counter = ThreadLocalRandom.current().nextLong(MAX_COUNTER / 2);
+      } else if (++counter > MAX_COUNTER) {
+        lastMillis++;
+        counter = 0;
+      }
+      millis = lastMillis;
+      sequence = counter;
+    }
+    long mostSigBits = (millis << 16) | VERSION_7 | sequence;
+    long leastSigBits = VARIANT_RFC_4122 | (ThreadLocalRandom.current().nextLong() & RANDOM_62_BITS);
+    return new UUID(mostSigBits, leastSigBits);
+  }
+}
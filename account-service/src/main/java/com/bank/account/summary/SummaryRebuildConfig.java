@@ -0,0 +1,31 @@
+package com.bank.account.summary;
+
+import com.bank.account.repository.CustomerSummaryJdbcRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(SummaryRebuildProperties.class)
+public class SummaryRebuildConfig {
+
+  @Bean
+  SummaryRebuildService summaryRebuildService(
+      CustomerSummaryJdbcRepository customerSummaryJdbcRepository,
+      PlatformTransactionManager transactionManager,
+      SummaryRebuildProperties properties,
+      MeterRegistry meterRegistry) {
+    return new SummaryRebuildService(customerSummaryJdbcRepository, transactionManager, properties, meterRegistry);
+  }
+
+  @Bean
+  @ConditionalOnProperty(name = "app.summary.rebuild.enabled", havingValue = "true")
+  SummaryRebuildJob summaryRebuildJob(SummaryRebuildService summaryRebuildService) {
+    return new SummaryRebuildJob(summaryRebuildService);
+  }
+}
@@ -0,0 +1,26 @@
+package com.bank.account.summary;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+/** Nightly drift check and repair; enable it on one instance only ({@code app.summary.rebuild.enabled}). */
+public class SummaryRebuildJob {
+
+  private static final Logger log = LoggerFactory.getLogger(SummaryRebuildJob.class);
+
+  private final SummaryRebuildService summaryRebuildService;
+
+  public SummaryRebuildJob(SummaryRebuildService summaryRebuildService) {
+    this.summaryRebuildService = summaryRebuildService;
+  }
+
+  @Scheduled(cron = "${app.summary.rebuild.cron:0 0 3 * * *}", zone = "UTC")
+  public void run() {
+    try {
+      summaryRebuildService.rebuild();
+    } catch (RuntimeException ex) {
+      log.error("Customer summary rebuild failed", ex);
+    }
+  }
+}
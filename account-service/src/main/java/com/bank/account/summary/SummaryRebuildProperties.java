@@ -0,0 +1,12 @@
+package com.bank.account.summary;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.summary.rebuild")
+public record SummaryRebuildProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("0 0 3 * * *") String cron,
+    @DefaultValue("true") boolean repair,
+    @DefaultValue("64") int chunks,
+    @DefaultValue("4") int parallelism) {}
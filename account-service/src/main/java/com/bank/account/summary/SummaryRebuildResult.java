@@ -0,0 +1,10 @@
+package com.bank.account.summary;
+
+import java.time.Duration;
+
+public record SummaryRebuildResult(
+    int chunks,
+    int failedChunks,
+    long driftedKeys,
+    long repairedCustomers,
+    Duration duration) {}
@@ -0,0 +1,142 @@
+package com.bank.account.summary;
+
+import com.bank.account.repository.CustomerSummaryJdbcRepository;
+import com.bank.account.repository.CustomerSummaryJdbcRepository.Key;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Recomputes customer summaries from {@code accounts} and compares them with the incrementally maintained rows. The
+ * customer id space is cut into {@code chunks} contiguous ranges checked {@code parallelism} at a time, each in its own
+ * short transaction, so no single statement aggregates the whole table. Drifted customers are rebuilt when
+ * {@code repair} is on.
+ */
+public class SummaryRebuildService {
+
+  private static final Logger log = LoggerFactory.getLogger(SummaryRebuildService.class);
+  private static final int MAX_CHUNKS = 1 << 16;
+  private static final int MAX_LOGGED_KEYS = 20;
+
+  private final CustomerSummaryJdbcRepository customerSummaryJdbcRepository;
+  private final TransactionTemplate checkTransaction;
+  private final TransactionTemplate repairTransaction;
+  private final boolean repair;
+  private final int parallelism;
+  private final List<CustomerRange> ranges;
+  private final AtomicLong lastDriftedKeys = new AtomicLong();
+  private final Counter repairedCustomers;
+  private final Timer duration;
+
+  public SummaryRebuildService(
+      CustomerSummaryJdbcRepository customerSummaryJdbcRepository,
+      PlatformTransactionManager transactionManager,
+      SummaryRebuildProperties properties,
+      MeterRegistry meterRegistry) {
+    if (properties.chunks() < 1 || properties.chunks() > MAX_CHUNKS) {
+      throw new IllegalArgumentException("app.summary.rebuild.chunks must be between 1 and " + MAX_CHUNKS);
+    }
+    this.customerSummaryJdbcRepository = customerSummaryJdbcRepository;
+    // The check may run on a replica; repairs recount on the primary.
+    this.checkTransaction = new TransactionTemplate(transactionManager);
+    this.checkTransaction.setReadOnly(true);
+    this.repairTransaction = new TransactionTemplate(transactionManager);
+    this.repair = properties.repair();
+    this.parallelism = Math.max(1, properties.parallelism());
+    this.ranges = ranges(properties.chunks());
+    Gauge.builder("account.summary.drift.keys", lastDriftedKeys, AtomicLong::get)
+        .description("Summary keys that differed from accounts in the last rebuild")
+        .register(meterRegistry);
+    this.repairedCustomers = Counter.builder("account.summary.repaired.customers")
+        .description("Customers whose summary was rebuilt after drift")
+        .register(meterRegistry);
+    this.duration = Timer.builder("account.summary.rebuild.duration")
+        .description("Wall time of a full summary drift check")
+        .register(meterRegistry);
+  }
+
+  public SummaryRebuildResult rebuild() {
+    long started = System.nanoTime();
+    List<Future<ChunkResult>> futures = new ArrayList<>(ranges.size());
+    int failed = 0;
+    long drifted = 0;
+    long repaired = 0;
+    try (ExecutorService executor = Executors.newFixedThreadPool(
+        parallelism, Thread.ofPlatform().name("summary-rebuild-", 0).factory())) {
+      for (CustomerRange range : ranges) {
+        futures.add(executor.submit(() -> checkChunk(range)));
+      }
+      for (Future<ChunkResult> future : futures) {
+        try {
+          ChunkResult chunk = future.get();
+          drifted += chunk.driftedKeys();
+          repaired += chunk.repairedCustomers();
+        } catch (ExecutionException ex) {
+          failed++;
+          log.warn("Customer summary chunk failed; it is checked again on the next run", ex.getCause());
+        }
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while rebuilding customer summaries", ex);
+    }
+
+    SummaryRebuildResult result = new SummaryRebuildResult(
+        ranges.size(), failed, drifted, repaired, Duration.ofNanos(System.nanoTime() - started));
+    lastDriftedKeys.set(drifted);
+    repairedCustomers.increment(repaired);
+    duration.record(result.duration());
+    log.info("Checked customer summaries in {} chunks ({} failed): {} drifted keys, {} customers rebuilt in {} ms",
+        result.chunks(), result.failedChunks(), result.driftedKeys(), result.repairedCustomers(),
+        result.duration().toMillis());
+    return result;
+  }
+
+  private ChunkResult checkChunk(CustomerRange range) {
+    List<Key> drift = checkTransaction.execute(
+        status -> customerSummaryJdbcRepository.findDrift(range.from(), range.to()));
+    if (drift.isEmpty()) {
+      return new ChunkResult(0, 0);
+    }
+    log.warn("Customer summary drift in {}..{}: {} keys, e.g. {}",
+        range.from(), range.to(), drift.size(), drift.subList(0, Math.min(drift.size(), MAX_LOGGED_KEYS)));
+    if (!repair) {
+      return new ChunkResult(drift.size(), 0);
+    }
+    List<UUID> customerIds = drift.stream().map(Key::customerId).distinct().toList();
+    repairTransaction.executeWithoutResult(
+        status -> customerSummaryJdbcRepository.rebuild(customerIds, OffsetDateTime.now()));
+    return new ChunkResult(drift.size(), customerIds.size());
+  }
+
+  /** Splits the uuid space on its leading 16 bits into contiguous, inclusive ranges in PostgreSQL's uuid order. */
+  static List<CustomerRange> ranges(int chunks) {
+    List<CustomerRange> ranges = new ArrayList<>(chunks);
+    for (int i = 0; i < chunks; i++) {
+      long start = (long) i * MAX_CHUNKS / chunks;
+      long end = (long) (i + 1) * MAX_CHUNKS / chunks;
+      // For the last range end << 48 wraps to 0, so the upper bound becomes ffffffff-ffff-ffff-ffff-ffffffffffff.
+      ranges.add(new CustomerRange(new UUID(start << 48, 0L), new UUID((end << 48) - 1, -1L)));
+    }
+    return ranges;
+  }
+
+  record CustomerRange(UUID from, UUID to) {}
+
+  private record ChunkResult(long driftedKeys, long repairedCustomers) {}
+}
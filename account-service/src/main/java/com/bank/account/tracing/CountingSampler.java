@@ -0,0 +1,61 @@
+package com.bank.account.tracing;
+
+import brave.sampler.Sampler;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+
+/**
+ * Counts head sampling decisions. Brave only asks the sampler when a trace starts here: a decision propagated from
+ * upstream is honoured as is and not counted.
+ *
+ * <p>Also remembers, for up to {@code maxTrackedDrops} traces in flight, which ones it dropped itself, so that tail
+ * keep only overrides this service's own "no" and never one made upstream.
+ */
+public class CountingSampler extends Sampler {
+
+  private final Sampler delegate;
+  private final Counter sampled;
+  private final Counter dropped;
+  private final Cache<Long, Boolean> droppedHere;
+
+  public CountingSampler(Sampler delegate, int maxTrackedDrops, MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.sampled = decisions(meterRegistry, "sampled");
+    this.dropped = decisions(meterRegistry, "dropped");
+    // Same expiry as the tail handler's buffers: a trace whose root never ends is not kept either way.
+    this.droppedHere = Caffeine.newBuilder()
+        .maximumSize(maxTrackedDrops)
+        .expireAfterWrite(Duration.ofMinutes(1))
+        .build();
+  }
+
+  @Override
+  public boolean isSampled(long traceId) {
+    boolean decision = delegate.isSampled(traceId);
+    (decision ? sampled : dropped).increment();
+    if (!decision) {
+      droppedHere.put(traceId, Boolean.TRUE);
+    }
+    return decision;
+  }
+
+  /** Whether this sampler dropped the trace (by the low 64 bits of its id), rather than a caller upstream. */
+  public boolean droppedHere(long traceId) {
+    return droppedHere.getIfPresent(traceId) != null;
+  }
+
+  /** Called once the trace's local root has ended. */
+  public void forget(long traceId) {
+    droppedHere.invalidate(traceId);
+  }
+
+  private static Counter decisions(MeterRegistry meterRegistry, String decision) {
+    return Counter.builder("tracing.sampler.decisions")
+        .description("Head sampling decisions for traces started by this service")
+        .tag("decision", decision)
+        .register(meterRegistry);
+  }
+}
@@ -0,0 +1,130 @@
+package com.bank.account.tracing;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Keeps traces the head sampler dropped when their local root span failed or was slow. With local sampling on, spans
+ * of unsampled traces are recorded but stop here: children wait in a bounded buffer until their local root ends, and
+ * are then either handed on (marked sampled, so the Zipkin handler reports them) or discarded. Sampled traces pass
+ * straight through. Only traces the head sampler here dropped are kept: a "no" propagated from upstream is honoured,
+ * since reporting this service's spans alone would leave a partial trace. Must be the first span handler.
+ */
+public class TailKeepSpanHandler extends SpanHandler {
+
+  private final Supplier<List<SpanHandler>> downstream;
+  private final CountingSampler headSampler;
+  private final long slowThresholdMicros;
+  private final int maxSpansPerTrace;
+  private final Cache<Long, List<PendingSpan>> pending;
+  private final Counter keptErrors;
+  private final Counter keptSlow;
+  private final Counter discarded;
+  private final Counter overflow;
+
+  public TailKeepSpanHandler(
+      Supplier<List<SpanHandler>> downstream,
+      CountingSampler headSampler,
+      TracingSamplingProperties properties,
+      MeterRegistry meterRegistry) {
+    this.downstream = downstream;
+    this.headSampler = headSampler;
+    this.slowThresholdMicros = properties.slowThreshold().toNanos() / 1_000;
+    this.maxSpansPerTrace = properties.maxSpansPerTrace();
+    // Expiry drops buffers whose root never ends (abandoned or still running long after its children).
+    this.pending = Caffeine.newBuilder()
+        .maximumSize(properties.maxPendingTraces())
+        .expireAfterWrite(Duration.ofMinutes(1))
+        .build();
+    this.keptErrors = kept(meterRegistry, "error");
+    this.keptSlow = kept(meterRegistry, "slow");
+    this.discarded = Counter.builder("tracing.tail.discarded")
+        .description("Unsampled traces discarded after their local root ended")
+        .register(meterRegistry);
+    this.overflow = Counter.builder("tracing.tail.overflow")
+        .description("Spans of unsampled traces not buffered because the trace hit max-spans-per-trace")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+    if (Boolean.TRUE.equals(context.sampled())) {
+      return true;
+    }
+    if (!headSampler.droppedHere(context.traceId())) {
+      return false;
+    }
+    if (context.isLocalRoot()) {
+      headSampler.forget(context.traceId());
+    }
+    if (cause == Cause.ABANDONED) {
+      return false;
+    }
+    if (!context.isLocalRoot()) {
+      List<PendingSpan> spans = pending.get(context.localRootId(), id -> new ArrayList<>());
+      synchronized (spans) {
+        if (spans.size() < maxSpansPerTrace) {
+          spans.add(new PendingSpan(context, span));
+        } else {
+          overflow.increment();
+        }
+      }
+      return false;
+    }
+
+    List<PendingSpan> spans = pending.asMap().remove(context.localRootId());
+    Counter reason = keepReason(span, cause);
+    if (reason == null) {
+      discarded.increment();
+      return false;
+    }
+    reason.increment();
+    List<SpanHandler> handlers = downstream.get();
+    if (spans != null) {
+      synchronized (spans) {
+        for (PendingSpan child : spans) {
+          report(handlers, child.context(), child.span(), Cause.FINISHED);
+        }
+      }
+    }
+    report(handlers, context, span, cause);
+    return false;
+  }
+
+  private Counter keepReason(MutableSpan span, Cause cause) {
+    if (span.error() != null || span.tag("error") != null || "SERVER_ERROR".equals(span.tag("outcome"))) {
+      return keptErrors;
+    }
+    if (cause == Cause.FINISHED && span.finishTimestamp() - span.startTimestamp() >= slowThresholdMicros) {
+      return keptSlow;
+    }
+    return null;
+  }
+
+  private static void report(List<SpanHandler> handlers, TraceContext context, MutableSpan span, Cause cause) {
+    TraceContext sampled = context.toBuilder().sampled(true).build();
+    for (SpanHandler handler : handlers) {
+      if (!handler.end(sampled, span, cause)) {
+        return;
+      }
+    }
+  }
+
+  private static Counter kept(MeterRegistry meterRegistry, String reason) {
+    return Counter.builder("tracing.tail.kept")
+        .description("Unsampled traces reported anyway because their local root failed or was slow")
+        .tag("reason", reason)
+        .register(meterRegistry);
+  }
+
+  private record PendingSpan(TraceContext context, MutableSpan span) {}
+}
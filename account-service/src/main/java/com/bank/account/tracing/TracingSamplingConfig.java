@@ -0,0 +1,57 @@
+package com.bank.account.tracing;
+
+import brave.Tracing;
+import brave.TracingCustomizer;
+import brave.handler.SpanHandler;
+import brave.sampler.RateLimitingSampler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.util.function.SingletonSupplier;
+
+/**
+ * Replaces probability sampling ({@code management.tracing.sampling.probability}) with a per-second cap on new traces
+ * plus tail keep of failed and slow requests. Set {@code app.tracing.sampling.adaptive=false} to go back.
+ */
+@Configuration
+@EnableConfigurationProperties(TracingSamplingProperties.class)
+@ConditionalOnProperty(name = "app.tracing.sampling.adaptive", havingValue = "true", matchIfMissing = true)
+public class TracingSamplingConfig {
+
+  // Only tail keep asks which traces were dropped here, so without it none are remembered.
+  @Bean
+  CountingSampler adaptiveSampler(TracingSamplingProperties properties, MeterRegistry meterRegistry) {
+    return new CountingSampler(RateLimitingSampler.create(properties.tracesPerSecond()),
+        properties.tailKeep() ? properties.maxPendingTraces() : 0, meterRegistry);
+  }
+
+  // Unsampled spans are recorded locally so the tail handler can still keep them; they are never encoded or queued.
+  @Bean
+  @ConditionalOnProperty(name = "app.tracing.sampling.tail-keep", havingValue = "true", matchIfMissing = true)
+  TracingCustomizer localSamplingCustomizer() {
+    return Tracing.Builder::alwaysSampleLocal;
+  }
+
+  @Bean
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @ConditionalOnProperty(name = "app.tracing.sampling.tail-keep", havingValue = "true", matchIfMissing = true)
+  TailKeepSpanHandler tailKeepSpanHandler(
+      ObjectProvider<SpanHandler> spanHandlers,
+      CountingSampler adaptiveSampler,
+      TracingSamplingProperties properties,
+      MeterRegistry meterRegistry) {
+    // Resolved on first use: the Zipkin handler is created after this one.
+    return new TailKeepSpanHandler(
+        SingletonSupplier.of(() -> spanHandlers.orderedStream()
+            .filter(handler -> !(handler instanceof TailKeepSpanHandler))
+            .toList()),
+        adaptiveSampler,
+        properties,
+        meterRegistry);
+  }
+}
@@ -0,0 +1,14 @@
+package com.bank.account.tracing;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.tracing.sampling")
+public record TracingSamplingProperties(
+    @DefaultValue("true") boolean adaptive,
+    @DefaultValue("10") int tracesPerSecond,
+    @DefaultValue("true") boolean tailKeep,
+    @DefaultValue("500ms") Duration slowThreshold,
+    @DefaultValue("10000") int maxPendingTraces,
+    @DefaultValue("128") int maxSpansPerTrace) {}
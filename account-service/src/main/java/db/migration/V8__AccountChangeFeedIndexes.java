@@ -0,0 +1,64 @@
+package db.migration;
+
+import java.util.List;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * Change feed index on {@code (change_xid, change_seq, id)} (see V7), built with {@code CREATE INDEX CONCURRENTLY} so
+ * that writers are not blocked for the length of the build. That cannot run inside a transaction, nor on a partitioned
+ * table, and which tables are partitioned depends on how far the partition migration (V6) has got; hence Java rather
+ * than SQL. A partitioned table gets an (invalid) index on the parent only, each partition's index is built
+ * concurrently and attached, and the parent index turns valid once the last one is attached.
+ */
+public class V8__AccountChangeFeedIndexes extends BaseJavaMigration {
+
+  private static final String COLUMNS = "(change_xid, change_seq, id)";
+
+  @Override
+  public boolean canExecuteInTransaction() {
+    return false;
+  }
+
+  @Override
+  public void migrate(Context context) {
+    JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+    // accounts_partitioned only exists while a partition migration is in progress; after cutover it is accounts.
+    for (String table : List.of("accounts", "accounts_partitioned")) {
+      List<String> kind = jdbcTemplate.queryForList(
+          "SELECT relkind::text FROM pg_class WHERE oid = to_regclass(?)", String.class, table);
+      if (kind.equals(List.of("r"))) {
+        createConcurrently(jdbcTemplate, table);
+      } else if (kind.equals(List.of("p"))) {
+        String parentIndex = indexName(table);
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS " + parentIndex + " ON ONLY " + table + " " + COLUMNS);
+        List<String> partitions = jdbcTemplate.queryForList(
+            "SELECT inhrelid::regclass::text FROM pg_inherits WHERE inhparent = to_regclass(?) ORDER BY 1",
+            String.class, table);
+        for (String partition : partitions) {
+          createConcurrently(jdbcTemplate, partition);
+          // A no-op when a rerun finds it already attached.
+          jdbcTemplate.execute("ALTER INDEX " + parentIndex + " ATTACH PARTITION " + indexName(partition));
+        }
+      }
+    }
+  }
+
+  // A concurrent build that failed half-way leaves an invalid index behind, which IF NOT EXISTS would keep.
+  private static void createConcurrently(JdbcTemplate jdbcTemplate, String table) {
+    String index = indexName(table);
+    Boolean valid = jdbcTemplate.queryForList(
+        "SELECT indisvalid FROM pg_index WHERE indexrelid = to_regclass(?)", Boolean.class, index)
+        .stream().findFirst().orElse(null);
+    if (Boolean.FALSE.equals(valid)) {
+      jdbcTemplate.execute("DROP INDEX CONCURRENTLY " + index);
+    }
+    jdbcTemplate.execute("CREATE INDEX CONCURRENTLY IF NOT EXISTS " + index + " ON " + table + " " + COLUMNS);
+  }
+
+  private static String indexName(String table) {
+    return "idx_" + table + "_change";
+  }
+}
@@ -0,0 +1,14 @@
+-- Keyset pagination seeks on (customer_id, id); the composite index serves both the filter and the order,
+-- and makes the single-column customer_id index redundant.
+-- Runs outside a transaction (V2__accounts_customer_id_id_index.sql.conf) so that neither statement blocks writes.
+-- A concurrent build that failed half-way leaves an invalid index behind, which IF NOT EXISTS would keep.
+DO $$
+BEGIN
+  IF EXISTS (SELECT 1 FROM pg_index
+             WHERE indexrelid = to_regclass('idx_accounts_customer_id_id') AND NOT indisvalid) THEN
+    DROP INDEX idx_accounts_customer_id_id;
+  END IF;
+END
+$$;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_accounts_customer_id_id ON accounts(customer_id, id);
+DROP INDEX CONCURRENTLY IF EXISTS idx_accounts_customer_id;
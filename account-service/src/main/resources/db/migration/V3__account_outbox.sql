@@ -0,0 +1,9 @@
+-- Transactional outbox: rows are written in the same transaction as the account change and removed by the relay
+-- once published. The relay reads in id order, so the primary key doubles as the drain index.
+CREATE TABLE IF NOT EXISTS account_outbox (
+  id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+  aggregate_id UUID NOT NULL,
+  event_type VARCHAR(64) NOT NULL,
+  payload TEXT NOT NULL,
+  created_at TIMESTAMPTZ NOT NULL
+);
@@ -0,0 +1,35 @@
+-- Bulk import bookkeeping. account_import is the resume checkpoint: rows_processed only advances in the transaction
+-- that merged those rows, so a restarted import skips exactly what is already in accounts.
+CREATE TABLE IF NOT EXISTS account_import (
+  import_id UUID PRIMARY KEY,
+  format VARCHAR(16) NOT NULL,
+  status VARCHAR(16) NOT NULL,
+  rows_processed BIGINT NOT NULL DEFAULT 0,
+  imported BIGINT NOT NULL DEFAULT 0,
+  duplicates BIGINT NOT NULL DEFAULT 0,
+  rejected BIGINT NOT NULL DEFAULT 0,
+  created_at TIMESTAMPTZ NOT NULL,
+  updated_at TIMESTAMPTZ NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS account_import_issue (
+  import_id UUID NOT NULL REFERENCES account_import (import_id) ON DELETE CASCADE,
+  row_number BIGINT NOT NULL,
+  account_number TEXT,
+  kind VARCHAR(16) NOT NULL,
+  reason TEXT NOT NULL,
+  PRIMARY KEY (import_id, row_number)
+);
+
+-- COPY target. Unlogged: rows live for one chunk transaction and are never needed after a crash.
+CREATE UNLOGGED TABLE IF NOT EXISTS account_import_staging (
+  import_id UUID NOT NULL,
+  row_number BIGINT NOT NULL,
+  id UUID NOT NULL,
+  customer_id UUID NOT NULL,
+  account_number VARCHAR(32) NOT NULL,
+  currency VARCHAR(3) NOT NULL,
+  balance NUMERIC(19, 4) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_account_import_staging_import_id ON account_import_staging (import_id);
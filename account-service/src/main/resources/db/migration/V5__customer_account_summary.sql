@@ -0,0 +1,16 @@
+-- Per-customer rollup of accounts, maintained in the same transaction as every account insert. Keyed by status as
+-- well as currency, so one customer's summary is a handful of rows read through the primary key.
+CREATE TABLE IF NOT EXISTS customer_account_summary (
+  customer_id UUID NOT NULL,
+  currency VARCHAR(3) NOT NULL,
+  status VARCHAR(16) NOT NULL,
+  account_count BIGINT NOT NULL,
+  total_balance NUMERIC(38, 4) NOT NULL,
+  updated_at TIMESTAMPTZ NOT NULL,
+  PRIMARY KEY (customer_id, currency, status)
+);
+
+INSERT INTO customer_account_summary (customer_id, currency, status, account_count, total_balance, updated_at)
+SELECT customer_id, currency, status, count(*), sum(balance), now()
+FROM accounts
+GROUP BY customer_id, currency, status;
@@ -0,0 +1,96 @@
+-- accounts hash-partitioned on customer_id. Unique constraints on a partitioned table must contain the partition key,
+-- so the global uniqueness of account numbers, and resolving an account id to its customer (and so its partition),
+-- move to the narrow account_keys registry.
+CREATE TABLE IF NOT EXISTS account_keys (
+  id UUID PRIMARY KEY,
+  customer_id UUID NOT NULL,
+  account_number VARCHAR(32) NOT NULL UNIQUE
+);
+
+CREATE TABLE IF NOT EXISTS accounts_partitioned (
+  id UUID NOT NULL,
+  customer_id UUID NOT NULL,
+  account_number VARCHAR(32) NOT NULL,
+  currency VARCHAR(3) NOT NULL,
+  balance NUMERIC(19, 4) NOT NULL,
+  status VARCHAR(16) NOT NULL,
+  created_at TIMESTAMPTZ NOT NULL,
+  updated_at TIMESTAMPTZ NOT NULL,
+  -- Built per partition; leading with customer_id it also serves the (customer_id, id) keyset pages. No query filters
+  -- on status alone, so idx_accounts_status is not carried over.
+  PRIMARY KEY (customer_id, id)
+) PARTITION BY HASH (customer_id);
+
+DO $$
+BEGIN
+  FOR part IN 0..15 LOOP
+    EXECUTE format(
+        'CREATE TABLE IF NOT EXISTS accounts_p%s PARTITION OF accounts_partitioned '
+        'FOR VALUES WITH (MODULUS 16, REMAINDER %s)',
+        lpad(part::text, 2, '0'), part);
+  END LOOP;
+END
+$$;
+
+-- Every row that reaches the partitioned table claims its account number; a taken number fails the insert with the
+-- same 23505 the old UNIQUE column raised. Rows already claimed under their own id (bulk import) pass through.
+CREATE OR REPLACE FUNCTION account_keys_register() RETURNS trigger AS $$
+BEGIN
+  INSERT INTO account_keys (id, customer_id, account_number)
+  VALUES (NEW.id, NEW.customer_id, NEW.account_number)
+  ON CONFLICT (id) DO NOTHING;
+  RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE TRIGGER accounts_register_key
+  BEFORE INSERT ON accounts_partitioned
+  FOR EACH ROW EXECUTE FUNCTION account_keys_register();
+
+-- While the old table is still live, writes to it are mirrored so the backfill only has to copy what existed before.
+CREATE OR REPLACE FUNCTION accounts_mirror_to_partitioned() RETURNS trigger AS $$
+BEGIN
+  IF TG_OP = 'DELETE' THEN
+    DELETE FROM accounts_partitioned WHERE customer_id = OLD.customer_id AND id = OLD.id;
+    DELETE FROM account_keys WHERE id = OLD.id;
+    RETURN OLD;
+  END IF;
+  INSERT INTO accounts_partitioned (id, customer_id, account_number, currency, balance, status, created_at, updated_at)
+  VALUES (NEW.id, NEW.customer_id, NEW.account_number, NEW.currency, NEW.balance, NEW.status, NEW.created_at,
+          NEW.updated_at)
+  ON CONFLICT (customer_id, id) DO UPDATE
+  SET currency = EXCLUDED.currency, balance = EXCLUDED.balance, status = EXCLUDED.status,
+      updated_at = EXCLUDED.updated_at;
+  RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+-- Backfill checkpoint (AccountPartitionMigration): keyset position in the old table's id order.
+CREATE TABLE IF NOT EXISTS account_partition_backfill (
+  id SMALLINT PRIMARY KEY CHECK (id = 1),
+  last_id UUID,
+  rows_copied BIGINT NOT NULL DEFAULT 0,
+  -- Set once the copy first verifies: account_keys is complete from then on, and instances switch to keyed lookups.
+  verified_at TIMESTAMPTZ,
+  completed_at TIMESTAMPTZ,
+  updated_at TIMESTAMPTZ NOT NULL
+);
+
+INSERT INTO account_partition_backfill (id, updated_at) VALUES (1, now()) ON CONFLICT (id) DO NOTHING;
+
+DO $$
+BEGIN
+  -- Blocks writes (not reads) until this migration commits, so no row can slip in between the check and the trigger.
+  LOCK TABLE accounts IN SHARE ROW EXCLUSIVE MODE;
+  IF NOT EXISTS (SELECT 1 FROM accounts) THEN
+    -- Nothing to move (a new environment): switch over now.
+    DROP TABLE accounts;
+    ALTER TABLE accounts_partitioned RENAME TO accounts;
+    UPDATE account_partition_backfill SET verified_at = now(), completed_at = now(), updated_at = now();
+  ELSE
+    CREATE TRIGGER accounts_mirror
+      AFTER INSERT OR UPDATE OR DELETE ON accounts
+      FOR EACH ROW EXECUTE FUNCTION accounts_mirror_to_partitioned();
+  END IF;
+END
+$$;
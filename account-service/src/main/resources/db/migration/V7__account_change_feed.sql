@@ -0,0 +1,56 @@
+-- Change feed position: the writing transaction's id, then a sequence for order inside that transaction. Unlike
+-- updated_at (set by the application, before commit) an xid can be compared with the snapshot horizon, so a reader
+-- knows which positions can no longer gain rows (see AccountChangeJdbcRepository).
+-- Constant defaults are catalog-only: existing rows read as position (0, 0) and no table is rewritten. The index the
+-- feed reads through is built without blocking writes, outside this transaction, by V8__AccountChangeFeedIndexes.
+CREATE SEQUENCE IF NOT EXISTS account_change_seq CACHE 1000;
+
+-- Until cutover renames it to accounts, accounts_partitioned only receives copies of accounts rows (the V6 mirror and
+-- the backfill): those keep the position the row was written at, so the moved table does not replay as new changes.
+CREATE OR REPLACE FUNCTION accounts_stamp_change() RETURNS trigger AS $$
+BEGIN
+  IF TG_TABLE_NAME = 'accounts_partitioned' THEN
+    RETURN NEW;
+  END IF;
+  NEW.change_xid := pg_current_xact_id();
+  NEW.change_seq := nextval('account_change_seq');
+  RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
+
+-- accounts_partitioned only exists while a partition migration (V6) is in progress; after cutover it is accounts.
+DO $$
+DECLARE
+  target TEXT;
+BEGIN
+  FOREACH target IN ARRAY ARRAY['accounts', 'accounts_partitioned'] LOOP
+    IF to_regclass(target) IS NOT NULL THEN
+      EXECUTE format(
+          'ALTER TABLE %I ADD COLUMN IF NOT EXISTS change_xid xid8 NOT NULL DEFAULT ''0'', '
+          'ADD COLUMN IF NOT EXISTS change_seq BIGINT NOT NULL DEFAULT 0', target);
+      EXECUTE format(
+          'CREATE OR REPLACE TRIGGER %I BEFORE INSERT OR UPDATE ON %I '
+          'FOR EACH ROW EXECUTE FUNCTION accounts_stamp_change()', target || '_stamp_change', target);
+    END IF;
+  END LOOP;
+END
+$$;
+
+-- The V6 mirror, now carrying the position the accounts trigger has just stamped.
+CREATE OR REPLACE FUNCTION accounts_mirror_to_partitioned() RETURNS trigger AS $$
+BEGIN
+  IF TG_OP = 'DELETE' THEN
+    DELETE FROM accounts_partitioned WHERE customer_id = OLD.customer_id AND id = OLD.id;
+    DELETE FROM account_keys WHERE id = OLD.id;
+    RETURN OLD;
+  END IF;
+  INSERT INTO accounts_partitioned
+      (id, customer_id, account_number, currency, balance, status, created_at, updated_at, change_xid, change_seq)
+  VALUES (NEW.id, NEW.customer_id, NEW.account_number, NEW.currency, NEW.balance, NEW.status, NEW.created_at,
+          NEW.updated_at, NEW.change_xid, NEW.change_seq)
+  ON CONFLICT (customer_id, id) DO UPDATE
+  SET currency = EXCLUDED.currency, balance = EXCLUDED.balance, status = EXCLUDED.status,
+      updated_at = EXCLUDED.updated_at, change_xid = EXCLUDED.change_xid, change_seq = EXCLUDED.change_seq;
+  RETURN NEW;
+END
+$$ LANGUAGE plpgsql;
@@ -0,0 +1,111 @@
+package com.bank.account.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.bank.account.numberindex.AccountNumberIndex;
+import com.bank.account.numberindex.AccountNumberIndexSync;
+import com.bank.account.repository.AccountRepository;
+import com.bank.account.repository.AccountTableLayout;
+import com.bank.account.service.AccountService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.server.ResponseStatusException;
+
+@Tag("benchmark")
+@SpringBootTest
+@TestPropertySource(properties = {
+    "app.cache.accounts.enabled=false",
+    "app.outbox.relay-enabled=false"})
+class AccountNumberIndexBenchmarkTest extends PostgresBenchmarkSupport {
+
+  @Autowired
+  private AccountNumberIndexSync accountNumberIndexSync;
+
+  @Autowired
+  private AccountNumberIndex accountNumberIndex;
+
+  @Autowired
+  private AccountService accountService;
+
+  @Autowired
+  private AccountRepository accountRepository;
+
+  @Autowired
+  private AccountTableLayout accountTableLayout;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void compareIndexedAndProbedNumberLookups() throws InterruptedException {
+    int rows = intProperty("benchmark.rows", 50_000_000);
+    int iterations = intProperty("benchmark.iterations", 20_000);
+    int probes = intProperty("benchmark.fpp-probes", 1_000_000);
+    jdbcTemplate.update("""
+        INSERT INTO accounts (id, customer_id, account_number, currency, balance, status, created_at, updated_at)
+        SELECT gen_random_uuid(), gen_random_uuid(), 'NIDX' || g, 'USD', 10, 'ACTIVE', now(), now()
+        FROM generate_series(1, ?) AS g
+        """, rows);
+    jdbcTemplate.execute("VACUUM ANALYZE accounts");
+
+    long started = System.nanoTime();
+    long indexed;
+    // The startup build may still be running against the empty table.
+    while ((indexed = accountNumberIndexSync.rebuild()) < 0) {
+      Thread.sleep(100);
+    }
+    report("account-number-index", "rows=%d rebuild=%.1fs memory=%.1fMiB expected-fpp=%.4f",
+        indexed, (System.nanoTime() - started) / 1e9,
+        meterRegistry.get("account.number.index.memory").gauge().value() / (1024 * 1024),
+        meterRegistry.get("account.number.index.expected.fpp").gauge().value());
+    assertThat(indexed).isEqualTo(rows);
+
+    long falsePositives = 0;
+    for (int i = 0; i < probes; i++) {
+      if (accountNumberIndex.mightExist("NIDXABSENT" + i)) {
+        falsePositives++;
+      }
+    }
+    report("account-number-index", "observed-fpp=%.4f over %d absent numbers",
+        (double) falsePositives / probes, probes);
+
+    // What every absent lookup cost before: the unique-index probe, through account_keys once partitioned.
+    long[] probedAbsent = measure(iterations, i -> {
+      if (accountTableLayout.keyed()) {
+        accountRepository.findKeyedResponseByAccountNumber("NIDXMISSING" + i);
+      } else {
+        accountRepository.findResponseByAccountNumber("NIDXMISSING" + i);
+      }
+    });
+    long[] indexedAbsent = measure(iterations, i -> assertThrows(
+        ResponseStatusException.class, () -> accountService.getByNumber("NIDXMISSING" + i)));
+    long[] indexedPresent = measure(iterations,
+        i -> accountService.getByNumber("NIDX" + (1 + ThreadLocalRandom.current().nextInt(rows))));
+    report("account-number-index",
+        "absent probe p50=%.3fms p99=%.3fms absent indexed p50=%.3fms p99=%.3fms present p50=%.3fms p99=%.3fms",
+        percentileMillis(probedAbsent, 50), percentileMillis(probedAbsent, 99),
+        percentileMillis(indexedAbsent, 50), percentileMillis(indexedAbsent, 99),
+        percentileMillis(indexedPresent, 50), percentileMillis(indexedPresent, 99));
+  }
+
+  private static long[] measure(int iterations, IntConsumer work) {
+    long[] nanos = new long[iterations];
+    for (int i = 0; i < iterations; i++) {
+      long start = System.nanoTime();
+      work.accept(i);
+      nanos[i] = System.nanoTime() - start;
+    }
+    return nanos;
+  }
+}
@@ -0,0 +1,72 @@
+package com.bank.account.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bank.account.dto.BatchCreateAccountsResponse;
+import com.bank.account.dto.CreateAccountRequest;
+import com.bank.account.service.AccountBatchService;
+import com.bank.account.service.AccountService;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@Tag("benchmark")
+@SpringBootTest
+class BatchCreateBenchmarkTest extends PostgresBenchmarkSupport {
+
+  @Autowired
+  private AccountService accountService;
+
+  @Autowired
+  private AccountBatchService accountBatchService;
+
+  @Test
+  void batchCreateShouldInsertAtLeastTenTimesMoreRowsPerSecond() {
+    int rows = intProperty("benchmark.rows", 5_000);
+    int batchSize = intProperty("benchmark.batch-size", 5_000);
+
+    createSingly("WARMS", 200);
+    createInBatches("WARMB", 200, batchSize);
+
+    double singleRate = createSingly("SGL", rows);
+    double batchRate = createInBatches("BAT", rows, batchSize);
+
+    report("batch-create", "rows=%d single=%.0f rows/s batch=%.0f rows/s speedup=%.1fx",
+        rows, singleRate, batchRate, batchRate / singleRate);
+    assertThat(batchRate).isGreaterThanOrEqualTo(singleRate * 10);
+  }
+
+  private double createSingly(String prefix, int rows) {
+    long start = System.nanoTime();
+    for (int i = 0; i < rows; i++) {
+      accountService.create(request(prefix, i));
+    }
+    return rows / seconds(start);
+  }
+
+  private double createInBatches(String prefix, int rows, int batchSize) {
+    long start = System.nanoTime();
+    for (int offset = 0; offset < rows; offset += batchSize) {
+      List<CreateAccountRequest> batch = new ArrayList<>(batchSize);
+      for (int i = offset; i < Math.min(rows, offset + batchSize); i++) {
+        batch.add(request(prefix, i));
+      }
+      BatchCreateAccountsResponse response = accountBatchService.createBatch(batch);
+      assertThat(response.created()).isEqualTo(batch.size());
+    }
+    return rows / seconds(start);
+  }
+
+  private static CreateAccountRequest request(String prefix, int i) {
+    return new CreateAccountRequest(UUID.randomUUID(), prefix + i, "USD", BigDecimal.valueOf(100));
+  }
+
+  private static double seconds(long startNanos) {
+    return (System.nanoTime() - startNanos) / 1_000_000_000.0;
+  }
+}
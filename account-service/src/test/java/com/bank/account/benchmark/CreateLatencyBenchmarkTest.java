@@ -0,0 +1,72 @@
+package com.bank.account.benchmark;
+
+import com.bank.account.dto.CreateAccountRequest;
+import com.bank.account.entity.Account;
+import com.bank.account.repository.AccountRepository;
+import com.bank.account.service.AccountService;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+@Tag("benchmark")
+@SpringBootTest
+class CreateLatencyBenchmarkTest extends PostgresBenchmarkSupport {
+
+  @Autowired
+  private AccountService accountService;
+
+  @Autowired
+  private AccountRepository accountRepository;
+
+  @Test
+  void compareSingleInsertWithPreCheckCreate() {
+    int iterations = intProperty("benchmark.iterations", 2_000);
+
+    measure("WUP", 200, this::createWithPreCheck);
+    measure("WUS", 200, accountService::create);
+
+    long[] preCheck = measure("PRE", iterations, this::createWithPreCheck);
+    long[] singleInsert = measure("ONE", iterations, accountService::create);
+
+    report("create-latency", "iterations=%d pre-check p50=%.3fms p99=%.3fms single-insert p50=%.3fms p99=%.3fms",
+        iterations,
+        percentileMillis(preCheck, 50), percentileMillis(preCheck, 99),
+        percentileMillis(singleInsert, 50), percentileMillis(singleInsert, 99));
+  }
+
+  private long[] measure(String prefix, int iterations, Consumer<CreateAccountRequest> create) {
+    long[] nanos = new long[iterations];
+    for (int i = 0; i < iterations; i++) {
+      CreateAccountRequest request = new CreateAccountRequest(
+          UUID.randomUUID(), prefix + i, "USD", BigDecimal.valueOf(100));
+      long start = System.nanoTime();
+      create.accept(request);
+      nanos[i] = System.nanoTime() - start;
+    }
+    return nanos;
+  }
+
+  // The previous create path: duplicate SELECT followed by a separate save.
+  private void createWithPreCheck(CreateAccountRequest request) {
+    accountRepository.findByAccountNumber(request.accountNumber()).ifPresent(existing -> {
+      throw new ResponseStatusException(HttpStatus.CONFLICT, "Account number already exists");
+    });
+    OffsetDateTime now = OffsetDateTime.now();
+    Account account = new Account();
+    account.setCustomerId(request.customerId());
+    account.setAccountNumber(request.accountNumber());
+    account.setCurrency(request.currency());
+    account.setBalance(request.openingBalance());
+    account.setStatus("ACTIVE");
+    account.setCreatedAt(now);
+    account.setUpdatedAt(now);
+    accountRepository.save(account);
+  }
+}
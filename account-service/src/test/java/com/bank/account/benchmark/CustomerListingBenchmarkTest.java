@@ -0,0 +1,99 @@
+package com.bank.account.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bank.account.entity.Account;
+import com.bank.account.repository.AccountJdbcRepository;
+import com.bank.account.service.CustomerAccountService;
+import com.bank.account.service.TimeOrderedAccountIdGenerator;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Tag("benchmark")
+@SpringBootTest
+class CustomerListingBenchmarkTest extends PostgresBenchmarkSupport {
+
+  private static final int CHUNK = 10_000;
+
+  @Autowired
+  private AccountJdbcRepository accountJdbcRepository;
+
+  @Autowired
+  private CustomerAccountService customerAccountService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void compareOffsetAndKeysetPagesAndStreamWholeCustomer() {
+    int rows = intProperty("benchmark.rows", 100_000);
+    int pageSize = intProperty("benchmark.page-size", 100);
+    UUID customerId = UUID.randomUUID();
+    insertAccounts(customerId, rows);
+    jdbcTemplate.execute("VACUUM ANALYZE accounts");
+
+    int depth = rows - pageSize;
+    UUID cursor = jdbcTemplate.queryForObject(
+        "SELECT id FROM accounts WHERE customer_id = ? ORDER BY id OFFSET ? LIMIT 1", UUID.class, customerId, depth - 1);
+
+    Runnable offsetPage = () -> jdbcTemplate.queryForList(
+        "SELECT * FROM accounts WHERE customer_id = ? ORDER BY id OFFSET ? LIMIT ?", customerId, depth, pageSize);
+    Runnable keysetPage = () -> customerAccountService.page(customerId, cursor, pageSize);
+    offsetPage.run();
+    keysetPage.run();
+    long offsetNanos = time(offsetPage);
+    long keysetNanos = time(keysetPage);
+
+    Runtime runtime = Runtime.getRuntime();
+    System.gc();
+    long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+    AtomicLong streamed = new AtomicLong();
+    AtomicLong peakHeap = new AtomicLong(heapBefore);
+    long streamNanos = time(() -> customerAccountService.stream(customerId, account -> {
+      if (streamed.incrementAndGet() % CHUNK == 0) {
+        peakHeap.accumulateAndGet(runtime.totalMemory() - runtime.freeMemory(), Math::max);
+      }
+    }));
+
+    assertThat(streamed.get()).isEqualTo(rows);
+    report("customer-listing", "rows=%d page=%d last-page offset=%.3fms keyset=%.3fms stream=%.0f rows/s heap-growth=%.1fMiB",
+        rows, pageSize, offsetNanos / 1_000_000.0, keysetNanos / 1_000_000.0,
+        rows / (streamNanos / 1_000_000_000.0), (peakHeap.get() - heapBefore) / 1048576.0);
+  }
+
+  private void insertAccounts(UUID customerId, int rows) {
+    TimeOrderedAccountIdGenerator generator = new TimeOrderedAccountIdGenerator();
+    OffsetDateTime now = OffsetDateTime.now();
+    for (int offset = 0; offset < rows; offset += CHUNK) {
+      List<Account> accounts = new ArrayList<>(CHUNK);
+      for (int i = offset; i < Math.min(rows, offset + CHUNK); i++) {
+        Account account = new Account();
+        account.setId(generator.nextId());
+        account.setCustomerId(customerId);
+        account.setAccountNumber("LIST" + i);
+        account.setCurrency("USD");
+        account.setBalance(BigDecimal.TEN);
+        account.setStatus("ACTIVE");
+        account.setCreatedAt(now);
+        account.setUpdatedAt(now);
+        accounts.add(account);
+      }
+      accountJdbcRepository.insertAll(accounts);
+    }
+  }
+
+  private static long time(Runnable work) {
+    long start = System.nanoTime();
+    work.run();
+    return System.nanoTime() - start;
+  }
+}
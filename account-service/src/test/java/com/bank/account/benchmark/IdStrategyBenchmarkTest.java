@@ -0,0 +1,83 @@
+package com.bank.account.benchmark;
+
+import com.bank.account.entity.Account;
+import com.bank.account.repository.AccountJdbcRepository;
+import com.bank.account.service.AccountIdGenerator;
+import com.bank.account.service.RandomAccountIdGenerator;
+import com.bank.account.service.TimeOrderedAccountIdGenerator;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Tag("benchmark")
+@SpringBootTest
+class IdStrategyBenchmarkTest extends PostgresBenchmarkSupport {
+
+  private static final int CHUNK = 10_000;
+  private static final int SEGMENTS = 10;
+
+  @Autowired
+  private AccountJdbcRepository accountJdbcRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void compareRandomAndTimeOrderedPrimaryKeys() {
+    int rows = intProperty("benchmark.rows", 2_000_000);
+
+    run("uuid-v4", new RandomAccountIdGenerator(), rows);
+    run("uuid-v7", new TimeOrderedAccountIdGenerator(), rows);
+  }
+
+  private void run(String strategy, AccountIdGenerator generator, int rows) {
+    jdbcTemplate.execute("TRUNCATE TABLE accounts");
+    jdbcTemplate.execute("VACUUM ANALYZE accounts");
+
+    int perSegment = Math.max(CHUNK, rows / SEGMENTS);
+    StringBuilder segmentRates = new StringBuilder();
+    long totalStart = System.nanoTime();
+    for (int inserted = 0; inserted < rows; ) {
+      long segmentStart = System.nanoTime();
+      int segmentEnd = Math.min(rows, inserted + perSegment);
+      while (inserted < segmentEnd) {
+        int size = Math.min(CHUNK, segmentEnd - inserted);
+        accountJdbcRepository.insertAll(accounts(generator, strategy, inserted, size));
+        inserted += size;
+      }
+      double seconds = (System.nanoTime() - segmentStart) / 1_000_000_000.0;
+      segmentRates.append(String.format(" %.0f", perSegment / seconds));
+    }
+    double totalSeconds = (System.nanoTime() - totalStart) / 1_000_000_000.0;
+
+    Long pkeyBytes = jdbcTemplate.queryForObject("SELECT pg_relation_size('accounts_pkey')", Long.class);
+    Long tableBytes = jdbcTemplate.queryForObject("SELECT pg_relation_size('accounts')", Long.class);
+    report("id-strategy", "strategy=%s rows=%d rows/s=%.0f pkey=%.1fMiB table=%.1fMiB rows/s per segment:%s",
+        strategy, rows, rows / totalSeconds, pkeyBytes / 1048576.0, tableBytes / 1048576.0, segmentRates);
+  }
+
+  private static List<Account> accounts(AccountIdGenerator generator, String strategy, int offset, int size) {
+    OffsetDateTime now = OffsetDateTime.now();
+    List<Account> accounts = new ArrayList<>(size);
+    for (int i = offset; i < offset + size; i++) {
+      Account account = new Account();
+      account.setId(generator.nextId());
+      account.setCustomerId(UUID.randomUUID());
+      account.setAccountNumber(strategy + "-" + i);
+      account.setCurrency("USD");
+      account.setBalance(BigDecimal.TEN);
+      account.setStatus("ACTIVE");
+      account.setCreatedAt(now);
+      account.setUpdatedAt(now);
+      accounts.add(account);
+    }
+    return accounts;
+  }
+}
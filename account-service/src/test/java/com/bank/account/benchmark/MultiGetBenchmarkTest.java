@@ -0,0 +1,83 @@
+package com.bank.account.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bank.account.dto.AccountLookupRequest;
+import com.bank.account.dto.AccountLookupResponse;
+import com.bank.account.dto.AccountResponse;
+import com.bank.account.dto.BatchItemResult;
+import com.bank.account.dto.CreateAccountRequest;
+import com.bank.account.service.AccountBatchService;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = "app.cache.accounts.enabled=false")
+class MultiGetBenchmarkTest extends PostgresBenchmarkSupport {
+
+  @Autowired
+  private AccountBatchService accountBatchService;
+
+  @Autowired
+  private TestRestTemplate restTemplate;
+
+  @Test
+  void compareSequentialGetsWithLookup() {
+    int batchSize = intProperty("benchmark.lookupSize", 100);
+    int iterations = intProperty("benchmark.iterations", 200);
+
+    List<UUID> ids = createAccounts(batchSize);
+
+    measure(20, () -> sequentialGets(ids));
+    measure(20, () -> lookup(ids));
+
+    long[] sequential = measure(iterations, () -> sequentialGets(ids));
+    long[] multiGet = measure(iterations, () -> lookup(ids));
+
+    report("multi-get", "ids=%d iterations=%d sequential p50=%.3fms p99=%.3fms lookup p50=%.3fms p99=%.3fms",
+        batchSize, iterations,
+        percentileMillis(sequential, 50), percentileMillis(sequential, 99),
+        percentileMillis(multiGet, 50), percentileMillis(multiGet, 99));
+  }
+
+  private List<UUID> createAccounts(int count) {
+    List<CreateAccountRequest> requests = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      requests.add(new CreateAccountRequest(UUID.randomUUID(), "MGET" + i, "USD", BigDecimal.valueOf(100)));
+    }
+    return accountBatchService.createBatch(requests).results().stream()
+        .map(BatchItemResult::id)
+        .toList();
+  }
+
+  private void sequentialGets(List<UUID> ids) {
+    for (UUID id : ids) {
+      assertThat(restTemplate.getForObject("/api/accounts/{id}", AccountResponse.class, id)).isNotNull();
+    }
+  }
+
+  private void lookup(List<UUID> ids) {
+    AccountLookupResponse response = restTemplate.postForObject(
+        "/api/accounts/lookup", new AccountLookupRequest(ids), AccountLookupResponse.class);
+    assertThat(response.found()).hasSize(ids.size());
+  }
+
+  private static long[] measure(int iterations, Runnable work) {
+    long[] nanos = new long[iterations];
+    for (int i = 0; i < iterations; i++) {
+      long start = System.nanoTime();
+      work.run();
+      nanos[i] = System.nanoTime() - start;
+    }
+    return nanos;
+  }
+}
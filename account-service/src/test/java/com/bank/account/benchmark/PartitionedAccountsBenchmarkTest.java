@@ -0,0 +1,111 @@
+package com.bank.account.benchmark;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bank.account.dto.CreateAccountRequest;
+import com.bank.account.partition.AccountPartitionMigration;
+import com.bank.account.service.AccountService;
+import com.bank.account.service.CustomerAccountService;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationVersion;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+@Tag("benchmark")
+@SpringBootTest
+@TestPropertySource(properties = {
+    "app.cache.accounts.enabled=false",
+    "app.outbox.relay-enabled=false",
+    "app.accounts.partitioning.cutover-delay=0s",
+    "spring.flyway.target=5",
+    "spring.jpa.hibernate.ddl-auto=none"})
+class PartitionedAccountsBenchmarkTest extends PostgresBenchmarkSupport {
+
+  @Autowired
+  private Flyway flyway;
+
+  @Autowired
+  private AccountService accountService;
+
+  @Autowired
+  private CustomerAccountService customerAccountService;
+
+  @Autowired
+  private AccountPartitionMigration accountPartitionMigration;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  private final AtomicInteger numbers = new AtomicInteger();
+
+  @Test
+  void compareOldMirroredAndPartitionedTables() {
+    int rows = intProperty("benchmark.rows", 1_000_000);
+    int customers = intProperty("benchmark.customers", 50_000);
+    int iterations = intProperty("benchmark.iterations", 2_000);
+    // Customer ids are a function of g % customers, so every customer gets rows / customers accounts.
+    jdbcTemplate.update("""
+        INSERT INTO accounts (id, customer_id, account_number, currency, balance, status, created_at, updated_at)
+        SELECT gen_random_uuid(), md5((g % ?)::text)::uuid, 'PART' || g, 'USD', 10, 'ACTIVE', now(), now()
+        FROM generate_series(1, ?) AS g
+        """, customers, rows);
+    jdbcTemplate.execute("VACUUM ANALYZE accounts");
+
+    phase("old", rows, iterations);
+
+    Flyway.configure().configuration(flyway.getConfiguration()).target(MigrationVersion.LATEST).load().migrate();
+    phase("mirrored", rows, iterations);
+
+    long started = System.nanoTime();
+    assertThat(accountPartitionMigration.migrate().cutOver()).isTrue();
+    report("partitioned-accounts", "rows=%d backfill+cutover=%.1fs", rows, (System.nanoTime() - started) / 1e9);
+    jdbcTemplate.execute("VACUUM ANALYZE accounts");
+    jdbcTemplate.execute("VACUUM ANALYZE account_keys");
+
+    phase("partitioned", rows, iterations);
+  }
+
+  private void phase(String name, int rows, int iterations) {
+    List<UUID> ids = jdbcTemplate.queryForList(
+        "SELECT id FROM accounts TABLESAMPLE SYSTEM (1) LIMIT ?", UUID.class, iterations);
+    List<UUID> customerIds = jdbcTemplate.queryForList(
+        "SELECT customer_id FROM accounts TABLESAMPLE SYSTEM (1) LIMIT ?", UUID.class, iterations);
+
+    measure(iterations / 10, i -> create(customerIds.get(i % customerIds.size())));
+    long[] creates = measure(iterations, i -> create(customerIds.get(i % customerIds.size())));
+    long[] gets = measure(iterations, i -> accountService.get(ids.get(i % ids.size())));
+    long[] pages = measure(iterations,
+        i -> customerAccountService.page(customerIds.get(i % customerIds.size()), null, 20));
+
+    report("partitioned-accounts",
+        "%s rows=%d create p50=%.3fms p99=%.3fms get p50=%.3fms p99=%.3fms page p50=%.3fms p99=%.3fms",
+        name, rows,
+        percentileMillis(creates, 50), percentileMillis(creates, 99),
+        percentileMillis(gets, 50), percentileMillis(gets, 99),
+        percentileMillis(pages, 50), percentileMillis(pages, 99));
+  }
+
+  private void create(UUID customerId) {
+    accountService.create(new CreateAccountRequest(
+        customerId, "PARTNEW" + numbers.incrementAndGet(), "USD", BigDecimal.ONE));
+  }
+
+  private static long[] measure(int iterations, IntConsumer work) {
+    long[] nanos = new long[iterations];
+    for (int i = 0; i < iterations; i++) {
+      long start = System.nanoTime();
+      work.accept(i);
+      nanos[i] = System.nanoTime() - start;
+    }
+    return nanos;
+  }
+}
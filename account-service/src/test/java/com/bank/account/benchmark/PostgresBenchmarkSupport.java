@@ -0,0 +1,23 @@
+package com.bank.account.benchmark;
+
+import com.bank.account.support.PostgresContainerSupport;
+import java.util.Arrays;
+import java.util.Locale;
+
+abstract class PostgresBenchmarkSupport extends PostgresContainerSupport {
+
+  static int intProperty(String name, int defaultValue) {
+    return Integer.getInteger(name, defaultValue);
+  }
+
+  static void report(String benchmark, String format, Object... args) {
+    System.out.printf(Locale.ROOT, "[benchmark] %s: %s%n", benchmark, String.format(Locale.ROOT, format, args));
+  }
+
+  static double percentileMillis(long[] nanos, double percentile) {
+    long[] sorted = nanos.clone();
+    Arrays.sort(sorted);
+    int index = (int) Math.ceil(percentile / 100.0 * sorted.length) - 1;
+    return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+  }
+}
@@ -0,0 +1,93 @@
+package com.bank.account.benchmark;
+
+import com.bank.account.dto.AccountResponse;
+import com.bank.account.dto.BatchItemResult;
+import com.bank.account.dto.CreateAccountRequest;
+import com.bank.account.entity.Account;
+import com.bank.account.repository.AccountRepository;
+import com.bank.account.service.AccountBatchService;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Tag("benchmark")
+@SpringBootTest
+class ReadPathBenchmarkTest extends PostgresBenchmarkSupport {
+
+  private static final com.sun.management.ThreadMXBean THREADS =
+      (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+  @Autowired
+  private AccountBatchService accountBatchService;
+
+  @Autowired
+  private AccountRepository accountRepository;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Test
+  void compareEntityAndProjectionReads() {
+    int accounts = intProperty("benchmark.accounts", 1_000);
+    int iterations = intProperty("benchmark.iterations", 20_000);
+    List<UUID> ids = createAccounts(accounts);
+    TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+    // The previous read path: managed entity in a read-write transaction, copied into the response.
+    Function<UUID, AccountResponse> entity = id -> readWrite.execute(status ->
+        accountRepository.findById(id).map(ReadPathBenchmarkTest::toResponse).orElseThrow());
+    Function<UUID, AccountResponse> projection = id -> accountRepository.findResponseById(id).orElseThrow();
+
+    measure(ids, 2_000, entity);
+    measure(ids, 2_000, projection);
+
+    Result before = measure(ids, iterations, entity);
+    Result after = measure(ids, iterations, projection);
+
+    report("read-path", "iterations=%d entity alloc=%d B/op p50=%.3fms p99=%.3fms projection alloc=%d B/op p50=%.3fms p99=%.3fms",
+        iterations,
+        before.bytesPerOp(), percentileMillis(before.nanos(), 50), percentileMillis(before.nanos(), 99),
+        after.bytesPerOp(), percentileMillis(after.nanos(), 50), percentileMillis(after.nanos(), 99));
+  }
+
+  private List<UUID> createAccounts(int count) {
+    List<CreateAccountRequest> requests = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      requests.add(new CreateAccountRequest(UUID.randomUUID(), "READ" + i, "USD", BigDecimal.valueOf(100)));
+    }
+    return accountBatchService.createBatch(requests).results().stream()
+        .map(BatchItemResult::id)
+        .toList();
+  }
+
+  private static Result measure(List<UUID> ids, int iterations, Function<UUID, AccountResponse> read) {
+    long threadId = Thread.currentThread().threadId();
+    long[] nanos = new long[iterations];
+    long allocatedBefore = THREADS.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < iterations; i++) {
+      UUID id = ids.get(i % ids.size());
+      long start = System.nanoTime();
+      read.apply(id);
+      nanos[i] = System.nanoTime() - start;
+    }
+    long allocated = THREADS.getThreadAllocatedBytes(threadId) - allocatedBefore;
+    return new Result(nanos, allocated / iterations);
+  }
+
+  private static AccountResponse toResponse(Account account) {
+    return new AccountResponse(
+        account.getId(), account.getCustomerId(), account.getAccountNumber(), account.getCurrency(),
+        account.getBalance(), account.getStatus(), account.getCreatedAt(), account.getUpdatedAt());
+  }
+
+  private record Result(long[] nanos, long bytesPerOp) {}
+}
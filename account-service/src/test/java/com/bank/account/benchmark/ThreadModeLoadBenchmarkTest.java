@@ -0,0 +1,154 @@
+package com.bank.account.benchmark;
+
+import static com.bank.account.benchmark.PostgresBenchmarkSupport.intProperty;
+import static com.bank.account.benchmark.PostgresBenchmarkSupport.percentileMillis;
+import static com.bank.account.benchmark.PostgresBenchmarkSupport.report;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Runs the service image (as deployed by the Helm chart) with the chart's 500m CPU limit, once per thread mode,
+ * and drives uncached reads at a fixed client concurrency. Build the image first:
+ * {@code docker build -t local/account-service:latest account-service}.
+ */
+@Tag("benchmark")
+@Testcontainers(disabledWithoutDocker = true)
+class ThreadModeLoadBenchmarkTest {
+
+  private static final long HALF_CPU_NANOS = 500_000_000L;
+  private static final Pattern ID = Pattern.compile("\"id\":\"([0-9a-f-]{36})\"");
+
+  private final HttpClient client = HttpClient.newBuilder()
+      .executor(Executors.newVirtualThreadPerTaskExecutor())
+      .connectTimeout(Duration.ofSeconds(5))
+      .build();
+
+  @Test
+  void comparePlatformAndVirtualThreads() throws Exception {
+    String image = System.getProperty("benchmark.image", "local/account-service:latest");
+    int concurrency = intProperty("benchmark.concurrency", 400);
+    int seconds = intProperty("benchmark.seconds", 30);
+
+    try (Network network = Network.newNetwork();
+        PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16")
+            .withNetwork(network)
+            .withNetworkAliases("postgres")
+            .withDatabaseName("accounts_db")
+            .withUsername("bank_admin")
+            .withPassword("bank_admin_pass")) {
+      postgres.start();
+      for (boolean virtual : new boolean[] {false, true}) {
+        try (GenericContainer<?> service = serviceContainer(image, network, virtual)) {
+          service.start();
+          String baseUrl = "http://" + service.getHost() + ":" + service.getMappedPort(8080);
+          List<UUID> ids = seed(baseUrl, 1_000);
+          drive(baseUrl, ids, concurrency, Duration.ofSeconds(5));
+          Result result = drive(baseUrl, ids, concurrency, Duration.ofSeconds(seconds));
+          report("thread-mode", "mode=%s cpu=500m concurrency=%d throughput=%.0f req/s p50=%.3fms p99=%.3fms p999=%.3fms 503=%d errors=%d",
+              virtual ? "virtual" : "platform", concurrency, result.completed() / (double) seconds,
+              percentileMillis(result.nanos(), 50), percentileMillis(result.nanos(), 99),
+              percentileMillis(result.nanos(), 99.9), result.shed(), result.errors());
+        }
+      }
+    }
+  }
+
+  private static GenericContainer<?> serviceContainer(String image, Network network, boolean virtual) {
+    return new GenericContainer<>(image)
+        .withNetwork(network)
+        .withExposedPorts(8080)
+        .withEnv("SPRING_DATASOURCE_URL", "jdbc:postgresql://postgres:5432/accounts_db")
+        .withEnv("SPRING_DATASOURCE_USERNAME", "bank_admin")
+        .withEnv("SPRING_DATASOURCE_PASSWORD", "bank_admin_pass")
+        .withEnv("APP_SECURITY_ENABLED", "false")
+        .withEnv("APP_CACHE_ACCOUNTS_ENABLED", "false")
+        .withEnv("APP_OUTBOX_PUBLISHER", "memory")
+        .withEnv("MANAGEMENT_TRACING_ENABLED", "false")
+        .withEnv("APP_VIRTUAL_THREADS_ENABLED", Boolean.toString(virtual))
+        .withCreateContainerCmdModifier(cmd -> cmd.getHostConfig()
+            .withNanoCPUs(HALF_CPU_NANOS)
+            .withMemory(768L * 1024 * 1024))
+        .waitingFor(Wait.forHttp("/actuator/health/readiness").forPort(8080)
+            .withStartupTimeout(Duration.ofMinutes(3)));
+  }
+
+  private List<UUID> seed(String baseUrl, int count) throws Exception {
+    StringBuilder body = new StringBuilder("[");
+    for (int i = 0; i < count; i++) {
+      body.append(i == 0 ? "" : ",")
+          .append("{\"customerId\":\"").append(UUID.randomUUID())
+          .append("\",\"accountNumber\":\"LOAD").append(i)
+          .append("\",\"currency\":\"USD\",\"openingBalance\":100}");
+    }
+    HttpResponse<String> response = client.send(
+        HttpRequest.newBuilder(URI.create(baseUrl + "/api/accounts/batch"))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(body.append("]").toString()))
+            .build(),
+        HttpResponse.BodyHandlers.ofString());
+    List<UUID> ids = new ArrayList<>(count);
+    Matcher matcher = ID.matcher(response.body());
+    while (matcher.find()) {
+      ids.add(UUID.fromString(matcher.group(1)));
+    }
+    return ids;
+  }
+
+  private Result drive(String baseUrl, List<UUID> ids, int concurrency, Duration duration) {
+    long deadline = System.nanoTime() + duration.toNanos();
+    ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+    AtomicLong shed = new AtomicLong();
+    AtomicLong errors = new AtomicLong();
+    try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int worker = 0; worker < concurrency; worker++) {
+        workers.submit(() -> {
+          while (System.nanoTime() < deadline) {
+            UUID id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/accounts/" + id))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+            long start = System.nanoTime();
+            try {
+              int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+              if (status == 200) {
+                latencies.add(System.nanoTime() - start);
+              } else if (status == 503) {
+                shed.incrementAndGet();
+              } else {
+                errors.incrementAndGet();
+              }
+            } catch (Exception ex) {
+              errors.incrementAndGet();
+            }
+          }
+        });
+      }
+    }
+    long[] nanos = latencies.stream().mapToLong(Long::longValue).toArray();
+    return new Result(nanos, nanos.length, shed.get(), errors.get());
+  }
+
+  private record Result(long[] nanos, long completed, long shed, long errors) {}
+}
@@ -0,0 +1,45 @@
+package com.bank.account.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+class RedisAccountCacheInvalidationListenerTest {
+
+  private final AccountCache accountCache = mock(AccountCache.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final RedisAccountCacheInvalidationListener listener = new RedisAccountCacheInvalidationListener(
+      mock(RedisConnectionFactory.class), "account:v1:invalidations", accountCache, meterRegistry);
+
+  @Test
+  void messageShouldEvictTheAnnouncedIdsFromL1Only() {
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+
+    listener.onMessage(message(first + "," + second), null);
+
+    verify(accountCache).evictLocal(List.of(first, second));
+    assertThat(meterRegistry.get("account.cache.remote.invalidations").counter().count()).isEqualTo(2.0);
+  }
+
+  @Test
+  void malformedMessageShouldBeIgnored() {
+    listener.onMessage(message("not-a-uuid"), null);
+
+    verifyNoInteractions(accountCache);
+  }
+
+  private static DefaultMessage message(String body) {
+    return new DefaultMessage(
+        "account:v1:invalidations".getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,111 @@
+package com.bank.account.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.bank.account.dto.AccountResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class TwoTierAccountCacheTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private InMemoryAccountL2Cache l2;
+  private TwoTierAccountCache cache;
+  private AtomicInteger loads;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    l2 = new InMemoryAccountL2Cache(100, Duration.ofMinutes(1));
+    cache = new TwoTierAccountCache(100, Duration.ofMinutes(1), l2, meterRegistry);
+    loads = new AtomicInteger();
+  }
+
+  @Test
+  void getShouldLoadOnceAndServeRepeatReadsFromL1() {
+    UUID id = UUID.randomUUID();
+
+    AccountResponse first = cache.get(id, loader());
+    AccountResponse second = cache.get(id, loader());
+
+    assertThat(second).isEqualTo(first);
+    assertThat(loads).hasValue(1);
+    assertThat(meterRegistry.get("cache.gets").tag("cache", "accounts.l1").tag("result", "hit")
+        .functionCounter().count()).isEqualTo(1.0);
+  }
+
+  @Test
+  void getShouldServeFromSharedL2WhenAnotherInstanceLoaded() {
+    UUID id = UUID.randomUUID();
+    TwoTierAccountCache otherInstance =
+        new TwoTierAccountCache(100, Duration.ofMinutes(1), l2, new SimpleMeterRegistry());
+    otherInstance.get(id, loader());
+
+    cache.get(id, loader());
+
+    assertThat(loads).hasValue(1);
+    assertThat(meterRegistry.get("account.cache.l2.requests").tag("result", "hit").counter().count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  void evictShouldInvalidateBothTiers() {
+    UUID id = UUID.randomUUID();
+    cache.get(id, loader());
+
+    cache.evict(List.of(id));
+    cache.get(id, loader());
+
+    assertThat(loads).hasValue(2);
+    assertThat(l2.get(id)).isPresent();
+    assertThat(meterRegistry.get("account.cache.invalidations").counter().count()).isEqualTo(1.0);
+  }
+
+  @Test
+  void evictLocalShouldKeepTheSharedTier() {
+    UUID id = UUID.randomUUID();
+    cache.get(id, loader());
+
+    cache.evictLocal(List.of(id));
+    cache.get(id, loader());
+
+    assertThat(loads).hasValue(1);
+    assertThat(meterRegistry.get("account.cache.l2.requests").tag("result", "hit").counter().count())
+        .isEqualTo(1.0);
+  }
+
+  @Test
+  void getShouldNotCacheMisses() {
+    UUID id = UUID.randomUUID();
+    Function<UUID, AccountResponse> missing = key -> {
+      loads.incrementAndGet();
+      throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Account not found");
+    };
+
+    assertThrows(ResponseStatusException.class, () -> cache.get(id, missing));
+    assertThrows(ResponseStatusException.class, () -> cache.get(id, missing));
+
+    assertThat(loads).hasValue(2);
+    assertThat(l2.get(id)).isEmpty();
+  }
+
+  private Function<UUID, AccountResponse> loader() {
+    return id -> {
+      loads.incrementAndGet();
+      OffsetDateTime now = OffsetDateTime.now();
+      return new AccountResponse(id, UUID.randomUUID(), "ACCCACHE" + loads.get(), "USD",
+          BigDecimal.TEN, "ACTIVE", now, now);
+    };
+  }
+}
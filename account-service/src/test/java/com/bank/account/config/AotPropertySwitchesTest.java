@@ -0,0 +1,49 @@
+package com.bank.account.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bank.account.config.AotPropertySwitches.Switch;
+import java.util.List;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class AotPropertySwitchesTest {
+
+  private final List<Switch> switches = AotPropertySwitches.discover(getClass().getClassLoader());
+
+  @Test
+  void discoveryShouldFindClassAndBeanMethodConditions() {
+    assertThat(switches).contains(
+        new Switch("app.datasource.replicas.enabled", "true", false),
+        new Switch("app.outbox.publisher", "memory", false),
+        new Switch("app.outbox.publisher", "kafka", true),
+        new Switch("app.tracing.sampling.tail-keep", "true", true),
+        new Switch("spring.threads.virtual.enabled", "true", false));
+  }
+
+  @Test
+  void runtimeValuesThatSelectOtherBeansShouldBeReported() {
+    Properties recorded = record(new MockEnvironment()
+        .withProperty("app.outbox.publisher", "memory")
+        .withProperty("app.cache.accounts.l2", "memory"));
+
+    MockEnvironment same = new MockEnvironment()
+        .withProperty("app.outbox.publisher", "MEMORY")
+        .withProperty("app.cache.accounts.l2", "memory");
+    MockEnvironment different = new MockEnvironment()
+        .withProperty("app.cache.accounts.l2", "memory")
+        .withProperty("app.datasource.replicas.enabled", "true");
+
+    assertThat(AotPropertySwitches.mismatches(recorded, same)).isEmpty();
+    assertThat(AotPropertySwitches.mismatches(recorded, different))
+        .containsExactly("app.datasource.replicas.enabled=true", "app.outbox.publisher=<unset>");
+  }
+
+  private Properties record(MockEnvironment environment) {
+    Properties recorded = new Properties();
+    AotPropertySwitches.outcomes(switches, environment)
+        .forEach((key, matched) -> recorded.setProperty(key, matched.toString()));
+    return recorded;
+  }
+}
@@ -1,17 +1,31 @@
 package com.bank.account.controller;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import com.bank.account.dto.AccountChangesResponse;
+import com.bank.account.dto.AccountLookupResponse;
 import com.bank.account.dto.AccountResponse;
+import com.bank.account.dto.BatchCreateAccountsResponse;
+import com.bank.account.dto.BatchItemResult;
+import com.bank.account.idempotency.IdempotencyService;
+import com.bank.account.idempotency.IdempotentResult;
+import com.bank.account.service.AccountBatchService;
+import com.bank.account.service.AccountChangeService;
 import com.bank.account.service.AccountService;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -22,6 +36,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.util.DigestUtils;
 import org.springframework.web.server.ResponseStatusException;
 
 @WebMvcTest(AccountController.class)
@@ -38,6 +55,15 @@ class AccountControllerTest {
   @MockBean
   private AccountService accountService;
 
+  @MockBean
+  private AccountBatchService accountBatchService;
+
+  @MockBean
+  private IdempotencyService idempotencyService;
+
+  @MockBean
+  private AccountChangeService accountChangeService;
+
   @Test
   void createShouldReturnCreated() throws Exception {
     UUID id = UUID.randomUUID();
@@ -62,6 +88,33 @@ class AccountControllerTest {
         .andExpect(jsonPath("$.accountNumber").value("ACCWEB001"));
   }
 
+  @Test
+  void createWithIdempotencyKeyShouldReturnStoredResponseOnRetry() throws Exception {
+    UUID customerId = UUID.randomUUID();
+    AccountResponse response = new AccountResponse(
+        UUID.randomUUID(), customerId, "ACCWEB002", "USD", BigDecimal.valueOf(500.00), "ACTIVE",
+        OffsetDateTime.now(), OffsetDateTime.now());
+
+    when(idempotencyService.execute(eq("retry-1"), any(), eq(AccountResponse.class), any()))
+        .thenReturn(new IdempotentResult<>(response, true));
+
+    mockMvc.perform(post("/api/accounts")
+            .header("Idempotency-Key", "retry-1")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {
+                  "customerId":"%s",
+                  "accountNumber":"ACCWEB002",
+                  "currency":"USD",
+                  "openingBalance":500.00
+                }
+                """.formatted(customerId)))
+        .andExpect(status().isCreated())
+        .andExpect(header().string("Idempotent-Replayed", "true"))
+        .andExpect(jsonPath("$.accountNumber").value("ACCWEB002"));
+    verify(accountService, never()).create(any());
+  }
+
   @Test
   void createShouldReturnBadRequestForInvalidPayload() throws Exception {
     mockMvc.perform(post("/api/accounts")
@@ -110,6 +163,45 @@ class AccountControllerTest {
         .andExpect(jsonPath("$.accountNumber").value("ACCWEB200"));
   }
 
+  @Test
+  void getShouldReturnNotModifiedWhenTheEtagMatches() throws Exception {
+    UUID id = UUID.randomUUID();
+    AccountResponse response = new AccountResponse(
+        id, UUID.randomUUID(), "ACCWEB201", "USD", BigDecimal.valueOf(250.00), "ACTIVE",
+        OffsetDateTime.now(), OffsetDateTime.now());
+    AccountResponse changed = new AccountResponse(
+        id, response.customerId(), "ACCWEB201", "USD", BigDecimal.valueOf(300.00), "ACTIVE",
+        response.createdAt(), OffsetDateTime.now());
+    when(accountService.get(eq(id))).thenReturn(response, response, changed);
+
+    MvcResult first = mockMvc.perform(get("/api/accounts/{id}", id))
+        .andExpect(status().isOk())
+        .andReturn();
+    // The tag is the hash of the body that was sent.
+    String etag = '"' + DigestUtils.md5DigestAsHex(first.getResponse().getContentAsByteArray()) + '"';
+    assertThat(first.getResponse().getHeader("ETag")).isEqualTo(etag);
+    mockMvc.perform(get("/api/accounts/{id}", id).header("If-None-Match", etag))
+        .andExpect(status().isNotModified())
+        .andExpect(content().string(""));
+    MvcResult updated = mockMvc.perform(get("/api/accounts/{id}", id).header("If-None-Match", etag))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.balance").value(300.00))
+        .andReturn();
+    assertThat(updated.getResponse().getHeader("ETag"))
+        .isEqualTo('"' + DigestUtils.md5DigestAsHex(updated.getResponse().getContentAsByteArray()) + '"')
+        .isNotEqualTo(etag);
+  }
+
+  @Test
+  void changesShouldPassCursorAndLimitThrough() throws Exception {
+    when(accountChangeService.changes("abc", 2)).thenReturn(new AccountChangesResponse(List.of(), "abc", false));
+
+    mockMvc.perform(get("/api/accounts/changes").param("cursor", "abc").param("limit", "2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.nextCursor").value("abc"))
+        .andExpect(jsonPath("$.hasMore").value(false));
+  }
+
   @Test
   void getShouldReturnNotFound() throws Exception {
     UUID id = UUID.randomUUID();
@@ -118,4 +210,65 @@ class AccountControllerTest {
     mockMvc.perform(get("/api/accounts/{id}", id))
         .andExpect(status().isNotFound());
   }
+
+  @Test
+  void createBatchShouldReturnPerItemResults() throws Exception {
+    UUID customerId = UUID.randomUUID();
+    UUID id = UUID.randomUUID();
+    when(accountBatchService.createBatch(any())).thenReturn(BatchCreateAccountsResponse.of(List.of(
+        BatchItemResult.created(0, "ACCWEB301", id),
+        BatchItemResult.conflict(1, "ACCWEB302", "Account number already exists"))));
+
+    mockMvc.perform(post("/api/accounts/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                [
+                  {"customerId":"%s","accountNumber":"ACCWEB301","currency":"USD","openingBalance":10.00},
+                  {"customerId":"%s","accountNumber":"ACCWEB302","currency":"USD","openingBalance":20.00}
+                ]
+                """.formatted(customerId, customerId)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.created").value(1))
+        .andExpect(jsonPath("$.conflicts").value(1))
+        .andExpect(jsonPath("$.results[0].id").value(id.toString()))
+        .andExpect(jsonPath("$.results[1].status").value("CONFLICT"));
+  }
+
+  @Test
+  void lookupShouldReturnFoundAndMissing() throws Exception {
+    UUID found = UUID.randomUUID();
+    UUID missing = UUID.randomUUID();
+    AccountResponse response = new AccountResponse(
+        found, UUID.randomUUID(), "ACCWEB400", "USD", BigDecimal.valueOf(75.00), "ACTIVE",
+        OffsetDateTime.now(), OffsetDateTime.now());
+    when(accountService.lookup(eq(List.of(found, missing))))
+        .thenReturn(new AccountLookupResponse(List.of(response), List.of(missing)));
+
+    mockMvc.perform(post("/api/accounts/lookup")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("""
+                {"ids":["%s","%s"]}
+                """.formatted(found, missing)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.found[0].accountNumber").value("ACCWEB400"))
+        .andExpect(jsonPath("$.missing[0]").value(missing.toString()));
+  }
+
+  @Test
+  void lookupShouldRejectEmptyIds() throws Exception {
+    mockMvc.perform(post("/api/accounts/lookup")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content("{\"ids\":[]}"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void getShouldReturnServiceUnavailableWhenDatabaseIsBusy() throws Exception {
+    UUID id = UUID.randomUUID();
+    when(accountService.get(id)).thenThrow(new CannotCreateTransactionException("No database permit available"));
+
+    mockMvc.perform(get("/api/accounts/{id}", id))
+        .andExpect(status().isServiceUnavailable())
+        .andExpect(header().string("Retry-After", "1"));
+  }
 }
@@ -0,0 +1,90 @@
+package com.bank.account.controller;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.bank.account.dto.AccountPageResponse;
+import com.bank.account.dto.AccountResponse;
+import com.bank.account.service.CustomerAccountService;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@WebMvcTest(CustomerAccountController.class)
+@AutoConfigureMockMvc(addFilters = false)
+@TestPropertySource(properties = {
+    "app.security.enabled=false",
+    "management.tracing.enabled=false"
+})
+class CustomerAccountControllerTest {
+
+  @Autowired
+  private MockMvc mockMvc;
+
+  @MockBean
+  private CustomerAccountService customerAccountService;
+
+  @Test
+  void pageShouldReturnItemsAndCursor() throws Exception {
+    UUID customerId = UUID.randomUUID();
+    AccountResponse account = account(customerId, "ACCCUST001");
+    when(customerAccountService.page(customerId, null, 1))
+        .thenReturn(new AccountPageResponse(List.of(account), account.id()));
+
+    mockMvc.perform(get("/api/customers/{customerId}/accounts", customerId)
+            .param("limit", "1")
+            .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.items[0].accountNumber").value("ACCCUST001"))
+        .andExpect(jsonPath("$.nextCursor").value(account.id().toString()));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void streamShouldWriteOneJsonObjectPerLine() throws Exception {
+    UUID customerId = UUID.randomUUID();
+    doAnswer(invocation -> {
+      Consumer<AccountResponse> consumer = invocation.getArgument(1);
+      consumer.accept(account(customerId, "ACCCUST001"));
+      consumer.accept(account(customerId, "ACCCUST002"));
+      return null;
+    }).when(customerAccountService).stream(eq(customerId), any(Consumer.class));
+
+    MvcResult result = mockMvc.perform(get("/api/customers/{customerId}/accounts", customerId)
+            .accept(MediaType.APPLICATION_NDJSON))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    mockMvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+        .andExpect(content().string(Matchers.matchesPattern(
+            "\\{[^\\n]*\"ACCCUST001\"[^\\n]*}\\n\\{[^\\n]*\"ACCCUST002\"[^\\n]*}\\n")));
+  }
+
+  private static AccountResponse account(UUID customerId, String accountNumber) {
+    return new AccountResponse(
+        UUID.randomUUID(), customerId, accountNumber, "USD", BigDecimal.valueOf(10.00), "ACTIVE",
+        OffsetDateTime.now(), OffsetDateTime.now());
+  }
+}
@@ -0,0 +1,83 @@
+package com.bank.account.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+class ConcurrencyLimitingDataSourcePostProcessorTest {
+
+  private final HikariDataSource primaryPool = mock(HikariDataSource.class);
+  private final HikariDataSource replicaPool = mock(HikariDataSource.class);
+  private final Connection replicaConnection = mock(Connection.class);
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final ConcurrencyLimitingDataSourcePostProcessor postProcessor =
+      new ConcurrencyLimitingDataSourcePostProcessor(
+          new DatabaseConcurrencyLimitProperties(true, 0, Duration.ofMillis(50)));
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    when(primaryPool.getMaximumPoolSize()).thenReturn(10);
+    when(replicaPool.getPoolName()).thenReturn("replica-0");
+    when(replicaPool.getMaximumPoolSize()).thenReturn(2);
+    when(replicaPool.getConnection()).thenReturn(replicaConnection);
+    Statement statement = mock(Statement.class);
+    ResultSet lag = mock(ResultSet.class);
+    when(replicaConnection.createStatement()).thenReturn(statement);
+    when(statement.executeQuery(anyString())).thenReturn(lag);
+    when(lag.next()).thenReturn(true);
+  }
+
+  @Test
+  void withReplicaRoutingEachPoolShouldGetOneLimitOfItsOwnSize() throws SQLException {
+    // The beans ReadRoutingConfig creates with replicas enabled, in creation order.
+    DataSource primary = (DataSource) postProcessor.postProcessAfterInitialization(primaryPool, "primaryDataSource");
+    ReplicaSelectingDataSource replicas = new ReplicaSelectingDataSource(
+        primary, List.of(replicaPool), Duration.ofSeconds(5), "SELECT 0", registry);
+    replicas.checkReplicas();
+    Object replicaBean = postProcessor.postProcessAfterInitialization(replicas, "replicaDataSource");
+    LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy();
+    routing.setTargetDataSource(primary);
+    routing.setReadOnlyDataSource(replicas);
+    Object routingBean = postProcessor.postProcessAfterInitialization(routing, "dataSource");
+    postProcessor.limiters().forEach(limiter -> limiter.bindTo(registry));
+
+    assertThat(primary).isInstanceOf(ConcurrencyLimitingDataSource.class);
+    assertThat(replicaBean).isSameAs(replicas);
+    assertThat(routingBean).isSameAs(routing);
+    assertThat(postProcessor.limiters()).hasSize(2);
+    assertThat(registry.get("db.concurrency.limit.max").tag("pool", "primaryDataSource").gauge().value())
+        .isEqualTo(10.0);
+    assertThat(registry.get("db.concurrency.limit.max").tag("pool", "replica-0").gauge().value()).isEqualTo(2.0);
+
+    replicas.getConnection();
+    replicas.getConnection();
+    assertThrows(DatabaseBusyException.class, replicas::getConnection);
+    assertThat(registry.get("db.concurrency.limit.in-flight").tag("pool", "primaryDataSource").gauge().value())
+        .isZero();
+  }
+
+  @Test
+  void explicitMaxConcurrentShouldApplyToEachPool() {
+    ConcurrencyLimitingDataSourcePostProcessor fixed = new ConcurrencyLimitingDataSourcePostProcessor(
+        new DatabaseConcurrencyLimitProperties(true, 4, Duration.ofMillis(50)));
+    ((ConcurrencyLimitingDataSource) fixed.postProcessAfterInitialization(primaryPool, "primaryDataSource"))
+        .bindTo(registry);
+
+    assertThat(registry.get("db.concurrency.limit.max").gauge().value()).isEqualTo(4.0);
+  }
+}
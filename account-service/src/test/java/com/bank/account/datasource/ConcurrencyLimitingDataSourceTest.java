@@ -0,0 +1,62 @@
+package com.bank.account.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ConcurrencyLimitingDataSourceTest {
+
+  private final DataSource target = mock(DataSource.class);
+  private final Connection connection = mock(Connection.class);
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private ConcurrencyLimitingDataSource dataSource;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    when(target.getConnection()).thenReturn(connection);
+    dataSource = new ConcurrencyLimitingDataSource(target, "primary", 1, Duration.ofMillis(50));
+    dataSource.bindTo(registry);
+  }
+
+  @Test
+  void shouldRejectWhenAllPermitsAreInUse() throws SQLException {
+    Connection first = dataSource.getConnection();
+
+    assertThrows(DatabaseBusyException.class, dataSource::getConnection);
+    assertThat(registry.get("db.concurrency.limit.rejected").counter().count()).isEqualTo(1.0);
+    assertThat(registry.get("db.concurrency.limit.in-flight").gauge().value()).isEqualTo(1.0);
+    assertThat(registry.get("db.concurrency.limit.wait").timer().count()).isEqualTo(2);
+
+    first.close();
+    verify(connection).close();
+    assertThat(dataSource.getConnection()).isNotNull();
+  }
+
+  @Test
+  void shouldReleasePermitOnlyOnceWhenClosedTwice() throws SQLException {
+    Connection first = dataSource.getConnection();
+    first.close();
+    first.close();
+
+    dataSource.getConnection();
+    assertThrows(DatabaseBusyException.class, dataSource::getConnection);
+  }
+
+  @Test
+  void shouldReleasePermitWhenTargetFails() throws SQLException {
+    when(target.getConnection()).thenThrow(new SQLException("down")).thenReturn(connection);
+
+    assertThrows(SQLException.class, dataSource::getConnection);
+    assertThat(dataSource.getConnection()).isNotNull();
+  }
+}
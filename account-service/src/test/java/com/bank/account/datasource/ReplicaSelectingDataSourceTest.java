@@ -0,0 +1,97 @@
+package com.bank.account.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReplicaSelectingDataSourceTest {
+
+  private final DataSource primary = mock(DataSource.class);
+  private final Connection primaryConnection = mock(Connection.class);
+  private final HikariDataSource replicaPool = mock(HikariDataSource.class);
+  private final Connection replicaConnection = mock(Connection.class);
+  private final ResultSet lag = mock(ResultSet.class);
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private ReplicaSelectingDataSource dataSource;
+
+  @BeforeEach
+  void setUp() throws SQLException {
+    Statement statement = mock(Statement.class);
+    when(primary.getConnection()).thenReturn(primaryConnection);
+    when(replicaPool.getPoolName()).thenReturn("replica-1");
+    when(replicaPool.getConnection()).thenReturn(replicaConnection);
+    when(replicaConnection.createStatement()).thenReturn(statement);
+    when(statement.executeQuery(anyString())).thenReturn(lag);
+    when(lag.next()).thenReturn(true);
+    dataSource = new ReplicaSelectingDataSource(
+        primary, List.of(replicaPool), Duration.ofSeconds(5), "SELECT 0", registry);
+  }
+
+  @Test
+  void shouldReadFromPrimaryUntilReplicaPassesLagCheck() throws SQLException {
+    assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+
+    when(lag.getDouble(1)).thenReturn(0.2);
+    dataSource.checkReplicas();
+
+    assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+    assertThat(registry.get("db.read.routing").tag("target", "replica").counter().count()).isEqualTo(1.0);
+    assertThat(registry.get("db.replica.lag").gauge().value()).isEqualTo(0.2);
+  }
+
+  @Test
+  void shouldTakeLaggingOrFailingReplicaOutOfRotation() throws SQLException {
+    when(lag.getDouble(1)).thenReturn(0.0);
+    dataSource.checkReplicas();
+    assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+
+    when(lag.getDouble(1)).thenReturn(30.0);
+    dataSource.checkReplicas();
+    assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+    assertThat(registry.get("db.replica.usable").gauge().value()).isZero();
+
+    when(lag.getDouble(1)).thenReturn(0.0);
+    dataSource.checkReplicas();
+    when(replicaPool.getConnection()).thenThrow(new SQLException("replica down"));
+    dataSource.checkReplicas();
+    assertThat(dataSource.getConnection()).isSameAs(primaryConnection);
+  }
+
+  @Test
+  void shouldHonourPrimaryPinning() throws SQLException {
+    when(lag.getDouble(1)).thenReturn(0.0);
+    dataSource.checkReplicas();
+
+    Connection pinned = new ReadRouting(true).onPrimary(() -> {
+      try {
+        return dataSource.getConnection();
+      } catch (SQLException ex) {
+        throw new IllegalStateException(ex);
+      }
+    });
+
+    assertThat(pinned).isSameAs(primaryConnection);
+    assertThat(dataSource.getConnection()).isSameAs(replicaConnection);
+  }
+
+  @Test
+  void otherCredentialsShouldBeReportedAsUnsupported() {
+    assertThatThrownBy(() -> dataSource.getConnection("reporting", "secret"))
+        .isInstanceOf(SQLFeatureNotSupportedException.class);
+  }
+}
@@ -0,0 +1,84 @@
+package com.bank.account.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+class S3ExportStorageTest {
+
+  private final S3Client s3Client = mock(S3Client.class);
+  private final List<Long> partSizes = new ArrayList<>();
+  private S3ExportStorage storage;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    when(s3Client.createMultipartUpload(any(Consumer.class)))
+        .thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+    when(s3Client.uploadPart(any(Consumer.class), any(RequestBody.class))).thenAnswer(invocation -> {
+      partSizes.add(invocation.getArgument(1, RequestBody.class).optionalContentLength().orElseThrow());
+      return UploadPartResponse.builder().eTag("etag-" + partSizes.size()).build();
+    });
+    storage = new S3ExportStorage(s3Client, "account-exports", 10);
+  }
+
+  @Test
+  void shouldUploadFullPartsAsTheyFillAndCompleteOnClose() throws IOException {
+    ExportUpload upload = storage.open("accounts/export.csv.gz");
+    upload.write(new byte[25], 0, 25);
+    upload.write(7);
+    upload.close();
+
+    assertThat(partSizes).containsExactly(10L, 10L, 6L);
+    ArgumentCaptor<Consumer<CompleteMultipartUploadRequest.Builder>> complete = captor();
+    verify(s3Client).completeMultipartUpload(complete.capture());
+    CompleteMultipartUploadRequest.Builder request = CompleteMultipartUploadRequest.builder();
+    complete.getValue().accept(request);
+    assertThat(request.build().multipartUpload().parts()).extracting("partNumber").containsExactly(1, 2, 3);
+    assertThat(request.build().uploadId()).isEqualTo("upload-1");
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void shouldUseSinglePutWhenSmallerThanOnePart() throws IOException {
+    ExportUpload upload = storage.open("accounts/small.csv.gz");
+    upload.write(new byte[4], 0, 4);
+    upload.close();
+
+    verify(s3Client).putObject(any(Consumer.class), any(RequestBody.class));
+    verify(s3Client, never()).createMultipartUpload(any(Consumer.class));
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void abortShouldDiscardStartedUpload() throws IOException {
+    ExportUpload upload = storage.open("accounts/failed.csv.gz");
+    upload.write(new byte[15], 0, 15);
+    upload.abort();
+
+    verify(s3Client, times(1)).abortMultipartUpload(any(Consumer.class));
+    verify(s3Client, never()).completeMultipartUpload(any(Consumer.class));
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static <T> ArgumentCaptor<T> captor() {
+    return (ArgumentCaptor) ArgumentCaptor.forClass(Consumer.class);
+  }
+}
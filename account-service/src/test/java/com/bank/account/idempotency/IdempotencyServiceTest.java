@@ -0,0 +1,112 @@
+package com.bank.account.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class IdempotencyServiceTest {
+
+  private final AtomicInteger executions = new AtomicInteger();
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private IdempotencyService idempotencyService;
+
+  @BeforeEach
+  void setUp() {
+    IdempotencyProperties properties = new IdempotencyProperties(
+        "memory", Duration.ofHours(1), Duration.ofSeconds(30), Duration.ofSeconds(5), 1000, "idempotency:v1:");
+    idempotencyService = new IdempotencyService(
+        new InMemoryIdempotencyStore(properties.maximumSize()),
+        new ObjectMapper().registerModule(new JavaTimeModule()),
+        properties,
+        registry);
+  }
+
+  @Test
+  void retryWithSameKeyAndPayloadShouldReplayWithoutRunningAgain() {
+    IdempotentResult<Created> first = idempotencyService.execute("key-1", request("ACC001"), Created.class, this::create);
+    IdempotentResult<Created> retry = idempotencyService.execute("key-1", request("ACC001"), Created.class, this::create);
+
+    assertThat(first.replayed()).isFalse();
+    assertThat(retry.replayed()).isTrue();
+    assertThat(retry.body()).isEqualTo(first.body());
+    assertThat(executions).hasValue(1);
+    assertThat(registry.get("idempotency.requests").tag("outcome", "replayed").counter().count()).isEqualTo(1.0);
+  }
+
+  @Test
+  void reusingKeyWithDifferentPayloadShouldBeRejected() {
+    idempotencyService.execute("key-2", request("ACC002"), Created.class, this::create);
+
+    ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+        () -> idempotencyService.execute("key-2", request("ACC003"), Created.class, this::create));
+    assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY);
+    assertThat(executions).hasValue(1);
+  }
+
+  @Test
+  void failedExecutionShouldNotBeStored() {
+    assertThrows(IllegalStateException.class, () -> idempotencyService.execute(
+        "key-3", request("ACC004"), Created.class, () -> {
+          throw new IllegalStateException("database down");
+        }));
+
+    IdempotentResult<Created> retry = idempotencyService.execute("key-3", request("ACC004"), Created.class, this::create);
+    assertThat(retry.replayed()).isFalse();
+    assertThat(executions).hasValue(1);
+  }
+
+  @Test
+  void concurrentDuplicateShouldWaitForInFlightExecution() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<IdempotentResult<Created>> first = CompletableFuture.supplyAsync(
+        () -> idempotencyService.execute("key-4", request("ACC005"), Created.class, () -> {
+          started.countDown();
+          await(release);
+          return create();
+        }));
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    CompletableFuture<IdempotentResult<Created>> duplicate = CompletableFuture.supplyAsync(
+        () -> idempotencyService.execute("key-4", request("ACC005"), Created.class, this::create));
+    Thread.sleep(100);
+    assertThat(duplicate).isNotDone();
+    release.countDown();
+
+    assertThat(first.get(5, TimeUnit.SECONDS).replayed()).isFalse();
+    assertThat(duplicate.get(5, TimeUnit.SECONDS).replayed()).isTrue();
+    assertThat(duplicate.get().body()).isEqualTo(first.get().body());
+    assertThat(executions).hasValue(1);
+  }
+
+  private Created create() {
+    return new Created(executions.incrementAndGet());
+  }
+
+  private static Map<String, String> request(String accountNumber) {
+    return Map.of("accountNumber", accountNumber);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  record Created(int sequence) {}
+}
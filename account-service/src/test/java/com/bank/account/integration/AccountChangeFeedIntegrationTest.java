@@ -0,0 +1,124 @@
+package com.bank.account.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bank.account.dto.AccountChangesResponse;
+import com.bank.account.dto.AccountResponse;
+import com.bank.account.dto.CreateAccountRequest;
+import com.bank.account.service.AccountChangeService;
+import com.bank.account.service.AccountService;
+import com.bank.account.support.PostgresContainerSupport;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+@TestPropertySource(properties = "app.outbox.relay-enabled=false")
+class AccountChangeFeedIntegrationTest extends PostgresContainerSupport {
+
+  @Autowired
+  private AccountService accountService;
+
+  @Autowired
+  private AccountChangeService accountChangeService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PlatformTransactionManager transactionManager;
+
+  @Test
+  void feedShouldPageThroughWritesAndRedeliverUpdatedAccounts() {
+    String cursor = drain(null, new ArrayList<>());
+    List<UUID> created = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      created.add(create("ACCCF00" + i).id());
+    }
+
+    List<AccountResponse> seen = new ArrayList<>();
+    cursor = drain(cursor, seen);
+    assertThat(seen).extracting(AccountResponse::id).containsExactlyElementsOf(created);
+
+    jdbcTemplate.update("UPDATE accounts SET status = 'FROZEN' WHERE id = ?", created.get(1));
+    seen.clear();
+    String afterUpdate = drain(cursor, seen);
+    assertThat(seen).singleElement().satisfies(account -> {
+      assertThat(account.id()).isEqualTo(created.get(1));
+      assertThat(account.status()).isEqualTo("FROZEN");
+    });
+
+    AccountChangesResponse idle = accountChangeService.changes(afterUpdate, 10);
+    assertThat(idle.items()).isEmpty();
+    assertThat(idle.nextCursor()).isEqualTo(afterUpdate);
+  }
+
+  @Test
+  void rowsOfAnOpenTransactionShouldWaitWithoutBeingSkipped() throws Exception {
+    String cursor = drain(null, new ArrayList<>());
+    CountDownLatch written = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    UUID slowId = UUID.randomUUID();
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      // Takes its transaction id first, commits last.
+      Future<?> slow = executor.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(s -> {
+        jdbcTemplate.update("""
+            INSERT INTO accounts (id, customer_id, account_number, currency, balance, status, created_at, updated_at)
+            VALUES (?, ?, 'ACCCF100', 'USD', 1, 'ACTIVE', now(), now())
+            """, slowId, UUID.randomUUID());
+        written.countDown();
+        await(release);
+      }));
+      assertThat(written.await(10, TimeUnit.SECONDS)).isTrue();
+      UUID fastId = create("ACCCF101").id();
+
+      List<AccountResponse> seen = new ArrayList<>();
+      cursor = drain(cursor, seen);
+      // The later transaction is committed but sits behind the open one's position.
+      assertThat(seen).isEmpty();
+
+      release.countDown();
+      slow.get(10, TimeUnit.SECONDS);
+      drain(cursor, seen);
+      assertThat(seen).extracting(AccountResponse::id).containsExactly(slowId, fastId);
+    }
+  }
+
+  private AccountResponse create(String accountNumber) {
+    return accountService.create(
+        new CreateAccountRequest(UUID.randomUUID(), accountNumber, "USD", BigDecimal.valueOf(10)));
+  }
+
+  private String drain(String cursor, List<AccountResponse> into) {
+    AccountChangesResponse page;
+    do {
+      page = accountChangeService.changes(cursor, 2);
+      into.addAll(page.items());
+      cursor = page.nextCursor();
+    } while (page.hasMore());
+    return cursor;
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(ex);
+    }
+  }
+}
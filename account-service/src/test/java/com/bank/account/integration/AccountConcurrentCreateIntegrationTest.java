@@ -0,0 +1,59 @@
+package com.bank.account.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bank.account.dto.CreateAccountRequest;
+import com.bank.account.support.PostgresContainerSupport;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class AccountConcurrentCreateIntegrationTest extends PostgresContainerSupport {
+
+  private static final int CONTENDERS = 16;
+
+  @Autowired
+  private TestRestTemplate restTemplate;
+
+  @Test
+  void concurrentCreatesForSameAccountNumberShouldHaveExactlyOneWinner() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(CONTENDERS);
+    try {
+      for (int round = 0; round < 5; round++) {
+        String accountNumber = "ACCRACE" + round;
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<HttpStatusCode>> results = new ArrayList<>();
+        for (int i = 0; i < CONTENDERS; i++) {
+          CreateAccountRequest request = new CreateAccountRequest(
+              UUID.randomUUID(), accountNumber, "USD", BigDecimal.valueOf(100));
+          results.add(executor.submit(() -> {
+            start.await();
+            return restTemplate.postForEntity("/api/accounts", request, String.class).getStatusCode();
+          }));
+        }
+        start.countDown();
+
+        List<HttpStatusCode> statuses = new ArrayList<>();
+        for (Future<HttpStatusCode> result : results) {
+          statuses.add(result.get());
+        }
+        assertThat(statuses).filteredOn(status -> status.equals(HttpStatus.CREATED)).hasSize(1);
+        assertThat(statuses).filteredOn(status -> status.equals(HttpStatus.CONFLICT)).hasSize(CONTENDERS - 1);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
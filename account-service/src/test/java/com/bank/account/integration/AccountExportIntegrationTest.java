@@ -0,0 +1,86 @@
+package com.bank.account.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bank.account.dto.CreateAccountRequest;
+import com.bank.account.export.AccountExportResult;
+import com.bank.account.export.AccountExportService;
+import com.bank.account.service.AccountBatchService;
+import com.bank.account.support.PostgresContainerSupport;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+
+@SpringBootTest
+@TestPropertySource(properties = "app.export.storage=filesystem")
+class AccountExportIntegrationTest extends PostgresContainerSupport {
+
+  static final Path exportDirectory = createTempDirectory();
+
+  @DynamicPropertySource
+  static void setProps(DynamicPropertyRegistry registry) {
+    registry.add("app.export.directory", exportDirectory::toString);
+  }
+
+  @Autowired
+  private AccountExportService accountExportService;
+
+  @Autowired
+  private AccountBatchService accountBatchService;
+
+  @Autowired
+  private MeterRegistry meterRegistry;
+
+  @Test
+  void exportShouldWriteEveryAccountAsGzippedCsv() throws IOException {
+    List<CreateAccountRequest> requests = new ArrayList<>();
+    for (int i = 0; i < 2_500; i++) {
+      requests.add(new CreateAccountRequest(
+          UUID.randomUUID(), "ACCEXP" + String.format("%05d", i), "USD", BigDecimal.valueOf(i)));
+    }
+    accountBatchService.createBatch(requests);
+
+    AccountExportResult result = accountExportService.export();
+
+    Path file = Path.of(URI.create(result.location()));
+    List<String> lines;
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+        new GZIPInputStream(Files.newInputStream(file)), StandardCharsets.UTF_8))) {
+      lines = reader.lines().toList();
+    }
+    assertThat(result.rows()).isEqualTo(2_500);
+    assertThat(lines).hasSize(2_501);
+    assertThat(lines.get(0)).isEqualTo("id,customer_id,account_number,currency,balance,status,created_at,updated_at");
+    assertThat(lines).anyMatch(line -> line.contains(",ACCEXP02499,USD,2499.0000,ACTIVE,"));
+    assertThat(result.bytes()).isEqualTo(Files.size(file));
+    assertThat(meterRegistry.get("account.export.rows").counter().count()).isEqualTo(2_500);
+    try (var leftovers = Files.walk(exportDirectory)) {
+      assertThat(leftovers.filter(path -> path.toString().endsWith(".partial"))).isEmpty();
+    }
+  }
+
+  private static Path createTempDirectory() {
+    try {
+      return Files.createTempDirectory("account-exports");
+    } catch (IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+}
@@ -0,0 +1,121 @@
+package com.bank.account.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.bank.account.dto.AccountImportIssue;
+import com.bank.account.dto.AccountImportReport;
+import com.bank.account.dto.CreateAccountRequest;
+import com.bank.account.service.AccountImportFormat;
+import com.bank.account.service.AccountImportService;
+import com.bank.account.service.AccountService;
+import com.bank.account.support.PostgresContainerSupport;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "app.outbox.relay-enabled=false",
+    "app.accounts.import.chunk-size=2"})
+class AccountImportIntegrationTest extends PostgresContainerSupport {
+
+  @Autowired
+  private AccountImportService accountImportService;
+
+  @Autowired
+  private AccountService accountService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void csvImportShouldMergeValidRowsAndReportDuplicatesAndRejects() {
+    accountService.create(new CreateAccountRequest(UUID.randomUUID(), "ACCIMP001", "USD", BigDecimal.TEN));
+    UUID customerId = UUID.randomUUID();
+    String csv = """
+        customerId,accountNumber,currency,openingBalance
+        %1$s,ACCIMP001,USD,10.00
+        %1$s,ACCIMP002,USD,20.00
+
+        %1$s,ACCIMP003,EUR,30.50
+        %1$s,ACCIMP003,EUR,30.50
+        %1$s,ACCIMP004,usd,1.00
+        not-a-uuid,ACCIMP005,USD,1.00
+        %1$s,ACCIMP006,GBP,0
+        """.formatted(customerId);
+
+    AccountImportReport report = accountImportService.importAccounts(null, AccountImportFormat.CSV, stream(csv));
+
+    assertThat(report.status()).isEqualTo("COMPLETED");
+    assertThat(report.rowsProcessed()).isEqualTo(7);
+    assertThat(report.imported()).isEqualTo(3);
+    assertThat(report.duplicates()).isEqualTo(2);
+    assertThat(report.rejected()).isEqualTo(2);
+    assertThat(report.issues()).extracting(AccountImportIssue::row).containsExactly(1L, 4L, 5L, 6L);
+    assertThat(report.issues()).extracting(AccountImportIssue::kind)
+        .containsExactly("DUPLICATE", "DUPLICATE", "REJECTED", "REJECTED");
+    assertThat(jdbcTemplate.queryForObject(
+        "SELECT count(*) FROM accounts WHERE customer_id = ?", Long.class, customerId)).isEqualTo(3);
+    assertThat(jdbcTemplate.queryForObject("""
+        SELECT count(*) FROM account_outbox o JOIN accounts a ON a.id = o.aggregate_id WHERE a.customer_id = ?
+        """, Long.class, customerId)).isEqualTo(3);
+    assertThat(jdbcTemplate.queryForObject(
+        "SELECT count(*) FROM account_import_staging WHERE import_id = ?", Long.class, report.importId())).isZero();
+  }
+
+  @Test
+  void interruptedImportShouldResumeFromLastCheckpoint() {
+    UUID customerId = UUID.randomUUID();
+    StringBuilder ndjson = new StringBuilder();
+    for (int i = 1; i <= 5; i++) {
+      ndjson.append("""
+          {"customerId":"%s","accountNumber":"ACCRES%03d","currency":"USD","openingBalance":5.00}
+          """.formatted(customerId, i));
+    }
+    byte[] body = ndjson.toString().getBytes(StandardCharsets.UTF_8);
+    UUID importId = UUID.randomUUID();
+
+    // The connection drops partway through the second chunk: only the first chunk is committed.
+    int cutOff = ndjson.indexOf("ACCRES004");
+    assertThrows(RuntimeException.class, () -> accountImportService.importAccounts(
+        importId, AccountImportFormat.NDJSON, failingAfter(body, cutOff)));
+    assertThat(accountImportService.report(importId).rowsProcessed()).isEqualTo(2);
+
+    AccountImportReport resumed = accountImportService.importAccounts(
+        importId, AccountImportFormat.NDJSON, new ByteArrayInputStream(body));
+
+    assertThat(resumed.status()).isEqualTo("COMPLETED");
+    assertThat(resumed.rowsProcessed()).isEqualTo(5);
+    assertThat(resumed.imported()).isEqualTo(5);
+    assertThat(resumed.duplicates()).isZero();
+    assertThat(jdbcTemplate.queryForObject(
+        "SELECT count(*) FROM accounts WHERE customer_id = ?", Long.class, customerId)).isEqualTo(5);
+  }
+
+  private static InputStream stream(String content) {
+    return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static InputStream failingAfter(byte[] content, int bytes) {
+    return new InputStream() {
+      private int position;
+
+      @Override
+      public int read() throws IOException {
+        if (position >= bytes) {
+          throw new IOException("connection reset");
+        }
+        return content[position++];
+      }
+    };
+  }
+}
@@ -0,0 +1,70 @@
+package com.bank.account.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import com.bank.account.dto.AccountResponse;
+import com.bank.account.dto.BatchItemResult;
+import com.bank.account.dto.CreateAccountRequest;
+import com.bank.account.entity.OutboxEvent;
+import com.bank.account.outbox.AccountEventPublisher;
+import com.bank.account.outbox.InMemoryAccountEventPublisher;
+import com.bank.account.service.AccountBatchService;
+import com.bank.account.service.AccountOutbox;
+import com.bank.account.service.AccountService;
+import com.bank.account.support.PostgresContainerSupport;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.server.ResponseStatusException;
+
+@SpringBootTest
+@TestPropertySource(properties = "app.outbox.relay-batch-size=50")
+class AccountOutboxIntegrationTest extends PostgresContainerSupport {
+
+  @Autowired
+  private AccountService accountService;
+
+  @Autowired
+  private AccountBatchService accountBatchService;
+
+  @Autowired
+  private AccountEventPublisher publisher;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void createdAccountsShouldBeRelayedInOrderAndRemovedFromOutbox() {
+    AccountResponse single = accountService.create(
+        new CreateAccountRequest(UUID.randomUUID(), "ACCOBX000", "USD", BigDecimal.TEN));
+    List<CreateAccountRequest> batch = new ArrayList<>();
+    for (int i = 1; i <= 120; i++) {
+      batch.add(new CreateAccountRequest(UUID.randomUUID(), "ACCOBX" + String.format("%03d", i), "USD", BigDecimal.TEN));
+    }
+    List<UUID> batchIds = accountBatchService.createBatch(batch).results().stream().map(BatchItemResult::id).toList();
+
+    try {
+      accountService.create(new CreateAccountRequest(UUID.randomUUID(), "ACCOBX000", "USD", BigDecimal.TEN));
+    } catch (ResponseStatusException expected) {
+      // Duplicate account number: the rolled-back create must not leave an outbox row behind.
+    }
+
+    InMemoryAccountEventPublisher sink = (InMemoryAccountEventPublisher) publisher;
+    await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> assertThat(sink.published()).hasSize(121));
+
+    List<OutboxEvent> published = sink.published();
+    assertThat(published).extracting(OutboxEvent::getEventType).containsOnly(AccountOutbox.ACCOUNT_CREATED);
+    assertThat(published.get(0).getAggregateId()).isEqualTo(single.id());
+    assertThat(published.subList(1, 121)).extracting(OutboxEvent::getAggregateId).containsExactlyElementsOf(batchIds);
+    assertThat(published.get(0).getPayload()).contains("\"accountNumber\":\"ACCOBX000\"");
+    assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM account_outbox", Long.class)).isZero();
+  }
+}
@@ -0,0 +1,125 @@
+package com.bank.account.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.bank.account.dto.AccountResponse;
+import com.bank.account.dto.CreateAccountRequest;
+import com.bank.account.partition.AccountPartitionMigration;
+import com.bank.account.partition.PartitionMigrationResult;
+import com.bank.account.repository.AccountTableLayout;
+import com.bank.account.service.AccountService;
+import com.bank.account.support.PostgresContainerSupport;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationVersion;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.server.ResponseStatusException;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "app.cache.accounts.enabled=false",
+    "app.outbox.relay-enabled=false",
+    // Start on the old table; the test applies V6 itself once there is data to move.
+    "spring.flyway.target=5",
+    "spring.jpa.hibernate.ddl-auto=none",
+    "app.accounts.partitioning.batch-size=7"})
+class AccountPartitionMigrationIntegrationTest extends PostgresContainerSupport {
+
+  @Autowired
+  private Flyway flyway;
+
+  @Autowired
+  private AccountService accountService;
+
+  @Autowired
+  private AccountPartitionMigration accountPartitionMigration;
+
+  @Autowired
+  private AccountTableLayout accountTableLayout;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void backfillShouldCopyMirrorAndCutOverToPartitionedTable() {
+    List<UUID> legacyIds = new ArrayList<>();
+    UUID customerId = UUID.randomUUID();
+    OffsetDateTime now = OffsetDateTime.now();
+    for (int i = 0; i < 30; i++) {
+      UUID id = UUID.randomUUID();
+      jdbcTemplate.update("""
+          INSERT INTO accounts (id, customer_id, account_number, currency, balance, status, created_at, updated_at)
+          VALUES (?, ?, ?, 'USD', 10, 'ACTIVE', ?, ?)
+          """, id, i % 3 == 0 ? customerId : UUID.randomUUID(), "ACCPART%03d".formatted(i), now, now);
+      legacyIds.add(id);
+    }
+
+    Flyway.configure().configuration(flyway.getConfiguration()).target(MigrationVersion.LATEST).load().migrate();
+
+    // The change feed index, built concurrently per partition, is valid on both tables.
+    assertThat(jdbcTemplate.queryForList("""
+        SELECT indexrelid::regclass::text FROM pg_index
+        WHERE indisvalid AND indexrelid::regclass::text IN ('idx_accounts_change', 'idx_accounts_partitioned_change')
+        """, String.class)).hasSize(2);
+
+    // Writes during the backfill reach both tables.
+    AccountResponse created = accountService.create(
+        new CreateAccountRequest(customerId, "ACCPART100", "USD", BigDecimal.ONE));
+    jdbcTemplate.update("UPDATE accounts SET balance = 99 WHERE id = ?", legacyIds.get(0));
+    jdbcTemplate.update("DELETE FROM accounts WHERE id = ?", legacyIds.get(1));
+    assertThat(jdbcTemplate.queryForObject(
+        "SELECT count(*) FROM accounts_partitioned", Long.class)).isEqualTo(2);
+    // Mirrored rows carry the position they were written at on the old table.
+    assertThat(jdbcTemplate.queryForObject("""
+        SELECT count(*) FROM accounts a JOIN accounts_partitioned p USING (customer_id, id)
+        WHERE (a.change_xid, a.change_seq) = (p.change_xid, p.change_seq) AND a.change_xid <> '0'
+        """, Long.class)).isEqualTo(2);
+    assertThat(accountTableLayout.keyed()).isFalse();
+
+    PartitionMigrationResult verified = accountPartitionMigration.migrate();
+
+    // Verified: lookups go through account_keys against the old table, and the cutover waits for other instances.
+    assertThat(verified.backfilled()).isTrue();
+    assertThat(verified.consistent()).isTrue();
+    assertThat(verified.cutOver()).isFalse();
+    assertThat(verified.rowsCopied()).isEqualTo(28);
+    assertThat(accountTableLayout.keyed()).isTrue();
+    assertThat(accountService.get(legacyIds.get(2)).accountNumber()).isEqualTo("ACCPART002");
+
+    jdbcTemplate.update("UPDATE account_partition_backfill SET verified_at = verified_at - interval '1 hour'");
+    PartitionMigrationResult result = accountPartitionMigration.migrate();
+
+    assertThat(result.cutOver()).isTrue();
+    // Only the two rows written since V7 are in the change feed: the backfill did not restamp the rest.
+    assertThat(jdbcTemplate.queryForObject(
+        "SELECT count(*) FROM accounts WHERE change_xid <> '0'", Long.class)).isEqualTo(2);
+    assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM accounts", Long.class)).isEqualTo(30);
+    assertThat(jdbcTemplate.queryForObject("SELECT count(*) FROM account_keys", Long.class)).isEqualTo(30);
+
+    assertThat(accountService.get(legacyIds.get(0)).balance()).isEqualByComparingTo("99");
+    assertThat(accountService.get(created.id()).accountNumber()).isEqualTo("ACCPART100");
+    assertThat(accountService.lookup(legacyIds).missing()).containsExactly(legacyIds.get(1));
+    assertThrows(ResponseStatusException.class, () -> accountService.create(
+        new CreateAccountRequest(UUID.randomUUID(), "ACCPART005", "USD", BigDecimal.ONE)));
+
+    // A keyed lookup probes one partition: the others are pruned at run time.
+    String plan = String.join("\n", jdbcTemplate.queryForList("""
+        EXPLAIN (ANALYZE, COSTS OFF)
+        SELECT a.* FROM account_keys k JOIN accounts a ON a.customer_id = k.customer_id AND a.id = k.id
+        WHERE k.id = ?
+        """, String.class, created.id()));
+    assertThat(plan.split("never executed", -1)).hasSize(16);
+    String customerPlan = String.join("\n", jdbcTemplate.queryForList(
+        "EXPLAIN (COSTS OFF) SELECT * FROM accounts WHERE customer_id = '%s'".formatted(customerId), String.class));
+    assertThat(customerPlan.split("accounts_p", -1)).hasSize(2);
+  }
+}
@@ -0,0 +1,104 @@
+package com.bank.account.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bank.account.dto.CreateAccountRequest;
+import com.bank.account.dto.CurrencySummaryResponse;
+import com.bank.account.dto.CustomerSummaryResponse;
+import com.bank.account.service.AccountBatchService;
+import com.bank.account.service.AccountImportFormat;
+import com.bank.account.service.AccountImportService;
+import com.bank.account.service.AccountService;
+import com.bank.account.service.CustomerSummaryService;
+import com.bank.account.summary.SummaryRebuildResult;
+import com.bank.account.summary.SummaryRebuildService;
+import com.bank.account.support.PostgresContainerSupport;
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+@SpringBootTest
+@TestPropertySource(properties = {
+    "app.outbox.relay-enabled=false",
+    "app.summary.rebuild.chunks=16"})
+class CustomerSummaryIntegrationTest extends PostgresContainerSupport {
+
+  @Autowired
+  private AccountService accountService;
+
+  @Autowired
+  private AccountBatchService accountBatchService;
+
+  @Autowired
+  private AccountImportService accountImportService;
+
+  @Autowired
+  private CustomerSummaryService customerSummaryService;
+
+  @Autowired
+  private SummaryRebuildService summaryRebuildService;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  void everyWritePathShouldKeepTheSummaryInStep() {
+    UUID customerId = UUID.randomUUID();
+    accountService.create(new CreateAccountRequest(customerId, "ACCSUM001", "USD", new BigDecimal("100.00")));
+    accountBatchService.createBatch(List.of(
+        new CreateAccountRequest(customerId, "ACCSUM002", "USD", new BigDecimal("50.25")),
+        new CreateAccountRequest(customerId, "ACCSUM003", "EUR", new BigDecimal("10.00"))));
+    String csv = """
+        %1$s,ACCSUM004,EUR,5.50
+        %1$s,ACCSUM005,USD,0.75
+        """.formatted(customerId);
+    accountImportService.importAccounts(
+        null, AccountImportFormat.CSV, new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+    CustomerSummaryResponse summary = customerSummaryService.summary(customerId);
+
+    assertThat(summary.currencies()).extracting(CurrencySummaryResponse::currency).containsExactly("EUR", "USD");
+    CurrencySummaryResponse eur = summary.currencies().get(0);
+    assertThat(eur.accountCount()).isEqualTo(2);
+    assertThat(eur.totalBalance()).isEqualByComparingTo("15.50");
+    CurrencySummaryResponse usd = summary.currencies().get(1);
+    assertThat(usd.accountCount()).isEqualTo(3);
+    assertThat(usd.totalBalance()).isEqualByComparingTo("151.00");
+    assertThat(usd.accountsByStatus()).isEqualTo(Map.of("ACTIVE", 3L));
+    assertThat(summaryRebuildService.rebuild().driftedKeys()).isZero();
+  }
+
+  @Test
+  void rebuildShouldDetectAndRepairDrift() {
+    UUID drifted = UUID.randomUUID();
+    UUID missing = UUID.randomUUID();
+    accountService.create(new CreateAccountRequest(drifted, "ACCSUM101", "USD", new BigDecimal("20.00")));
+    accountService.create(new CreateAccountRequest(missing, "ACCSUM102", "GBP", new BigDecimal("7.00")));
+    jdbcTemplate.update("UPDATE customer_account_summary SET account_count = 5 WHERE customer_id = ?", drifted);
+    jdbcTemplate.update("DELETE FROM customer_account_summary WHERE customer_id = ?", missing);
+    UUID orphan = UUID.randomUUID();
+    jdbcTemplate.update("""
+        INSERT INTO customer_account_summary (customer_id, currency, status, account_count, total_balance, updated_at)
+        VALUES (?, 'USD', 'ACTIVE', 1, 1, now())
+        """, orphan);
+
+    SummaryRebuildResult result = summaryRebuildService.rebuild();
+
+    assertThat(result.chunks()).isEqualTo(16);
+    assertThat(result.failedChunks()).isZero();
+    assertThat(result.driftedKeys()).isEqualTo(3);
+    assertThat(result.repairedCustomers()).isEqualTo(3);
+    assertThat(customerSummaryService.summary(drifted).currencies().get(0).accountCount()).isEqualTo(1);
+    assertThat(customerSummaryService.summary(missing).currencies().get(0).totalBalance()).isEqualByComparingTo("7");
+    assertThat(customerSummaryService.summary(orphan).currencies()).isEmpty();
+    assertThat(summaryRebuildService.rebuild().driftedKeys()).isZero();
+  }
+}
@@ -0,0 +1,83 @@
+package com.bank.account.limiter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class AdaptiveConcurrencyLimiterTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  @Test
+  void shouldShedBeyondLimitAndCountRejections() {
+    AdaptiveConcurrencyLimiter limiter = limiter("reads", 2);
+
+    AdaptiveConcurrencyLimiter.Permit first = limiter.tryAcquire();
+    AdaptiveConcurrencyLimiter.Permit second = limiter.tryAcquire();
+
+    assertThat(first).isNotNull();
+    assertThat(second).isNotNull();
+    assertThat(limiter.tryAcquire()).isNull();
+    assertThat(registry.get("http.concurrency.rejected").tag("group", "reads").counter().count()).isEqualTo(1);
+    first.onIgnore();
+    assertThat(limiter.tryAcquire()).isNotNull();
+  }
+
+  @Test
+  void limitShouldGrowWhileLatencyHoldsAndShrinkWhenItRises() {
+    GradientLimit limit = new GradientLimit(new ApiConcurrencyLimitProperties.Group(10, 2, 100, 2.0, 0.2, 600));
+    for (int i = 0; i < 50; i++) {
+      limit.onSample(10_000_000, limit.limit(), false);
+    }
+    int grown = limit.limit();
+    for (int i = 0; i < 50; i++) {
+      limit.onSample(200_000_000, limit.limit(), false);
+    }
+
+    assertThat(grown).isGreaterThan(10);
+    assertThat(limit.limit()).isLessThan(grown);
+  }
+
+  @Test
+  void droppedRequestsShouldBackOffToTheMinimum() {
+    GradientLimit limit = new GradientLimit(new ApiConcurrencyLimitProperties.Group(50, 4, 100, 2.0, 0.2, 10));
+    for (int i = 0; i < 100; i++) {
+      limit.onSample(1_000_000, 50, true);
+    }
+
+    assertThat(limit.limit()).isEqualTo(4);
+  }
+
+  @Test
+  void filterShouldRejectWithRetryAfterOnceTheReadLimitIsTaken() throws Exception {
+    AdaptiveConcurrencyLimiter reads = limiter("reads", 1);
+    AdaptiveConcurrencyLimitFilter filter = new AdaptiveConcurrencyLimitFilter(reads, limiter("writes", 1), 2);
+    AdaptiveConcurrencyLimiter.Permit held = reads.tryAcquire();
+
+    MockHttpServletResponse rejected = new MockHttpServletResponse();
+    filter.doFilter(new MockHttpServletRequest("GET", "/api/accounts/1"), rejected, failingChain());
+    MockHttpServletResponse write = new MockHttpServletResponse();
+    filter.doFilter(new MockHttpServletRequest("POST", "/api/accounts"), write, (request, response) -> { });
+
+    assertThat(held).isNotNull();
+    assertThat(rejected.getStatus()).isEqualTo(503);
+    assertThat(rejected.getHeader("Retry-After")).isEqualTo("2");
+    assertThat(rejected.getContentAsString()).contains("Too many concurrent requests");
+    assertThat(write.getStatus()).isEqualTo(200);
+  }
+
+  private AdaptiveConcurrencyLimiter limiter(String group, int limit) {
+    return new AdaptiveConcurrencyLimiter(
+        group, new ApiConcurrencyLimitProperties.Group(limit, 1, limit, 2.0, 0.2, 600), registry);
+  }
+
+  private static FilterChain failingChain() {
+    return (request, response) -> {
+      throw new AssertionError("shed requests must not reach the controller");
+    };
+  }
+}
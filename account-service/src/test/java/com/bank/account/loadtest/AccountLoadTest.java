@@ -0,0 +1,175 @@
+package com.bank.account.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bank.account.dto.BatchItemResult;
+import com.bank.account.dto.CreateAccountRequest;
+import com.bank.account.service.AccountBatchService;
+import com.bank.account.support.PostgresContainerSupport;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class AccountLoadTest extends PostgresContainerSupport {
+
+  private static final String SCENARIO = "mixed-create-get";
+  private static final Path REPORT_DIR = Path.of("target", "loadtest");
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private AccountBatchService accountBatchService;
+
+  private final HttpClient client = HttpClient.newBuilder()
+      .executor(Executors.newVirtualThreadPerTaskExecutor())
+      .connectTimeout(Duration.ofSeconds(5))
+      .build();
+
+  private final AtomicLong accountNumbers = new AtomicLong();
+
+  @Test
+  void mixedCreateAndGetShouldNotRegressAgainstBaseline() throws IOException {
+    Path baselineFile = Path.of(System.getProperty("loadtest.baseline", "src/test/resources/loadtest/baseline.json"));
+    LoadTestBaseline baseline = LoadTestBaseline.read(baselineFile);
+    LoadTestBaseline.Scenario expected = baseline.scenarios().get(SCENARIO);
+    double rate = Double.parseDouble(System.getProperty(
+        "loadtest.rate", expected != null ? Double.toString(expected.ratePerSecond()) : "200"));
+    Duration duration = Duration.ofSeconds(Long.getLong("loadtest.seconds", 60));
+    double createShare = Double.parseDouble(System.getProperty("loadtest.create-share", "0.2"));
+
+    List<UUID> ids = seed(Integer.getInteger("loadtest.seed-accounts", 1_000));
+    OpenModelLoadGenerator generator = new OpenModelLoadGenerator(List.of(
+        new OpenModelLoadGenerator.WeightedOperation("create", createShare, this::create),
+        new OpenModelLoadGenerator.WeightedOperation("get", 1 - createShare, () -> get(ids))));
+
+    generator.run(rate, Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 15)));
+    OpenModelLoadGenerator.Result result = generator.run(rate, duration);
+    writeReports(result);
+
+    double p99Millis = result.overall().getValueAtPercentile(99) / 1_000_000.0;
+    double throughput = result.throughputPerSecond();
+    String summary = String.format(Locale.ROOT,
+        "[loadtest] %s: rate=%.0f/s throughput=%.1f/s p50=%.3fms p99=%.3fms p999=%.3fms max=%.3fms failed=%d",
+        SCENARIO, rate, throughput,
+        result.overall().getValueAtPercentile(50) / 1_000_000.0, p99Millis,
+        result.overall().getValueAtPercentile(99.9) / 1_000_000.0, result.overall().getMaxValue() / 1_000_000.0,
+        result.failed());
+    System.out.println(summary);
+
+    if (Boolean.getBoolean("loadtest.update-baseline")) {
+      assertThat(result.failed()).as("failed requests in the run to record").isZero();
+      Path histogram = baselineFile.resolveSibling(SCENARIO + ".hgrm");
+      Files.copy(REPORT_DIR.resolve(SCENARIO + "-overall.hgrm"), histogram, StandardCopyOption.REPLACE_EXISTING);
+      LoadTestBaseline.Recording recording = new LoadTestBaseline.Recording(
+          OffsetDateTime.now(ZoneOffset.UTC).toString(), environment(duration), summary,
+          histogram.getFileName().toString());
+      baseline.with(SCENARIO, new LoadTestBaseline.Scenario(rate, p99Millis, throughput, recording))
+          .write(baselineFile);
+      return;
+    }
+
+    assertThat(expected)
+        .as("no recorded baseline for %s in %s; record one with -Dloadtest.update-baseline=true", SCENARIO,
+            baselineFile)
+        .isNotNull();
+    assertThat(result.failed()).as("failed requests").isZero();
+    assertThat(p99Millis).as("p99 ms against baseline %.3f", expected.p99Millis())
+        .isLessThanOrEqualTo(expected.p99Millis() * (1 + baseline.tolerance()));
+    assertThat(throughput).as("throughput/s against baseline %.1f", expected.throughputPerSecond())
+        .isGreaterThanOrEqualTo(expected.throughputPerSecond() * (1 - baseline.tolerance()));
+  }
+
+  // Enough to tell whether a later run is comparable; GIT_COMMIT and BUILD_URL are set by Jenkins.
+  private static Map<String, String> environment(Duration duration) {
+    Map<String, String> environment = new TreeMap<>();
+    environment.put("java", System.getProperty("java.vm.name") + " " + System.getProperty("java.version"));
+    environment.put("os", System.getProperty("os.name") + " " + System.getProperty("os.version") + " "
+        + System.getProperty("os.arch"));
+    environment.put("cpus", Integer.toString(Runtime.getRuntime().availableProcessors()));
+    environment.put("maxHeapMb", Long.toString(Runtime.getRuntime().maxMemory() / (1024 * 1024)));
+    environment.put("database", postgres.getDockerImageName());
+    environment.put("durationSeconds", Long.toString(duration.toSeconds()));
+    environment.put("warmupSeconds", Long.toString(Long.getLong("loadtest.warmup-seconds", 15)));
+    environment.put("createShare", System.getProperty("loadtest.create-share", "0.2"));
+    environment.put("seedAccounts", Integer.toString(Integer.getInteger("loadtest.seed-accounts", 1_000)));
+    environment.put("gitCommit", System.getenv().getOrDefault("GIT_COMMIT", "unknown"));
+    environment.put("buildUrl", System.getenv().getOrDefault("BUILD_URL", "local"));
+    return environment;
+  }
+
+  private List<UUID> seed(int count) {
+    List<CreateAccountRequest> requests = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      requests.add(new CreateAccountRequest(UUID.randomUUID(), "LTSEED" + i, "USD", BigDecimal.valueOf(100)));
+    }
+    return accountBatchService.createBatch(requests).results().stream()
+        .map(BatchItemResult::id)
+        .toList();
+  }
+
+  private boolean create() throws Exception {
+    String body = """
+        {"customerId":"%s","accountNumber":"LT%d","currency":"USD","openingBalance":100}
+        """.formatted(UUID.randomUUID(), accountNumbers.incrementAndGet());
+    HttpRequest request = HttpRequest.newBuilder(uri("/api/accounts"))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(body))
+        .build();
+    return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 201;
+  }
+
+  private boolean get(List<UUID> ids) throws Exception {
+    UUID id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    HttpRequest request = HttpRequest.newBuilder(uri("/api/accounts/" + id)).GET().build();
+    return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+  }
+
+  private URI uri(String path) {
+    return URI.create("http://localhost:" + port + path);
+  }
+
+  // One .hgrm per operation and overall, in nanoseconds scaled to milliseconds (plot with HdrHistogram's plotter).
+  private static void writeReports(OpenModelLoadGenerator.Result result) throws IOException {
+    Files.createDirectories(REPORT_DIR);
+    writeReport("overall", result.overall());
+    for (Map.Entry<String, Histogram> entry : result.byOperation().entrySet()) {
+      writeReport(entry.getKey(), entry.getValue());
+    }
+  }
+
+  private static void writeReport(String name, Histogram histogram) throws IOException {
+    Path file = REPORT_DIR.resolve(SCENARIO + "-" + name + ".hgrm");
+    try (PrintStream out = new PrintStream(new FileOutputStream(file.toFile()))) {
+      histogram.outputPercentileDistribution(out, 1_000_000.0);
+    }
+  }
+}
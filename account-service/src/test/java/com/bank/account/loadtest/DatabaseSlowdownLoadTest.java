@@ -0,0 +1,193 @@
+package com.bank.account.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bank.account.dto.BatchItemResult;
+import com.bank.account.dto.CreateAccountRequest;
+import com.bank.account.service.AccountBatchService;
+import com.bank.account.support.PostgresContainerSupport;
+import eu.rekawek.toxiproxy.Proxy;
+import eu.rekawek.toxiproxy.ToxiproxyClient;
+import eu.rekawek.toxiproxy.model.ToxicDirection;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.Network;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.ToxiproxyContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Drives a steady open-model load, then slows every database round trip with Toxiproxy. With the adaptive limit on
+ * ({@code -Dloadtest.limiter=true}, the default) the excess is shed with 503 and the requests that are admitted keep a
+ * bounded latency; run with {@code -Dloadtest.limiter=false} to watch the queue and the latency grow instead.
+ */
+@Tag("loadtest")
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class DatabaseSlowdownLoadTest {
+
+  private static final String SCENARIO = "db-slowdown";
+  private static final boolean LIMITER = Boolean.parseBoolean(System.getProperty("loadtest.limiter", "true"));
+
+  static Network network = Network.newNetwork();
+
+  @Container
+  static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16")
+      .withNetwork(network)
+      .withNetworkAliases("postgres")
+      .withDatabaseName("accounts_db")
+      .withUsername("bank_admin")
+      .withPassword("bank_admin_pass");
+
+  @Container
+  static ToxiproxyContainer toxiproxy = new ToxiproxyContainer("ghcr.io/shopify/toxiproxy:2.5.0")
+      .withNetwork(network);
+
+  private static Proxy proxy;
+
+  @DynamicPropertySource
+  static void setProps(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", () -> {
+      proxy();
+      return "jdbc:postgresql://%s:%d/accounts_db".formatted(toxiproxy.getHost(), toxiproxy.getMappedPort(8666));
+    });
+    registry.add("spring.datasource.username", postgres::getUsername);
+    registry.add("spring.datasource.password", postgres::getPassword);
+    PostgresContainerSupport.applicationProperties(registry);
+    registry.add("app.cache.accounts.enabled", () -> "false");
+    registry.add("app.outbox.relay-enabled", () -> "false");
+    registry.add("app.api.concurrency-limit.enabled", () -> Boolean.toString(LIMITER));
+  }
+
+  // Created on first use: the container is only running once the datasource URL is resolved.
+  private static synchronized Proxy proxy() {
+    if (proxy == null) {
+      try {
+        proxy = new ToxiproxyClient(toxiproxy.getHost(), toxiproxy.getControlPort())
+            .createProxy("postgres", "0.0.0.0:8666", "postgres:5432");
+      } catch (IOException ex) {
+        throw new UncheckedIOException(ex);
+      }
+    }
+    return proxy;
+  }
+
+  @LocalServerPort
+  private int port;
+
+  @Autowired
+  private AccountBatchService accountBatchService;
+
+  private final HttpClient client = HttpClient.newBuilder()
+      .executor(Executors.newVirtualThreadPerTaskExecutor())
+      .connectTimeout(Duration.ofSeconds(5))
+      .build();
+
+  private final AtomicLong accountNumbers = new AtomicLong();
+  private final AtomicLong shed = new AtomicLong();
+  private final Histogram succeededNanos = new ConcurrentHistogram(3);
+
+  @Test
+  void goodputShouldHoldWhenTheDatabaseSlowsDown() throws Exception {
+    double rate = Double.parseDouble(System.getProperty("loadtest.rate", "300"));
+    Duration duration = Duration.ofSeconds(Long.getLong("loadtest.seconds", 30));
+    int latencyMillis = Integer.getInteger("loadtest.db-latency-ms", 20);
+    double maxP99Millis = Double.parseDouble(System.getProperty("loadtest.max-p99-ms", "2500"));
+
+    List<UUID> ids = seed(Integer.getInteger("loadtest.seed-accounts", 1_000));
+    OpenModelLoadGenerator generator = new OpenModelLoadGenerator(List.of(
+        new OpenModelLoadGenerator.WeightedOperation("create", 0.2, this::create),
+        new OpenModelLoadGenerator.WeightedOperation("get", 0.8, () -> get(ids))));
+
+    generator.run(rate, Duration.ofSeconds(Long.getLong("loadtest.warmup-seconds", 10)));
+    OpenModelLoadGenerator.Result healthy = measure(generator, rate, duration, "healthy");
+
+    proxy().toxics().latency("db-latency", ToxicDirection.DOWNSTREAM, latencyMillis).setJitter(latencyMillis / 4);
+    OpenModelLoadGenerator.Result slowed = measure(generator, rate, duration, "slowed+" + latencyMillis + "ms");
+
+    assertThat(healthy.throughputPerSecond()).as("goodput before the slowdown").isPositive();
+    if (LIMITER) {
+      assertThat(slowed.throughputPerSecond()).as("goodput during the slowdown").isPositive();
+      assertThat(succeededNanos.getValueAtPercentile(99) / 1_000_000.0).as("p99 ms of admitted requests")
+          .isLessThanOrEqualTo(maxP99Millis);
+    }
+  }
+
+  private OpenModelLoadGenerator.Result measure(
+      OpenModelLoadGenerator generator, double rate, Duration duration, String phase) {
+    shed.set(0);
+    succeededNanos.reset();
+    OpenModelLoadGenerator.Result result = generator.run(rate, duration);
+    System.out.printf(Locale.ROOT,
+        "[loadtest] %s %s limiter=%s: rate=%.0f/s goodput=%.1f/s ok-p50=%.3fms ok-p99=%.3fms shed=%d failed=%d%n",
+        SCENARIO, phase, LIMITER, rate, result.throughputPerSecond(),
+        succeededNanos.getValueAtPercentile(50) / 1_000_000.0, succeededNanos.getValueAtPercentile(99) / 1_000_000.0,
+        shed.get(), result.failed());
+    return result;
+  }
+
+  private List<UUID> seed(int count) {
+    List<CreateAccountRequest> requests = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      requests.add(new CreateAccountRequest(UUID.randomUUID(), "DSSEED" + i, "USD", BigDecimal.valueOf(100)));
+    }
+    return accountBatchService.createBatch(requests).results().stream()
+        .map(BatchItemResult::id)
+        .toList();
+  }
+
+  private boolean create() throws Exception {
+    String body = """
+        {"customerId":"%s","accountNumber":"DS%d","currency":"USD","openingBalance":100}
+        """.formatted(UUID.randomUUID(), accountNumbers.incrementAndGet());
+    return send(HttpRequest.newBuilder(uri("/api/accounts"))
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(body))
+        .build(), 201);
+  }
+
+  private boolean get(List<UUID> ids) throws Exception {
+    UUID id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    return send(HttpRequest.newBuilder(uri("/api/accounts/" + id)).GET().build(), 200);
+  }
+
+  private boolean send(HttpRequest request, int expected) throws Exception {
+    long start = System.nanoTime();
+    int status = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    if (status == expected) {
+      succeededNanos.recordValue(System.nanoTime() - start);
+      return true;
+    }
+    if (status == 503) {
+      shed.incrementAndGet();
+    }
+    return false;
+  }
+
+  private URI uri(String path) {
+    return URI.create("http://localhost:" + port + path);
+  }
+}
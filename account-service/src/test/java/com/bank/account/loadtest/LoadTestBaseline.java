@@ -0,0 +1,40 @@
+package com.bank.account.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Stored reference results, one entry per scenario. A run regresses when its p99 exceeds the baseline p99, or its
+ * throughput falls below the baseline throughput, by more than {@code tolerance} (a fraction, e.g. 0.2 = 20%).
+ * Entries are only ever written by a run ({@code -Dloadtest.update-baseline=true}), which records where it ran and
+ * its raw output alongside the numbers.
+ */
+record LoadTestBaseline(double tolerance, Map<String, Scenario> scenarios) {
+
+  record Scenario(double ratePerSecond, double p99Millis, double throughputPerSecond, Recording recordedRun) {}
+
+  /** {@code histogram} is the run's overall percentile distribution, a file next to the baseline. */
+  record Recording(String recordedAt, Map<String, String> environment, String summary, String histogram) {}
+
+  private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+  static LoadTestBaseline read(Path file) throws IOException {
+    return MAPPER.readValue(file.toFile(), LoadTestBaseline.class);
+  }
+
+  LoadTestBaseline with(String name, Scenario scenario) {
+    Map<String, Scenario> updated = new TreeMap<>(scenarios);
+    updated.put(name, scenario);
+    return new LoadTestBaseline(tolerance, updated);
+  }
+
+  void write(Path file) throws IOException {
+    Files.createDirectories(file.toAbsolutePath().getParent());
+    MAPPER.writeValue(file.toFile(), this);
+  }
+}
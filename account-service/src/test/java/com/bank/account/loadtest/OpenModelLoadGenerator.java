@@ -0,0 +1,92 @@
+package com.bank.account.loadtest;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Open-model load generator: requests are issued on a fixed schedule whether or not earlier ones have completed, and
+ * latency is measured from the scheduled start rather than the actual send, so a stalled server shows up as latency
+ * instead of silently lowering the offered rate (no coordinated omission).
+ */
+final class OpenModelLoadGenerator {
+
+  @FunctionalInterface
+  interface Operation {
+    boolean execute() throws Exception;
+  }
+
+  record WeightedOperation(String name, double weight, Operation operation) {}
+
+  record Result(Map<String, Histogram> byOperation, Histogram overall, long succeeded, long failed, Duration elapsed) {
+
+    double throughputPerSecond() {
+      return succeeded / (elapsed.toNanos() / 1_000_000_000.0);
+    }
+  }
+
+  private static final int SIGNIFICANT_DIGITS = 3;
+
+  private final List<WeightedOperation> operations;
+  private final double totalWeight;
+
+  OpenModelLoadGenerator(List<WeightedOperation> operations) {
+    this.operations = List.copyOf(operations);
+    this.totalWeight = operations.stream().mapToDouble(WeightedOperation::weight).sum();
+  }
+
+  Result run(double ratePerSecond, Duration duration) {
+    Map<String, Histogram> histograms = new LinkedHashMap<>();
+    operations.forEach(operation -> histograms.put(operation.name(), new ConcurrentHistogram(SIGNIFICANT_DIGITS)));
+    AtomicLong succeeded = new AtomicLong();
+    AtomicLong failed = new AtomicLong();
+
+    long intervalNanos = (long) (1_000_000_000L / ratePerSecond);
+    long start = System.nanoTime();
+    long end = start + duration.toNanos();
+    try (ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (long intended = start; intended < end; intended += intervalNanos) {
+        for (long wait = intended - System.nanoTime(); wait > 0; wait = intended - System.nanoTime()) {
+          LockSupport.parkNanos(wait);
+        }
+        WeightedOperation operation = pick();
+        Histogram histogram = histograms.get(operation.name());
+        long scheduledAt = intended;
+        requests.submit(() -> {
+          boolean ok;
+          try {
+            ok = operation.operation().execute();
+          } catch (Exception ex) {
+            ok = false;
+          }
+          histogram.recordValue(System.nanoTime() - scheduledAt);
+          (ok ? succeeded : failed).incrementAndGet();
+        });
+      }
+    }
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+    Histogram overall = new Histogram(SIGNIFICANT_DIGITS);
+    histograms.values().forEach(overall::add);
+    return new Result(histograms, overall, succeeded.get(), failed.get(), elapsed);
+  }
+
+  private WeightedOperation pick() {
+    double roll = ThreadLocalRandom.current().nextDouble(totalWeight);
+    for (WeightedOperation operation : operations) {
+      roll -= operation.weight();
+      if (roll < 0) {
+        return operation;
+      }
+    }
+    return operations.get(operations.size() - 1);
+  }
+}
@@ -0,0 +1,61 @@
+package com.bank.account.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.bank.account.dto.AccountResponse;
+import com.bank.account.dto.CreateAccountRequest;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpInputMessage;
+import org.springframework.mock.http.MockHttpOutputMessage;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.beanvalidation.SpringValidatorAdapter;
+
+class RequestStageMetricsTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final StageTimers stageTimers = new StageTimers(registry);
+
+  @Test
+  void validatorShouldDelegateAndRecordValidationStage() {
+    TimedValidator validator = new TimedValidator(
+        new SpringValidatorAdapter(Validation.buildDefaultValidatorFactory().getValidator()), stageTimers);
+    CreateAccountRequest request = new CreateAccountRequest(null, "", "USD", BigDecimal.ONE);
+    BeanPropertyBindingResult errors = new BeanPropertyBindingResult(request, "request");
+
+    validator.validate(request, errors);
+
+    assertThat(errors.hasErrors()).isTrue();
+    assertThat(registry.get("account.request.stage").tag("stage", "validation").timer().count()).isEqualTo(1);
+  }
+
+  @Test
+  void converterShouldRecordDeserializationAndSerializationStages() throws IOException {
+    TimedJacksonConverter converter = new TimedJacksonConverter(
+        new ObjectMapper().registerModule(new JavaTimeModule()), stageTimers);
+    MockHttpInputMessage input = new MockHttpInputMessage("""
+        {"customerId":"%s","accountNumber":"ACCSTAGE1","currency":"USD","openingBalance":1}
+        """.formatted(UUID.randomUUID()).getBytes(StandardCharsets.UTF_8));
+    input.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+
+    Object read = converter.read(CreateAccountRequest.class, null, input);
+    MockHttpOutputMessage output = new MockHttpOutputMessage();
+    OffsetDateTime now = OffsetDateTime.now();
+    converter.write(new AccountResponse(UUID.randomUUID(), UUID.randomUUID(), "ACCSTAGE1", "USD", BigDecimal.ONE,
+        "ACTIVE", now, now), AccountResponse.class, MediaType.APPLICATION_JSON, output);
+
+    assertThat(read).isInstanceOf(CreateAccountRequest.class);
+    assertThat(output.getBodyAsString()).contains("ACCSTAGE1");
+    assertThat(registry.get("account.request.stage").tag("stage", "deserialization").timer().count()).isEqualTo(1);
+    assertThat(registry.get("account.request.stage").tag("stage", "serialization").timer().count()).isEqualTo(1);
+  }
+}
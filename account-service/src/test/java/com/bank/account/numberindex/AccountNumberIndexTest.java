@@ -0,0 +1,185 @@
+package com.bank.account.numberindex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.bank.account.datasource.ReadRouting;
+import com.bank.account.repository.AccountNumberJdbcRepository;
+import com.bank.account.repository.AccountTableLayout;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class AccountNumberIndexTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  @Test
+  void filterShouldHaveNoFalseNegativesAndStayNearItsTargetRate() {
+    BloomFilter filter = BloomFilter.create(100_000, 0.01);
+    for (int i = 0; i < 100_000; i++) {
+      filter.put("ACC" + i);
+    }
+
+    for (int i = 0; i < 100_000; i++) {
+      assertThat(filter.mightContain("ACC" + i)).isTrue();
+    }
+    int falsePositives = 0;
+    for (int i = 100_000; i < 200_000; i++) {
+      if (filter.mightContain("ACC" + i)) {
+        falsePositives++;
+      }
+    }
+    assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+    assertThat(filter.expectedFalsePositiveProbability()).isBetween(0.005, 0.015);
+    assertThat(filter.hashFunctions()).isEqualTo(7);
+    assertThat(filter.sizeInBytes()).isLessThan(130_000);
+  }
+
+  @Test
+  void everyNumberMayExistUntilTheFirstBuild() {
+    AccountNumberIndex index = index();
+
+    assertThat(index.ready()).isFalse();
+    assertThat(index.mightExist("ACCIDX001")).isTrue();
+  }
+
+  @Test
+  void writesDuringARebuildShouldReachTheNewFilter() {
+    AccountNumberIndex index = index();
+    index.finishRebuild(index.startRebuild(10));
+    index.add("ACCIDX010");
+
+    BloomFilter rebuilt = index.startRebuild(10);
+    rebuilt.put("ACCIDX010");
+    index.add("ACCIDX011");
+    index.finishRebuild(rebuilt);
+
+    assertThat(index.mightExist("ACCIDX010")).isTrue();
+    assertThat(index.mightExist("ACCIDX011")).isTrue();
+    assertThat(index.mightExist("ACCIDX012")).isFalse();
+    assertThat(registry.get("account.number.index.checks").tag("result", "absent").counter().count()).isEqualTo(1);
+    assertThat(registry.get("account.number.index.memory").gauge().value()).isEqualTo(rebuilt.sizeInBytes());
+  }
+
+  @Test
+  void addsRacingTheSwapShouldAllReachTheSurvivingFilter() throws Exception {
+    AccountNumberIndex index = index();
+    index.finishRebuild(index.startRebuild(10));
+
+    for (int round = 0; round < 100; round++) {
+      BloomFilter rebuilt = index.startRebuild(10);
+      // Numbers the rebuild's scan did not see: only the adds can put them in the new filter.
+      List<String> numbers = new ArrayList<>();
+      CountDownLatch start = new CountDownLatch(1);
+      try (ExecutorService writers = Executors.newFixedThreadPool(4)) {
+        for (int writer = 0; writer < 4; writer++) {
+          List<String> own = new ArrayList<>();
+          for (int i = 0; i < 1_000; i++) {
+            own.add("ACCRACE%03d%d%04d".formatted(round, writer, i));
+          }
+          numbers.addAll(own);
+          writers.submit(() -> {
+            start.await();
+            own.forEach(index::add);
+            return null;
+          });
+        }
+        start.countDown();
+        index.finishRebuild(rebuilt);
+      }
+
+      for (String number : numbers) {
+        assertThat(index.mightExist(number)).as(number).isTrue();
+      }
+    }
+  }
+
+  @Test
+  void numbersFromOtherInstancesShouldReadAbsentUntilTheNextCatchUp() {
+    AccountNumberIndex index = index();
+    FakeChanges changes = new FakeChanges();
+    AccountNumberIndexSync sync = sync(index, changes.repository);
+    sync.rebuild();
+
+    // Committed by another instance after the rebuild: this instance has not been told.
+    changes.commit(changes.begin(), "ACCREMOTE1");
+    assertThat(index.mightExist("ACCREMOTE1")).isFalse();
+
+    sync.catchUp();
+
+    assertThat(index.mightExist("ACCREMOTE1")).isTrue();
+  }
+
+  @Test
+  void aLongTransactionShouldBeCaughtUpWhenItCommitsHoweverOldItsIds() {
+    AccountNumberIndex index = index();
+    FakeChanges changes = new FakeChanges();
+    AccountNumberIndexSync sync = sync(index, changes.repository);
+    long longImport = changes.begin();
+    sync.rebuild();
+
+    // Later, shorter transactions commit first; catch-up keeps re-reading from the oldest one still running.
+    changes.commit(changes.begin(), "ACCSHORT1");
+    sync.catchUp();
+    changes.commit(longImport, "ACCIMPORT1");
+    sync.catchUp();
+
+    assertThat(index.mightExist("ACCSHORT1")).isTrue();
+    assertThat(index.mightExist("ACCIMPORT1")).isTrue();
+  }
+
+  private AccountNumberIndexSync sync(AccountNumberIndex index, AccountNumberJdbcRepository repository) {
+    return new AccountNumberIndexSync(
+        repository, index, mock(AccountTableLayout.class), new ReadRouting(false),
+        mock(PlatformTransactionManager.class),
+        new AccountNumberIndexProperties(true, 1_000, 1.5, 0.01, 5_000, 60_000, 500));
+  }
+
+  /** Transactions by id, with the horizon and visibility rules the change position queries rely on. */
+  private static class FakeChanges {
+
+    private final AccountNumberJdbcRepository repository = mock(AccountNumberJdbcRepository.class);
+    private final TreeMap<Long, String> committed = new TreeMap<>();
+    private final TreeSet<Long> running = new TreeSet<>();
+    private long nextXid = 100;
+
+    FakeChanges() {
+      when(repository.changeHorizon()).thenAnswer(invocation -> running.isEmpty() ? nextXid : running.first());
+      doAnswer(invocation -> {
+        Consumer<String> consumer = invocation.getArgument(2);
+        committed.tailMap(invocation.getArgument(0, Long.class), true).values().forEach(consumer);
+        return null;
+      }).when(repository).streamChangedSince(anyLong(), anyInt(), any());
+    }
+
+    long begin() {
+      running.add(nextXid);
+      return nextXid++;
+    }
+
+    void commit(long xid, String number) {
+      running.remove(xid);
+      committed.put(xid, number);
+    }
+  }
+
+  private AccountNumberIndex index() {
+    return new AccountNumberIndex(
+        new AccountNumberIndexProperties(true, 1_000, 1.5, 0.01, 5_000, 60_000, 500),
+        registry);
+  }
+}
@@ -0,0 +1,75 @@
+package com.bank.account.outbox;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bank.account.entity.OutboxEvent;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.LongStream;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+
+class KafkaAccountEventPublisherTest {
+
+  private static final OutboxProperties PROPERTIES = new OutboxProperties(
+      "kafka", "account-events", Duration.ofSeconds(5), true, 1000, 20, 200, Duration.ofSeconds(10));
+
+  @SuppressWarnings("unchecked")
+  private final KafkaTemplate<String, String> kafkaTemplate = mock(KafkaTemplate.class);
+
+  @Test
+  void producerDefaultsShouldBeRejected() {
+    producerConfig(Map.of());
+
+    // max.block.ms defaults to 60s: send() alone could hold the relay lock past its transaction timeout.
+    assertThatThrownBy(() -> new KafkaAccountEventPublisher(kafkaTemplate, PROPERTIES))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("max.block.ms (60000)");
+  }
+
+  @Test
+  void producerTimeoutsWithinSendTimeoutShouldBeAccepted() {
+    producerConfig(Map.of("max.block.ms", "2000", "delivery.timeout.ms", "4000"));
+
+    new KafkaAccountEventPublisher(kafkaTemplate, PROPERTIES);
+  }
+
+  @Test
+  void publishShouldStopAtTheFirstRecordTheProducerCouldNotTake() {
+    producerConfig(Map.of("max.block.ms", "2000", "delivery.timeout.ms", "4000"));
+    when(kafkaTemplate.send(any(ProducerRecord.class)))
+        .thenReturn(CompletableFuture.failedFuture(new TimeoutException("Topic not present in metadata")));
+    KafkaAccountEventPublisher publisher = new KafkaAccountEventPublisher(kafkaTemplate, PROPERTIES);
+
+    assertThatThrownBy(() -> publisher.publish(LongStream.rangeClosed(1, 3).mapToObj(this::event).toList()))
+        .isInstanceOf(ExecutionException.class);
+    verify(kafkaTemplate, times(1)).send(any(ProducerRecord.class));
+  }
+
+  @SuppressWarnings("unchecked")
+  private void producerConfig(Map<String, Object> config) {
+    ProducerFactory<String, String> producerFactory = mock(ProducerFactory.class);
+    when(producerFactory.getConfigurationProperties()).thenReturn(config);
+    when(kafkaTemplate.getProducerFactory()).thenReturn(producerFactory);
+  }
+
+  private OutboxEvent event(long id) {
+    OutboxEvent event = new OutboxEvent();
+    event.setId(id);
+    event.setAggregateId(UUID.randomUUID());
+    event.setEventType("AccountCreated");
+    event.setPayload("{}");
+    return event;
+  }
+}
@@ -2,13 +2,18 @@ package com.bank.account.repository;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.bank.account.dto.AccountResponse;
 import com.bank.account.entity.Account;
 import java.math.BigDecimal;
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.UUID;
+import org.hibernate.engine.spi.SessionImplementor;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.context.TestPropertySource;
 
 @DataJpaTest
@@ -21,9 +26,13 @@ class AccountRepositoryTest {
   @Autowired
   private AccountRepository accountRepository;
 
+  @Autowired
+  private TestEntityManager entityManager;
+
   @Test
   void findByAccountNumberShouldReturnSavedAccount() {
     Account account = new Account();
+    account.setId(UUID.randomUUID());
     account.setCustomerId(UUID.randomUUID());
     account.setAccountNumber("ACCREPO001");
     account.setCurrency("USD");
@@ -43,4 +52,52 @@ class AccountRepositoryTest {
     var found = accountRepository.findByAccountNumber("ACCREPO404");
     assertThat(found).isEmpty();
   }
+
+  @Test
+  void keysetPagesShouldWalkCustomerAccountsInIdOrder() {
+    UUID customerId = UUID.randomUUID();
+    for (int i = 0; i < 5; i++) {
+      Account account = new Account();
+      account.setId(UUID.randomUUID());
+      account.setCustomerId(customerId);
+      account.setAccountNumber("ACCKEY00" + i);
+      account.setCurrency("USD");
+      account.setBalance(BigDecimal.TEN);
+      account.setStatus("ACTIVE");
+      account.setCreatedAt(OffsetDateTime.now());
+      account.setUpdatedAt(OffsetDateTime.now());
+      accountRepository.save(account);
+    }
+
+    List<Account> first = accountRepository.findByCustomerIdOrderByIdAsc(customerId, Limit.of(3));
+    List<Account> second = accountRepository.findByCustomerIdAndIdGreaterThanOrderByIdAsc(
+        customerId, first.get(first.size() - 1).getId(), Limit.of(3));
+
+    assertThat(first).hasSize(3);
+    assertThat(second).hasSize(2);
+    assertThat(second).extracting(Account::getId).doesNotContainAnyElementsOf(
+        first.stream().map(Account::getId).toList());
+  }
+
+  @Test
+  void findResponseByIdShouldProjectWithoutManagingEntity() {
+    Account account = new Account();
+    account.setId(UUID.randomUUID());
+    account.setCustomerId(UUID.randomUUID());
+    account.setAccountNumber("ACCPROJ01");
+    account.setCurrency("EUR");
+    account.setBalance(BigDecimal.valueOf(42.10));
+    account.setStatus("ACTIVE");
+    account.setCreatedAt(OffsetDateTime.now());
+    account.setUpdatedAt(OffsetDateTime.now());
+    accountRepository.saveAndFlush(account);
+    entityManager.clear();
+
+    var found = accountRepository.findResponseById(account.getId());
+
+    assertThat(found).map(AccountResponse::accountNumber).contains("ACCPROJ01");
+    assertThat(found.get().balance()).isEqualByComparingTo("42.10");
+    assertThat(entityManager.getEntityManager().unwrap(SessionImplementor.class)
+        .getPersistenceContext().getNumberOfManagedEntities()).isZero();
+  }
 }
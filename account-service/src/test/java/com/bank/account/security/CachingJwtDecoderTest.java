@@ -0,0 +1,103 @@
+package com.bank.account.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+
+class CachingJwtDecoderTest {
+
+  private static final KeyPair KEYS = rsaKeyPair();
+
+  private final AtomicInteger verifications = new AtomicInteger();
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private CachingJwtDecoder decoder;
+
+  @BeforeEach
+  void setUp() {
+    JwtDecoder nimbus = NimbusJwtDecoder.withPublicKey((RSAPublicKey) KEYS.getPublic()).build();
+    JwtDecoder counting = token -> {
+      verifications.incrementAndGet();
+      return nimbus.decode(token);
+    };
+    decoder = new CachingJwtDecoder(counting, 100, Duration.ofMinutes(5), registry);
+  }
+
+  @Test
+  void shouldVerifyEachTokenOnce() throws JOSEException {
+    String token = token("alice", Instant.now().plusSeconds(300));
+
+    assertThat(decoder.decode(token).getSubject()).isEqualTo("alice");
+    assertThat(decoder.decode(token).getSubject()).isEqualTo("alice");
+    decoder.decode(token("bob", Instant.now().plusSeconds(300)));
+
+    assertThat(verifications).hasValue(2);
+    assertThat(registry.get("cache.gets").tag("cache", "jwt").tag("result", "hit").functionCounter().count())
+        .isEqualTo(1.0);
+    assertThat(registry.get("security.jwt.verification").timer().count()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotCacheRejectedTokens() throws JOSEException {
+    String token = token("mallory", Instant.now().plusSeconds(300));
+    String tampered = token.substring(0, token.length() - 4) + "AAAA";
+
+    assertThrows(JwtException.class, () -> decoder.decode(tampered));
+    assertThrows(JwtException.class, () -> decoder.decode(tampered));
+    assertThat(verifications).hasValue(2);
+  }
+
+  @Test
+  void shouldStopServingTokenOnceItExpires() throws Exception {
+    String token = token("carol", Instant.now().plusMillis(500));
+
+    decoder.decode(token);
+    Thread.sleep(700);
+    // Still inside the validator's clock skew, so the delegate accepts it again; the point is that it is asked.
+    decoder.decode(token);
+
+    assertThat(verifications).hasValue(2);
+  }
+
+  private static String token(String subject, Instant expiresAt) throws JOSEException {
+    SignedJWT jwt = new SignedJWT(
+        new JWSHeader(JWSAlgorithm.RS256),
+        new JWTClaimsSet.Builder()
+            .subject(subject)
+            // JWT times are whole seconds: "now" could round to the same second as a near expiry, which is rejected.
+            .issueTime(Date.from(expiresAt.minusSeconds(60)))
+            .expirationTime(Date.from(expiresAt))
+            .build());
+    jwt.sign(new RSASSASigner(KEYS.getPrivate()));
+    return jwt.serialize();
+  }
+
+  private static KeyPair rsaKeyPair() {
+    try {
+      KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+      generator.initialize(2048);
+      return generator.generateKeyPair();
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+}
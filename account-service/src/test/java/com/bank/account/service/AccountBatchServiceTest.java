@@ -0,0 +1,183 @@
+package com.bank.account.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bank.account.dto.BatchCreateAccountsResponse;
+import com.bank.account.dto.BatchItemStatus;
+import com.bank.account.dto.CreateAccountRequest;
+import com.bank.account.entity.Account;
+import com.bank.account.numberindex.AccountNumberIndex;
+import com.bank.account.numberindex.AccountNumberIndexProperties;
+import com.bank.account.repository.AccountJdbcRepository;
+import com.bank.account.repository.AccountRepository;
+import com.bank.account.repository.AccountTableLayout;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+
+@ExtendWith(MockitoExtension.class)
+class AccountBatchServiceTest {
+
+  @Mock
+  private AccountRepository accountRepository;
+
+  @Mock
+  private AccountJdbcRepository accountJdbcRepository;
+
+  @Mock
+  private AccountOutbox accountOutbox;
+
+  @Mock
+  private CustomerSummaryService customerSummaryService;
+
+  @Mock
+  private AccountTableLayout accountTableLayout;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private final AccountNumberIndex accountNumberIndex = new AccountNumberIndex(
+      new AccountNumberIndexProperties(true, 1_000, 1.5, 0.01, 5_000, 60_000, 500),
+      new SimpleMeterRegistry());
+
+  private AccountBatchService accountBatchService;
+
+  @BeforeEach
+  void setUp() {
+    accountBatchService = new AccountBatchService(
+        accountRepository,
+        accountJdbcRepository,
+        new TimeOrderedAccountIdGenerator(),
+        Validation.buildDefaultValidatorFactory().getValidator(),
+        accountOutbox,
+        customerSummaryService,
+        accountTableLayout,
+        accountNumberIndex,
+        transactionManager,
+        3);
+  }
+
+  @Test
+  void createBatchShouldReportCreatedConflictAndInvalidItems() {
+    UUID customerId = UUID.randomUUID();
+    List<CreateAccountRequest> requests = List.of(
+        new CreateAccountRequest(customerId, "ACCBATCH001", "USD", BigDecimal.valueOf(10.00)),
+        new CreateAccountRequest(customerId, "ACCBATCH002", "usd", BigDecimal.valueOf(10.00)),
+        new CreateAccountRequest(customerId, "ACCBATCH003", "EUR", BigDecimal.valueOf(20.00)));
+
+    when(accountRepository.findExistingAccountNumbers(any())).thenReturn(Set.of("ACCBATCH003"));
+
+    BatchCreateAccountsResponse response = accountBatchService.createBatch(requests);
+
+    assertThat(response.created()).isEqualTo(1);
+    assertThat(response.conflicts()).isEqualTo(1);
+    assertThat(response.invalid()).isEqualTo(1);
+    assertThat(response.results()).extracting("status")
+        .containsExactly(BatchItemStatus.CREATED, BatchItemStatus.INVALID, BatchItemStatus.CONFLICT);
+    assertThat(response.results().get(0).id()).isNotNull();
+    assertThat(response.results().get(1).message()).contains("currency");
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<Account>> inserted = ArgumentCaptor.forClass(List.class);
+    verify(accountJdbcRepository).insertAll(inserted.capture());
+    assertThat(inserted.getValue()).extracting(Account::getAccountNumber).containsExactly("ACCBATCH001");
+    assertThat(inserted.getValue().get(0).getId()).isEqualTo(response.results().get(0).id());
+    verify(customerSummaryService).accountsCreated(inserted.getValue());
+    verify(accountOutbox).accountsCreated(inserted.getValue());
+  }
+
+  @Test
+  void createBatchShouldFlagDuplicatesWithinTheBatch() {
+    UUID customerId = UUID.randomUUID();
+    List<CreateAccountRequest> requests = Arrays.asList(
+        new CreateAccountRequest(customerId, "ACCBATCH010", "USD", BigDecimal.ONE),
+        new CreateAccountRequest(customerId, "ACCBATCH010", "USD", BigDecimal.ONE),
+        null);
+
+    when(accountRepository.findExistingAccountNumbers(any())).thenReturn(Set.of());
+
+    BatchCreateAccountsResponse response = accountBatchService.createBatch(requests);
+
+    assertThat(response.results()).extracting("status")
+        .containsExactly(BatchItemStatus.CREATED, BatchItemStatus.CONFLICT, BatchItemStatus.INVALID);
+  }
+
+  @Test
+  void createBatchShouldRecheckOnceWhenConcurrentInsertWins() {
+    UUID customerId = UUID.randomUUID();
+    List<CreateAccountRequest> requests = List.of(
+        new CreateAccountRequest(customerId, "ACCBATCH020", "USD", BigDecimal.ONE));
+
+    when(accountRepository.findExistingAccountNumbers(any()))
+        .thenReturn(Set.of())
+        .thenReturn(Set.of("ACCBATCH020"));
+    List<List<Account>> attempts = new ArrayList<>();
+    doAnswer(invocation -> {
+      attempts.add(invocation.getArgument(0));
+      throw new DuplicateKeyException("duplicate key value violates unique constraint");
+    }).when(accountJdbcRepository).insertAll(anyList());
+
+    BatchCreateAccountsResponse response = accountBatchService.createBatch(requests);
+
+    assertThat(attempts).hasSize(1);
+    assertThat(response.conflicts()).isEqualTo(1);
+    verify(accountRepository, times(2)).findExistingAccountNumbers(any());
+  }
+
+  @Test
+  void createBatchShouldOnlyProbeNumbersTheIndexMayHaveSeen() {
+    accountNumberIndex.finishRebuild(accountNumberIndex.startRebuild(0));
+    accountNumberIndex.add("ACCBATCH040");
+    UUID customerId = UUID.randomUUID();
+    List<CreateAccountRequest> requests = List.of(
+        new CreateAccountRequest(customerId, "ACCBATCH040", "USD", BigDecimal.ONE),
+        new CreateAccountRequest(customerId, "ACCBATCH041", "USD", BigDecimal.ONE));
+
+    when(accountRepository.findExistingAccountNumbers(Set.of("ACCBATCH040"))).thenReturn(Set.of("ACCBATCH040"));
+
+    BatchCreateAccountsResponse response = accountBatchService.createBatch(requests);
+
+    assertThat(response.results()).extracting("status")
+        .containsExactly(BatchItemStatus.CONFLICT, BatchItemStatus.CREATED);
+    verify(accountRepository).findExistingAccountNumbers(Set.of("ACCBATCH040"));
+    assertThat(accountNumberIndex.mightExist("ACCBATCH041")).isTrue();
+  }
+
+  @Test
+  void createBatchShouldRejectOversizedBatch() {
+    UUID customerId = UUID.randomUUID();
+    List<CreateAccountRequest> requests = List.of(
+        new CreateAccountRequest(customerId, "ACCBATCH031", "USD", BigDecimal.ONE),
+        new CreateAccountRequest(customerId, "ACCBATCH032", "USD", BigDecimal.ONE),
+        new CreateAccountRequest(customerId, "ACCBATCH033", "USD", BigDecimal.ONE),
+        new CreateAccountRequest(customerId, "ACCBATCH034", "USD", BigDecimal.ONE));
+
+    ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+        () -> accountBatchService.createBatch(requests));
+    assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    verify(accountJdbcRepository, never()).insertAll(anyList());
+  }
+}
@@ -0,0 +1,86 @@
+package com.bank.account.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.bank.account.dto.AccountChangesResponse;
+import com.bank.account.dto.AccountResponse;
+import com.bank.account.repository.AccountChangeJdbcRepository;
+import com.bank.account.repository.AccountChangeJdbcRepository.AccountChange;
+import com.bank.account.repository.AccountChangeJdbcRepository.ChangePosition;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+
+@ExtendWith(MockitoExtension.class)
+class AccountChangeServiceTest {
+
+  @Mock
+  private AccountChangeJdbcRepository accountChangeJdbcRepository;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private AccountChangeService accountChangeService;
+
+  @BeforeEach
+  void setUp() {
+    accountChangeService = new AccountChangeService(accountChangeJdbcRepository, transactionManager, 5000);
+  }
+
+  @Test
+  void pageShouldEndAtTheLastReturnedPosition() {
+    List<AccountChange> changes = List.of(change(740, 1), change(740, 2), change(741, 3));
+    when(accountChangeJdbcRepository.findAfter(ChangePosition.START, 3)).thenReturn(changes);
+
+    AccountChangesResponse page = accountChangeService.changes(null, 2);
+
+    assertThat(page.items()).extracting(AccountResponse::id)
+        .containsExactly(changes.get(0).account().id(), changes.get(1).account().id());
+    assertThat(page.hasMore()).isTrue();
+    assertThat(AccountChangeService.decode(page.nextCursor())).isEqualTo(changes.get(1).position());
+  }
+
+  @Test
+  void emptyPageShouldHandBackTheSameCursor() {
+    ChangePosition position = new ChangePosition(741, 3, UUID.randomUUID());
+    String cursor = AccountChangeService.encode(position);
+    when(accountChangeJdbcRepository.findAfter(position, 501)).thenReturn(List.of());
+
+    AccountChangesResponse page = accountChangeService.changes(cursor, 500);
+
+    assertThat(page.items()).isEmpty();
+    assertThat(page.hasMore()).isFalse();
+    assertThat(page.nextCursor()).isEqualTo(cursor);
+  }
+
+  @Test
+  void malformedCursorOrLimitShouldBeBadRequest() {
+    ResponseStatusException cursor = assertThrows(
+        ResponseStatusException.class, () -> accountChangeService.changes("not-a-cursor", 10));
+    ResponseStatusException limit = assertThrows(
+        ResponseStatusException.class, () -> accountChangeService.changes(null, 5001));
+
+    assertThat(cursor.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    assertThat(limit.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    verifyNoInteractions(accountChangeJdbcRepository);
+  }
+
+  private static AccountChange change(long xid, long seq) {
+    UUID id = UUID.randomUUID();
+    OffsetDateTime now = OffsetDateTime.now();
+    return new AccountChange(new ChangePosition(xid, seq, id),
+        new AccountResponse(id, UUID.randomUUID(), "ACCCH" + seq, "USD", BigDecimal.TEN, "ACTIVE", now, now));
+  }
+}
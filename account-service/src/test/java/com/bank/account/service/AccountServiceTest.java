@@ -3,15 +3,31 @@ package com.bank.account.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.bank.account.cache.NoOpAccountCache;
+import com.bank.account.datasource.ReadRouting;
+import com.bank.account.dto.AccountLookupResponse;
 import com.bank.account.dto.AccountResponse;
 import com.bank.account.dto.CreateAccountRequest;
 import com.bank.account.entity.Account;
+import com.bank.account.metrics.StageTimers;
+import com.bank.account.numberindex.AccountNumberIndex;
+import com.bank.account.numberindex.AccountNumberIndexProperties;
 import com.bank.account.repository.AccountRepository;
+import com.bank.account.repository.AccountTableLayout;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.Duration;
 import java.time.OffsetDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
@@ -19,6 +35,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.server.ResponseStatusException;
 
@@ -28,11 +45,29 @@ class AccountServiceTest {
   @Mock
   private AccountRepository accountRepository;
 
+  @Mock
+  private AccountOutbox accountOutbox;
+
+  @Mock
+  private CustomerSummaryService customerSummaryService;
+
+  @Mock
+  private AccountTableLayout accountTableLayout;
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+  private final AccountNumberIndex accountNumberIndex = new AccountNumberIndex(
+      new AccountNumberIndexProperties(true, 1_000, 1.5, 0.01, 5_000, 60_000, 500), registry);
+
   private AccountService accountService;
 
   @BeforeEach
   void setUp() {
-    accountService = new AccountService(accountRepository);
+    accountService = new AccountService(
+        accountRepository, new TimeOrderedAccountIdGenerator(), new NoOpAccountCache(), accountOutbox,
+        customerSummaryService, new ReadRouting(false), accountTableLayout,
+        new StageTimers(new SimpleMeterRegistry()), new SingleFlight<>("account", Duration.ofSeconds(2), registry),
+        accountNumberIndex);
   }
 
   @Test
@@ -41,10 +76,10 @@ class AccountServiceTest {
     CreateAccountRequest request = new CreateAccountRequest(
         customerId, "ACCUT001", "USD", BigDecimal.valueOf(1000.00));
 
-    when(accountRepository.findByAccountNumber("ACCUT001")).thenReturn(Optional.empty());
-    when(accountRepository.save(any(Account.class))).thenAnswer(invocation -> {
+    when(accountRepository.saveAndFlush(any(Account.class))).thenAnswer(invocation -> {
       Account toSave = invocation.getArgument(0, Account.class);
       Account saved = new Account();
+      saved.setId(toSave.getId());
       saved.setCustomerId(toSave.getCustomerId());
       saved.setAccountNumber(toSave.getAccountNumber());
       saved.setCurrency(toSave.getCurrency());
@@ -57,12 +92,17 @@ class AccountServiceTest {
 
     AccountResponse response = accountService.create(request);
 
+    assertThat(response.id()).isNotNull();
+    assertThat(response.id().version()).isEqualTo(7);
     assertThat(response.customerId()).isEqualTo(customerId);
     assertThat(response.accountNumber()).isEqualTo("ACCUT001");
     assertThat(response.currency()).isEqualTo("USD");
     assertThat(response.balance()).isEqualByComparingTo("1000.00");
     assertThat(response.status()).isEqualTo("ACTIVE");
-    verify(accountRepository).save(any(Account.class));
+    verify(accountRepository).saveAndFlush(any(Account.class));
+    verify(customerSummaryService).accountsCreated(anyList());
+    verify(accountOutbox).accountsCreated(anyList());
+    verify(accountRepository, never()).findByAccountNumber(anyString());
   }
 
   @Test
@@ -70,44 +110,128 @@ class AccountServiceTest {
     CreateAccountRequest request = new CreateAccountRequest(
         UUID.randomUUID(), "ACCUT002", "USD", BigDecimal.valueOf(10.00));
 
-    when(accountRepository.findByAccountNumber("ACCUT002")).thenReturn(Optional.of(new Account()));
+    when(accountRepository.saveAndFlush(any(Account.class))).thenThrow(new DataIntegrityViolationException(
+        "could not execute statement", new SQLException("duplicate key value violates unique constraint", "23505")));
 
     ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> accountService.create(request));
     assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
     assertThat(ex.getReason()).contains("already exists");
+    verify(customerSummaryService, never()).accountsCreated(anyList());
+    verify(accountOutbox, never()).accountsCreated(anyList());
+  }
+
+  @Test
+  void createShouldPropagateNonUniqueIntegrityViolations() {
+    CreateAccountRequest request = new CreateAccountRequest(
+        UUID.randomUUID(), "ACCUT004", "USD", BigDecimal.valueOf(10.00));
+    DataIntegrityViolationException violation = new DataIntegrityViolationException(
+        "could not execute statement", new SQLException("null value violates not-null constraint", "23502"));
+
+    when(accountRepository.saveAndFlush(any(Account.class))).thenThrow(violation);
+
+    DataIntegrityViolationException ex =
+        assertThrows(DataIntegrityViolationException.class, () -> accountService.create(request));
+    assertThat(ex).isSameAs(violation);
   }
 
   @Test
   void getShouldReturnNotFoundForMissingAccount() {
     UUID id = UUID.randomUUID();
-    when(accountRepository.findById(id)).thenReturn(Optional.empty());
+    when(accountRepository.findResponseById(id)).thenReturn(Optional.empty());
 
     ResponseStatusException ex = assertThrows(ResponseStatusException.class, () -> accountService.get(id));
     assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
   }
 
   @Test
-  void getShouldReturnAccountWhenPresent() throws Exception {
+  void getShouldReturnAccountWhenPresent() {
     UUID id = UUID.randomUUID();
-    UUID customerId = UUID.randomUUID();
     OffsetDateTime now = OffsetDateTime.now();
-    Account account = new Account();
-    java.lang.reflect.Field idField = Account.class.getDeclaredField("id");
-    idField.setAccessible(true);
-    idField.set(account, id);
-    account.setCustomerId(customerId);
-    account.setAccountNumber("ACCUT003");
-    account.setCurrency("USD");
-    account.setBalance(BigDecimal.valueOf(250.25));
-    account.setStatus("ACTIVE");
-    account.setCreatedAt(now);
-    account.setUpdatedAt(now);
-
-    when(accountRepository.findById(id)).thenReturn(Optional.of(account));
+    AccountResponse account = new AccountResponse(
+        id, UUID.randomUUID(), "ACCUT003", "USD", BigDecimal.valueOf(250.25), "ACTIVE", now, now);
+
+    when(accountRepository.findResponseById(id)).thenReturn(Optional.of(account));
 
     AccountResponse response = accountService.get(id);
     assertThat(response.id()).isEqualTo(id);
     assertThat(response.accountNumber()).isEqualTo("ACCUT003");
     assertThat(response.balance()).isEqualByComparingTo("250.25");
   }
+
+  @Test
+  void getShouldRetryOnPrimaryWhenReplicaHasNotCaughtUp() {
+    AccountService replicaAwareService = new AccountService(
+        accountRepository, new TimeOrderedAccountIdGenerator(), new NoOpAccountCache(), accountOutbox,
+        customerSummaryService, new ReadRouting(true), accountTableLayout,
+        new StageTimers(new SimpleMeterRegistry()), new SingleFlight<>("account", Duration.ofSeconds(2), registry),
+        accountNumberIndex);
+    UUID id = UUID.randomUUID();
+    AccountResponse account = account(id, "ACCUT004");
+    when(accountRepository.findResponseById(id)).thenReturn(Optional.empty(), Optional.of(account));
+
+    assertThat(replicaAwareService.get(id)).isEqualTo(account);
+    verify(accountRepository, times(2)).findResponseById(id);
+  }
+
+  @Test
+  void getByNumberShouldSkipTheQueryForNumbersTheIndexHasNeverSeen() {
+    accountNumberIndex.finishRebuild(accountNumberIndex.startRebuild(0));
+    AccountResponse account = account(UUID.randomUUID(), "ACCUT020");
+    accountNumberIndex.add("ACCUT020");
+    when(accountRepository.findResponseByAccountNumber("ACCUT020")).thenReturn(Optional.of(account));
+
+    assertThat(accountService.getByNumber("ACCUT020")).isEqualTo(account);
+    ResponseStatusException ex = assertThrows(
+        ResponseStatusException.class, () -> accountService.getByNumber("ACCUT021"));
+    assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    verify(accountRepository, never()).findResponseByAccountNumber("ACCUT021");
+  }
+
+  @Test
+  void getByNumberShouldAskThePrimaryWhenPinnedWhateverTheIndexSays() {
+    ReadRouting readRouting = new ReadRouting(true);
+    AccountService replicaAwareService = new AccountService(
+        accountRepository, new TimeOrderedAccountIdGenerator(), new NoOpAccountCache(), accountOutbox,
+        customerSummaryService, readRouting, accountTableLayout,
+        new StageTimers(new SimpleMeterRegistry()), new SingleFlight<>("account", Duration.ofSeconds(2), registry),
+        accountNumberIndex);
+    accountNumberIndex.finishRebuild(accountNumberIndex.startRebuild(0));
+    // Created on another instance since the last catch-up.
+    AccountResponse account = account(UUID.randomUUID(), "ACCUT023");
+    when(accountRepository.findResponseByAccountNumber("ACCUT023")).thenReturn(Optional.of(account));
+
+    assertThat(readRouting.onPrimary(() -> replicaAwareService.getByNumber("ACCUT023"))).isEqualTo(account);
+  }
+
+  @Test
+  void getByNumberShouldQueryWhileTheIndexIsNotBuilt() {
+    when(accountRepository.findResponseByAccountNumber("ACCUT022")).thenReturn(Optional.empty());
+
+    ResponseStatusException ex = assertThrows(
+        ResponseStatusException.class, () -> accountService.getByNumber("ACCUT022"));
+    assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    verify(accountRepository).findResponseByAccountNumber("ACCUT022");
+  }
+
+  @Test
+  void lookupShouldResolveFoundAndMissingInOneQuery() {
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    UUID missing = UUID.randomUUID();
+    AccountResponse firstAccount = account(first, "ACCUT010");
+    AccountResponse secondAccount = account(second, "ACCUT011");
+
+    when(accountRepository.findResponsesByIdIn(any())).thenReturn(List.of(secondAccount, firstAccount));
+
+    AccountLookupResponse response = accountService.lookup(List.of(first, missing, second, first));
+
+    assertThat(response.found()).extracting(AccountResponse::id).containsExactly(first, second);
+    assertThat(response.missing()).containsExactly(missing);
+    verify(accountRepository).findResponsesByIdIn(new LinkedHashSet<>(List.of(first, missing, second)));
+  }
+
+  private static AccountResponse account(UUID id, String accountNumber) {
+    OffsetDateTime now = OffsetDateTime.now();
+    return new AccountResponse(id, UUID.randomUUID(), accountNumber, "USD", BigDecimal.TEN, "ACTIVE", now, now);
+  }
 }
@@ -0,0 +1,94 @@
+package com.bank.account.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.bank.account.dto.AccountPageResponse;
+import com.bank.account.dto.AccountResponse;
+import com.bank.account.entity.Account;
+import com.bank.account.repository.AccountJdbcRepository;
+import com.bank.account.repository.AccountRepository;
+import java.math.BigDecimal;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerAccountServiceTest {
+
+  @Mock
+  private AccountRepository accountRepository;
+
+  @Mock
+  private AccountJdbcRepository accountJdbcRepository;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private CustomerAccountService customerAccountService;
+
+  private final UUID customerId = UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() {
+    customerAccountService = new CustomerAccountService(
+        accountRepository, accountJdbcRepository, transactionManager, 1000, 500);
+  }
+
+  @Test
+  void pageShouldReturnCursorWhenMoreRowsExist() {
+    List<Account> accounts = List.of(account("ACCPG001"), account("ACCPG002"), account("ACCPG003"));
+    when(accountRepository.findByCustomerIdOrderByIdAsc(customerId, Limit.of(3))).thenReturn(accounts);
+
+    AccountPageResponse page = customerAccountService.page(customerId, null, 2);
+
+    assertThat(page.items()).extracting(AccountResponse::accountNumber).containsExactly("ACCPG001", "ACCPG002");
+    assertThat(page.nextCursor()).isEqualTo(accounts.get(1).getId());
+  }
+
+  @Test
+  void pageShouldSeekPastCursorAndEndWithoutNextCursor() {
+    UUID after = UUID.randomUUID();
+    when(accountRepository.findByCustomerIdAndIdGreaterThanOrderByIdAsc(customerId, after, Limit.of(3)))
+        .thenReturn(List.of(account("ACCPG004")));
+
+    AccountPageResponse page = customerAccountService.page(customerId, after, 2);
+
+    assertThat(page.items()).hasSize(1);
+    assertThat(page.nextCursor()).isNull();
+  }
+
+  @Test
+  void pageShouldRejectLimitAboveMaximum() {
+    ResponseStatusException ex = assertThrows(ResponseStatusException.class,
+        () -> customerAccountService.page(customerId, null, 1001));
+
+    assertThat(ex.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    verifyNoInteractions(accountRepository);
+  }
+
+  private Account account(String accountNumber) {
+    OffsetDateTime now = OffsetDateTime.now();
+    Account account = new Account();
+    account.setId(UUID.randomUUID());
+    account.setCustomerId(customerId);
+    account.setAccountNumber(accountNumber);
+    account.setCurrency("USD");
+    account.setBalance(BigDecimal.TEN);
+    account.setStatus("ACTIVE");
+    account.setCreatedAt(now);
+    account.setUpdatedAt(now);
+    return account;
+  }
+}
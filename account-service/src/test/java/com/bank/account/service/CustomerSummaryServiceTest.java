@@ -0,0 +1,85 @@
+package com.bank.account.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bank.account.dto.CurrencySummaryResponse;
+import com.bank.account.dto.CustomerSummaryResponse;
+import com.bank.account.entity.Account;
+import com.bank.account.repository.CustomerSummaryJdbcRepository;
+import com.bank.account.repository.CustomerSummaryJdbcRepository.Delta;
+import com.bank.account.repository.CustomerSummaryJdbcRepository.Row;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CustomerSummaryServiceTest {
+
+  @Mock
+  private CustomerSummaryJdbcRepository customerSummaryJdbcRepository;
+
+  private CustomerSummaryService customerSummaryService;
+
+  @BeforeEach
+  void setUp() {
+    customerSummaryService = new CustomerSummaryService(customerSummaryJdbcRepository);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void accountsCreatedShouldApplyOneDeltaPerKeyInKeyOrder() {
+    UUID first = UUID.fromString("00000000-0000-7000-8000-000000000001");
+    UUID second = UUID.fromString("f0000000-0000-7000-8000-000000000001");
+
+    customerSummaryService.accountsCreated(List.of(
+        account(second, "USD", "5.00"),
+        account(first, "USD", "1.50"),
+        account(first, "EUR", "2.00"),
+        account(first, "USD", "3.25")));
+
+    ArgumentCaptor<List<Delta>> deltas = ArgumentCaptor.forClass(List.class);
+    verify(customerSummaryJdbcRepository).applyAll(deltas.capture(), any());
+    assertThat(deltas.getValue()).containsExactly(
+        new Delta(first, "EUR", "ACTIVE", 1, new BigDecimal("2.00")),
+        new Delta(first, "USD", "ACTIVE", 2, new BigDecimal("4.75")),
+        new Delta(second, "USD", "ACTIVE", 1, new BigDecimal("5.00")));
+  }
+
+  @Test
+  void summaryShouldRollStatusesUpPerCurrency() {
+    UUID customerId = UUID.randomUUID();
+    when(customerSummaryJdbcRepository.findByCustomerId(customerId)).thenReturn(List.of(
+        new Row("EUR", "ACTIVE", 1, new BigDecimal("10.0000")),
+        new Row("USD", "ACTIVE", 2, new BigDecimal("150.0000")),
+        new Row("USD", "FROZEN", 1, new BigDecimal("25.5000"))));
+
+    CustomerSummaryResponse summary = customerSummaryService.summary(customerId);
+
+    assertThat(summary.customerId()).isEqualTo(customerId);
+    assertThat(summary.currencies()).extracting(CurrencySummaryResponse::currency).containsExactly("EUR", "USD");
+    CurrencySummaryResponse usd = summary.currencies().get(1);
+    assertThat(usd.totalBalance()).isEqualByComparingTo("175.50");
+    assertThat(usd.accountCount()).isEqualTo(3);
+    assertThat(usd.accountsByStatus()).isEqualTo(Map.of("ACTIVE", 2L, "FROZEN", 1L));
+  }
+
+  private static Account account(UUID customerId, String currency, String balance) {
+    Account account = new Account();
+    account.setId(UUID.randomUUID());
+    account.setCustomerId(customerId);
+    account.setCurrency(currency);
+    account.setBalance(new BigDecimal(balance));
+    account.setStatus("ACTIVE");
+    return account;
+  }
+}
@@ -0,0 +1,140 @@
+package com.bank.account.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+class SingleFlightTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final SingleFlight<String, String> singleFlight =
+      new SingleFlight<>("test", Duration.ofSeconds(5), registry);
+
+  @Test
+  void concurrentCallersForOneKeyShouldShareOneLoad() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger loads = new AtomicInteger();
+    Function<String, String> loader = key -> {
+      loads.incrementAndGet();
+      await(release);
+      return key.toUpperCase();
+    };
+
+    List<Future<String>> results = new ArrayList<>();
+    try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < 20; i++) {
+        results.add(callers.submit(() -> singleFlight.execute("acc", loader)));
+      }
+      waitForCoalesced(19);
+      release.countDown();
+    }
+
+    for (Future<String> result : results) {
+      assertThat(result.get()).isEqualTo("ACC");
+    }
+    assertThat(loads).hasValue(1);
+    assertThat(count("leader")).isEqualTo(1);
+    assertThat(count("coalesced")).isEqualTo(19);
+    // Nothing is kept: the next call loads again.
+    assertThat(singleFlight.execute("acc", loader)).isEqualTo("ACC");
+    assertThat(loads).hasValue(2);
+  }
+
+  @Test
+  void waitersShouldGetTheLeadersException() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    Function<String, String> loader = key -> {
+      await(release);
+      throw new ResponseStatusException(HttpStatus.NOT_FOUND, "Account not found");
+    };
+
+    Future<String> leader;
+    Future<String> waiter;
+    try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+      leader = callers.submit(() -> singleFlight.execute("missing", loader));
+      waitForInFlight();
+      waiter = callers.submit(() -> singleFlight.execute("missing", loader));
+      waitForCoalesced(1);
+      release.countDown();
+    }
+
+    for (Future<String> result : List.of(leader, waiter)) {
+      Throwable cause = assertThrows(Exception.class, result::get).getCause();
+      assertThat(cause).isInstanceOf(ResponseStatusException.class);
+      assertThat(((ResponseStatusException) cause).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+  }
+
+  @Test
+  void waitersShouldGiveUpAfterMaxWait() throws Exception {
+    SingleFlight<String, String> impatient = new SingleFlight<>("impatient", Duration.ofMillis(50), registry);
+    CountDownLatch release = new CountDownLatch(1);
+
+    try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+      Future<String> leader = callers.submit(() -> impatient.execute("slow", key -> {
+        await(release);
+        return key;
+      }));
+      while (registry.get("singleflight.in-flight").tag("name", "impatient").gauge().value() < 1) {
+        Thread.onSpinWait();
+      }
+
+      assertThrows(DataAccessResourceFailureException.class, () -> impatient.execute("slow", key -> key));
+      release.countDown();
+      assertThat(leader.get()).isEqualTo("slow");
+    }
+    assertThat(registry.get("singleflight.requests").tags("name", "impatient", "result", "timed-out")
+        .counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void disabledShouldLoadOnEveryCall() {
+    SingleFlight<String, String> disabled = SingleFlight.disabled("off", registry);
+    AtomicInteger loads = new AtomicInteger();
+
+    disabled.execute("acc", key -> key + loads.incrementAndGet());
+    disabled.execute("acc", key -> key + loads.incrementAndGet());
+
+    assertThat(loads).hasValue(2);
+  }
+
+  private double count(String result) {
+    return registry.get("singleflight.requests").tags("name", "test", "result", result).counter().count();
+  }
+
+  private void waitForInFlight() {
+    while (registry.get("singleflight.in-flight").tag("name", "test").gauge().value() < 1) {
+      Thread.onSpinWait();
+    }
+  }
+
+  private void waitForCoalesced(int expected) {
+    while (count("coalesced") < expected) {
+      Thread.onSpinWait();
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(ex);
+    }
+  }
+}
@@ -0,0 +1,48 @@
+package com.bank.account.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedAccountIdGeneratorTest {
+
+  @Test
+  void nextIdShouldBeVersion7WithRfcVariantAndEmbeddedTimestamp() {
+    Instant instant = Instant.parse("2026-01-15T10:15:30.123Z");
+    TimeOrderedAccountIdGenerator generator =
+        new TimeOrderedAccountIdGenerator(Clock.fixed(instant, ZoneOffset.UTC));
+
+    UUID id = generator.nextId();
+
+    assertThat(id.version()).isEqualTo(7);
+    assertThat(id.variant()).isEqualTo(2);
+    assertThat(id.getMostSignificantBits() >>> 16).isEqualTo(instant.toEpochMilli());
+  }
+
+  @Test
+  void nextIdShouldIncreaseMonotonicallyWhenClockStands() {
+    TimeOrderedAccountIdGenerator generator =
+        new TimeOrderedAccountIdGenerator(Clock.fixed(Instant.now(), ZoneOffset.UTC));
+
+    UUID previous = generator.nextId();
+    for (int i = 0; i < 10_000; i++) {
+      UUID next = generator.nextId();
+      assertThat(compareUnsigned(next, previous)).isPositive();
+      previous = next;
+    }
+  }
+
+  @Test
+  void randomGeneratorShouldProduceVersion4() {
+    assertThat(new RandomAccountIdGenerator().nextId().version()).isEqualTo(4);
+  }
+
+  private static int compareUnsigned(UUID left, UUID right) {
+    int high = Long.compareUnsigned(left.getMostSignificantBits(), right.getMostSignificantBits());
+    return high != 0 ? high : Long.compareUnsigned(left.getLeastSignificantBits(), right.getLeastSignificantBits());
+  }
+}
@@ -0,0 +1,78 @@
+package com.bank.account.summary;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.bank.account.repository.CustomerSummaryJdbcRepository;
+import com.bank.account.repository.CustomerSummaryJdbcRepository.Key;
+import com.bank.account.summary.SummaryRebuildService.CustomerRange;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class SummaryRebuildServiceTest {
+
+  @Mock
+  private CustomerSummaryJdbcRepository customerSummaryJdbcRepository;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @Test
+  void rangesShouldCoverTheUuidSpaceWithoutGaps() {
+    List<CustomerRange> ranges = SummaryRebuildService.ranges(3);
+
+    assertThat(ranges).hasSize(3);
+    assertThat(ranges.get(0).from()).isEqualTo(UUID.fromString("00000000-0000-0000-0000-000000000000"));
+    assertThat(ranges.get(0).to()).isEqualTo(UUID.fromString("5554ffff-ffff-ffff-ffff-ffffffffffff"));
+    assertThat(ranges.get(1).from()).isEqualTo(UUID.fromString("55550000-0000-0000-0000-000000000000"));
+    assertThat(ranges.get(2).to()).isEqualTo(UUID.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff"));
+  }
+
+  @Test
+  void rebuildShouldRepairOnlyDriftedCustomers() {
+    UUID customerId = UUID.fromString("80000000-0000-7000-8000-000000000001");
+    SummaryRebuildService service = service(true);
+    when(customerSummaryJdbcRepository.findDrift(any(), any())).thenReturn(List.of());
+    when(customerSummaryJdbcRepository.findDrift(
+        UUID.fromString("80000000-0000-0000-0000-000000000000"),
+        UUID.fromString("ffffffff-ffff-ffff-ffff-ffffffffffff")))
+        .thenReturn(List.of(new Key(customerId, "USD", "ACTIVE"), new Key(customerId, "EUR", "ACTIVE")));
+
+    SummaryRebuildResult result = service.rebuild();
+
+    assertThat(result.chunks()).isEqualTo(2);
+    assertThat(result.failedChunks()).isZero();
+    assertThat(result.driftedKeys()).isEqualTo(2);
+    assertThat(result.repairedCustomers()).isEqualTo(1);
+    verify(customerSummaryJdbcRepository).rebuild(eq(List.of(customerId)), any());
+  }
+
+  @Test
+  void checkOnlyRunShouldReportDriftWithoutRepairing() {
+    SummaryRebuildService service = service(false);
+    when(customerSummaryJdbcRepository.findDrift(any(), any()))
+        .thenReturn(List.of(new Key(UUID.randomUUID(), "USD", "ACTIVE")));
+
+    SummaryRebuildResult result = service.rebuild();
+
+    assertThat(result.driftedKeys()).isEqualTo(2);
+    assertThat(result.repairedCustomers()).isZero();
+    verify(customerSummaryJdbcRepository, never()).rebuild(any(), any());
+  }
+
+  private SummaryRebuildService service(boolean repair) {
+    return new SummaryRebuildService(customerSummaryJdbcRepository, transactionManager,
+        new SummaryRebuildProperties(true, "0 0 3 * * *", repair, 2, 2), new SimpleMeterRegistry());
+  }
+}
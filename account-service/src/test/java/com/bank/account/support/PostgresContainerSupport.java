@@ -0,0 +1,44 @@
+package com.bank.account.support;
+
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Postgres for the Spring Boot tests that need a real database, with the in-memory stand-ins for everything else.
+ * Test-specific settings go in {@code @TestPropertySource}, or in a {@code @DynamicPropertySource} method of the
+ * subclass's own.
+ *
+ * <p>The container is started and stopped around each test class, so the context is closed with it rather than cached
+ * with a URL that no longer answers.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DirtiesContext
+public abstract class PostgresContainerSupport {
+
+  @Container
+  protected static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16")
+      .withDatabaseName("accounts_db")
+      .withUsername("bank_admin")
+      .withPassword("bank_admin_pass");
+
+  @DynamicPropertySource
+  static void postgresProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", postgres::getJdbcUrl);
+    registry.add("spring.datasource.username", postgres::getUsername);
+    registry.add("spring.datasource.password", postgres::getPassword);
+    applicationProperties(registry);
+  }
+
+  /** For tests that bring their own database: everything but the datasource. */
+  public static void applicationProperties(DynamicPropertyRegistry registry) {
+    registry.add("app.security.enabled", () -> "false");
+    registry.add("management.tracing.enabled", () -> "false");
+    registry.add("app.cache.accounts.l2", () -> "memory");
+    registry.add("app.idempotency.store", () -> "memory");
+    registry.add("app.outbox.publisher", () -> "memory");
+  }
+}
@@ -0,0 +1,113 @@
+package com.bank.account.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import brave.Span;
+import brave.Tracer;
+import brave.Tracing;
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.SamplingFlags;
+import brave.propagation.TraceContext;
+import brave.propagation.TraceContextOrSamplingFlags;
+import brave.sampler.Sampler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TailKeepSpanHandlerTest {
+
+  private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+  private final List<MutableSpan> reported = new CopyOnWriteArrayList<>();
+  private Tracing tracing;
+  private Tracer tracer;
+
+  @BeforeEach
+  void setUp() {
+    // Stands in for the Zipkin handler, which only reports sampled spans.
+    SpanHandler reporter = new SpanHandler() {
+      @Override
+      public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+        if (Boolean.TRUE.equals(context.sampled())) {
+          reported.add(span);
+        }
+        return true;
+      }
+    };
+    TracingSamplingProperties properties = new TracingSamplingProperties(
+        true, 10, true, Duration.ofMillis(500), 100, 2);
+    CountingSampler sampler = new CountingSampler(Sampler.NEVER_SAMPLE, 100, registry);
+    tracing = Tracing.newBuilder()
+        .sampler(sampler)
+        .alwaysSampleLocal()
+        .addSpanHandler(new TailKeepSpanHandler(() -> List.of(reporter), sampler, properties, registry))
+        .addSpanHandler(reporter)
+        .build();
+    tracer = tracing.tracer();
+  }
+
+  @AfterEach
+  void tearDown() {
+    tracing.close();
+  }
+
+  @Test
+  void fastUnsampledTraceShouldBeDiscarded() {
+    Span root = tracer.newTrace().name("get").start();
+    tracer.newChild(root.context()).name("query").start().finish();
+    root.finish();
+
+    assertThat(reported).isEmpty();
+    assertThat(registry.get("tracing.tail.discarded").counter().count()).isEqualTo(1);
+    assertThat(registry.get("tracing.sampler.decisions").tag("decision", "dropped").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void failedTraceShouldBeKeptWithItsChildren() {
+    Span root = tracer.newTrace().name("create").start();
+    tracer.newChild(root.context()).name("insert").start().finish();
+    root.error(new IllegalStateException("boom")).finish();
+
+    assertThat(reported).extracting(MutableSpan::name).containsExactly("insert", "create");
+    assertThat(registry.get("tracing.tail.kept").tag("reason", "error").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void slowTraceShouldBeKeptUpToTheSpanCap() {
+    long start = System.currentTimeMillis() * 1_000;
+    Span root = tracer.newTrace().name("lookup").start(start);
+    for (int i = 0; i < 3; i++) {
+      tracer.newChild(root.context()).name("query" + i).start().finish();
+    }
+    root.finish(start + 600_000);
+
+    assertThat(reported).extracting(MutableSpan::name).containsExactly("query0", "query1", "lookup");
+    assertThat(registry.get("tracing.tail.kept").tag("reason", "slow").counter().count()).isEqualTo(1);
+    assertThat(registry.get("tracing.tail.overflow").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  void upstreamSampledDecisionShouldBeHonoured() {
+    Span root = tracer.nextSpan(TraceContextOrSamplingFlags.create(SamplingFlags.SAMPLED)).name("get").start();
+    root.finish();
+
+    assertThat(reported).extracting(MutableSpan::name).containsExactly("get");
+    assertThat(registry.find("tracing.sampler.decisions").counters())
+        .allSatisfy(counter -> assertThat(counter.count()).isZero());
+  }
+
+  @Test
+  void upstreamUnsampledDecisionShouldBeHonouredEvenWhenTheRootFails() {
+    Span root = tracer.nextSpan(TraceContextOrSamplingFlags.create(SamplingFlags.NOT_SAMPLED)).name("create").start();
+    tracer.newChild(root.context()).name("insert").start().finish();
+    root.error(new IllegalStateException("boom")).finish();
+
+    assertThat(reported).isEmpty();
+    assertThat(registry.find("tracing.tail.kept").counters())
+        .allSatisfy(counter -> assertThat(counter.count()).isZero());
+  }
+}
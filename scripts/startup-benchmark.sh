@@ -0,0 +1,72 @@
+#!/usr/bin/env bash
+# Compares the default image with the AOT + CDS image (Dockerfile target fast-startup):
+# time-to-ready (container start until /actuator/health/readiness is 200) and first-request latency.
+# Needs the compose stack up (make up). Usage: scripts/startup-benchmark.sh [runs] [--no-build]
+set -euo pipefail
+
+PROJECT_ROOT="$(cd "$(dirname "${BASH_SOURCE[0]}")/.." && pwd)"
+RUNS="${1:-5}"
+BUILD="${2:-}"
+NETWORK="${NETWORK:-banking-platform_default}"
+PORT="${PORT:-18080}"
+DEFAULT_IMAGE="${DEFAULT_IMAGE:-local/account-service:latest}"
+FAST_IMAGE="${FAST_IMAGE:-local/account-service:fast-startup}"
+CPUS="${CPUS:-0.5}"
+MEMORY="${MEMORY:-768m}"
+CONTAINER="account-startup-bench"
+
+if [ "${BUILD}" != "--no-build" ]; then
+  docker build -t "${DEFAULT_IMAGE}" "${PROJECT_ROOT}/account-service"
+  docker build --target fast-startup -t "${FAST_IMAGE}" "${PROJECT_ROOT}/account-service"
+fi
+
+now_ms() {
+  date +%s%3N
+}
+
+median() {
+  sort -n | awk '{ v[NR] = $1 } END { if (NR % 2) print v[(NR + 1) / 2]; else print int((v[NR / 2] + v[NR / 2 + 1]) / 2) }'
+}
+
+run_once() {
+  local image="$1"
+  docker rm -f "${CONTAINER}" >/dev/null 2>&1 || true
+  local start
+  start="$(now_ms)"
+  # Same CPU and memory limits as the Helm chart, so the numbers match a scaled-out pod.
+  docker run -d --name "${CONTAINER}" --network "${NETWORK}" -p "${PORT}:8080" \
+    --cpus "${CPUS}" --memory "${MEMORY}" \
+    -e SPRING_DATASOURCE_URL=jdbc:postgresql://postgres:5432/accounts_db \
+    -e SPRING_DATA_REDIS_HOST=redis \
+    -e SPRING_KAFKA_BOOTSTRAP_SERVERS=kafka:9092 \
+    -e MANAGEMENT_ZIPKIN_TRACING_ENDPOINT=http://zipkin:9411/api/v2/spans \
+    "${image}" >/dev/null
+  until [ "$(curl -s -o /dev/null -w '%{http_code}' "http://localhost:${PORT}/actuator/health/readiness")" = "200" ]; do
+    if [ $(( $(now_ms) - start )) -gt 120000 ]; then
+      docker logs "${CONTAINER}" | tail -50 >&2
+      echo "Timed out waiting for ${image}" >&2
+      exit 1
+    fi
+    sleep 0.05
+  done
+  local ready=$(( $(now_ms) - start ))
+  local first
+  first="$(curl -s -o /dev/null -w '%{time_total}' \
+    "http://localhost:${PORT}/api/accounts/00000000-0000-7000-8000-000000000000" | awk '{ printf "%d", $1 * 1000 }')"
+  docker rm -f "${CONTAINER}" >/dev/null
+  echo "${ready} ${first}"
+}
+
+report() {
+  local label="$1" image="$2" ready=() first=()
+  for _ in $(seq "${RUNS}"); do
+    read -r r f < <(run_once "${image}")
+    ready+=("${r}")
+    first+=("${f}")
+  done
+  printf '%-14s time-to-ready p50 %6s ms   first request p50 %5s ms   (runs: %s)\n' "${label}" \
+    "$(printf '%s\n' "${ready[@]}" | median)" "$(printf '%s\n' "${first[@]}" | median)" "${RUNS}"
+}
+
+report "fat jar" "${DEFAULT_IMAGE}"
+report "aot + cds" "${FAST_IMAGE}"